@@ -0,0 +1,246 @@
+package gregtech.test;
+
+import static gregtech.api.enums.GTValues.RA;
+import static gregtech.api.enums.ItemList.IC2_LapotronCrystal;
+import static gregtech.api.enums.OrePrefixes.circuit;
+import static gregtech.api.util.GTOreDictUnificator.get;
+import static net.minecraft.init.Blocks.chest;
+import static net.minecraft.init.Blocks.lapis_block;
+import static net.minecraft.init.Blocks.log;
+import static net.minecraft.init.Blocks.planks;
+import static net.minecraft.init.Blocks.stone;
+import static net.minecraft.init.Items.glass_bottle;
+import static net.minecraft.init.Items.stick;
+import static net.minecraftforge.oredict.OreDictionary.WILDCARD_VALUE;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidRegistry;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.enums.ItemList;
+import gregtech.api.enums.Materials;
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBuilder;
+import gregtech.api.util.GTRecipe;
+import gregtech.api.util.GTRecipeBuilder;
+
+/**
+ * Checks that a recipemap using {@link RecipeMapBuilder#compiledLookup} finds the same recipes, in the same order, as
+ * one using the plain item and fluid index.
+ */
+class CompiledRecipeIndexTest {
+
+    static RecipeMap<?> plainMap;
+    static RecipeMap<?> compiledMap;
+
+    @BeforeAll
+    static void setup() {
+        plainMap = RecipeMapBuilder.of("__test_plain_lookup__")
+            .maxIO(9, 1, 2, 0)
+            .build();
+        compiledMap = RecipeMapBuilder.of("__test_compiled_lookup__")
+            .maxIO(9, 1, 2, 0)
+            .compiledLookup()
+            .build();
+
+        addToBoth(
+            RA.stdBuilder()
+                .itemInputs(new ItemStack(log, 2, WILDCARD_VALUE), new ItemStack(planks, 2, WILDCARD_VALUE))
+                .itemOutputs(new ItemStack(chest, 1)));
+        addToBoth(
+            RA.stdBuilder()
+                .itemInputs(new ItemStack(log, 1, 0), new ItemStack(stick, 1))
+                .itemOutputs(new ItemStack(planks, 4, 0)));
+        addToBoth(
+            RA.stdBuilder()
+                .itemInputs(new ItemStack(lapis_block, 1), get(circuit, Materials.HV, 1))
+                .itemOutputs(IC2_LapotronCrystal.get(1)));
+        GTRecipeBuilder withAlt = RA.stdBuilder()
+            .itemInputs(
+                (Object) new ItemStack[] { new ItemStack(planks, 1, 1), new ItemStack(planks, 1, 2) },
+                new ItemStack(stick, 2))
+            .itemOutputs(new ItemStack(stone, 1))
+            .duration(0)
+            .eut(0);
+        plainMap.add(
+            withAlt.copy()
+                .buildWithAlt()
+                .get());
+        compiledMap.add(
+            withAlt.buildWithAlt()
+                .get());
+
+        ItemStack dataStick = ItemList.Tool_DataStick.get(0);
+        dataStick.setTagCompound(integerTag());
+        addToBoth(
+            RA.stdBuilder()
+                .itemInputs(dataStick)
+                .itemOutputs(new ItemStack(chest, 2)));
+
+        ItemStack glass = new ItemStack(glass_bottle, 2);
+        glass.setTagCompound(integerTag());
+        addToBoth(
+            RA.stdBuilder()
+                .itemInputs(glass)
+                .itemOutputs(new ItemStack(chest, 3))
+                .nbtSensitive());
+
+        addToBoth(
+            RA.stdBuilder()
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 1000))
+                .itemOutputs(new ItemStack(stone, 2)));
+        addToBoth(
+            RA.stdBuilder()
+                .fluidInputs(new FluidStack(FluidRegistry.WATER, 1000), new FluidStack(FluidRegistry.LAVA, 1000))
+                .itemOutputs(new ItemStack(stone, 3)));
+        addToBoth(
+            RA.stdBuilder()
+                .itemInputs(new ItemStack(stick, 1))
+                .fluidInputs(new FluidStack(FluidRegistry.LAVA, 100))
+                .itemOutputs(new ItemStack(stone, 4)));
+    }
+
+    private static void addToBoth(GTRecipeBuilder builder) {
+        // Some of the recipes are meant to match the same inputs
+        builder.duration(0)
+            .eut(0)
+            .ignoreCollision();
+        builder.copy()
+            .addTo(plainMap);
+        builder.addTo(compiledMap);
+    }
+
+    private static NBTTagCompound integerTag() {
+        NBTTagCompound tag = new NBTTagCompound();
+        tag.setInteger("integer", 123456);
+        return tag;
+    }
+
+    /**
+     * @return Positions of all the recipes found with the supplied inputs in the recipe list of the map
+     */
+    private static List<Integer> findAll(RecipeMap<?> map, ItemStack[] items, FluidStack[] fluids) {
+        List<GTRecipe> allRecipes = new ArrayList<>(map.getAllRecipes());
+        return map.findRecipeQuery()
+            .items(items)
+            .fluids(fluids)
+            .findAll()
+            .map(recipe -> {
+                for (int i = 0; i < allRecipes.size(); i++) {
+                    if (allRecipes.get(i) == recipe) return i;
+                }
+                return -1;
+            })
+            .collect(Collectors.toList());
+    }
+
+    private static List<Integer> assertSameRecipes(ItemStack[] items, FluidStack... fluids) {
+        List<Integer> expected = findAll(plainMap, items, fluids);
+        assertEquals(expected, findAll(compiledMap, items, fluids));
+        return expected;
+    }
+
+    private static List<Integer> assertSameRecipes(ItemStack... items) {
+        return assertSameRecipes(items, new FluidStack[0]);
+    }
+
+    @Test
+    void ensureRecipesAdded() {
+        assertEquals(
+            plainMap.getAllRecipes()
+                .size(),
+            compiledMap.getAllRecipes()
+                .size());
+    }
+
+    @Test
+    void sameWithExactInputs() {
+        assertFalse(assertSameRecipes(new ItemStack(lapis_block, 1), get(circuit, Materials.HV, 1)).isEmpty());
+        assertFalse(assertSameRecipes(new ItemStack(log, 1, 0), new ItemStack(stick, 1)).isEmpty());
+    }
+
+    @Test
+    void sameWithMissingInputs() {
+        assertEquals(0, assertSameRecipes(new ItemStack(lapis_block, 1)).size());
+        assertEquals(0, assertSameRecipes(new ItemStack(log, 2, 0)).size());
+        assertEquals(0, assertSameRecipes(new ItemStack(stick, 64)).size());
+    }
+
+    @Test
+    void sameWithWildcardDamage() {
+        // Recipe inputs with wildcard damage match any meta
+        assertFalse(assertSameRecipes(new ItemStack(log, 2, 1), new ItemStack(planks, 2, 3)).isEmpty());
+        // Both the wildcard and the exact recipe match
+        assertEquals(
+            2,
+            assertSameRecipes(new ItemStack(log, 2, 0), new ItemStack(planks, 2, 0), new ItemStack(stick, 1)).size());
+        // Supplied inputs with wildcard damage
+        assertSameRecipes(new ItemStack(log, 2, WILDCARD_VALUE), new ItemStack(planks, 2, WILDCARD_VALUE));
+        assertSameRecipes(new ItemStack(log, 1, WILDCARD_VALUE), new ItemStack(stick, 1));
+    }
+
+    @Test
+    void sameWithOreDictAlternatives() {
+        assertFalse(assertSameRecipes(new ItemStack(planks, 1, 1), new ItemStack(stick, 2)).isEmpty());
+        assertFalse(assertSameRecipes(new ItemStack(planks, 1, 2), new ItemStack(stick, 2)).isEmpty());
+        assertSameRecipes(new ItemStack(planks, 1, 3), new ItemStack(stick, 2));
+    }
+
+    @Test
+    void sameWithNBT() {
+        // NBT is ignored unless the recipe is NBT sensitive or the item checks it
+        ItemStack lapisBlock = new ItemStack(lapis_block, 1);
+        lapisBlock.setTagCompound(integerTag());
+        assertFalse(assertSameRecipes(lapisBlock, get(circuit, Materials.HV, 1)).isEmpty());
+
+        ItemStack glass = new ItemStack(glass_bottle, 2);
+        glass.setTagCompound(integerTag());
+        assertFalse(assertSameRecipes(glass).isEmpty());
+        assertEquals(0, assertSameRecipes(new ItemStack(glass_bottle, 2)).size());
+
+        ItemStack dataStick = ItemList.Tool_DataStick.get(0);
+        dataStick.setTagCompound(integerTag());
+        assertFalse(assertSameRecipes(dataStick).isEmpty());
+        assertEquals(0, assertSameRecipes(ItemList.Tool_DataStick.get(0)).size());
+    }
+
+    @Test
+    void sameWithFluidOnlyInputs() {
+        assertEquals(1, assertSameRecipes(new ItemStack[0], new FluidStack(FluidRegistry.WATER, 1000)).size());
+        assertEquals(
+            2,
+            assertSameRecipes(
+                new ItemStack[0],
+                new FluidStack(FluidRegistry.WATER, 1000),
+                new FluidStack(FluidRegistry.LAVA, 1000)).size());
+        assertEquals(0, assertSameRecipes(new ItemStack[0], new FluidStack(FluidRegistry.LAVA, 1000)).size());
+        // Fluid-only recipes are also found when items are supplied
+        assertEquals(
+            1,
+            assertSameRecipes(
+                new ItemStack[] { new ItemStack(lapis_block, 1) },
+                new FluidStack(FluidRegistry.WATER, 1000)).size());
+    }
+
+    @Test
+    void sameWithItemsAndFluids() {
+        assertFalse(
+            assertSameRecipes(new ItemStack[] { new ItemStack(stick, 1) }, new FluidStack(FluidRegistry.LAVA, 100))
+                .isEmpty());
+        assertEquals(0, assertSameRecipes(new ItemStack[] { new ItemStack(stick, 1) }).size());
+        assertEquals(
+            0,
+            assertSameRecipes(new ItemStack[] { new ItemStack(stick, 1) }, new FluidStack(FluidRegistry.LAVA, 99))
+                .size());
+    }
+}
@@ -0,0 +1,128 @@
+package gregtech.test;
+
+import static gregtech.api.enums.GTValues.RA;
+import static net.minecraft.init.Blocks.chest;
+import static net.minecraft.init.Blocks.log;
+import static net.minecraft.init.Blocks.planks;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.fluids.FluidStack;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import gregtech.api.recipe.RecipeMap;
+import gregtech.api.recipe.RecipeMapBackend;
+import gregtech.api.recipe.RecipeMapBackendPropertiesBuilder;
+import gregtech.api.recipe.RecipeMapBuilder;
+import gregtech.api.util.GTRecipe;
+
+/**
+ * Checks which item stacks backends get to see when searching recipes. Inputs that still have to be unificated are
+ * copied, so that backends writing to them (like the forming press does with credit molds) don't change the stacks
+ * of the caller.
+ */
+class RecipeInputCopyTest {
+
+    static RecipeMap<ModifyingBackend> recipeMap;
+
+    @BeforeAll
+    static void setup() {
+        recipeMap = RecipeMapBuilder.of("__test_input_copy__", ModifyingBackend::new)
+            .maxIO(2, 1, 0, 0)
+            .build();
+
+        RA.stdBuilder()
+            .itemInputs(new ItemStack(log, 1, 0), new ItemStack(planks, 1, 0))
+            .itemOutputs(new ItemStack(chest, 1))
+            .duration(0)
+            .eut(0)
+            .addTo(recipeMap);
+    }
+
+    @BeforeEach
+    void reset() {
+        recipeMap.getBackend().seenItems = null;
+    }
+
+    @Test
+    void notUnificated_backendGetsCopies() {
+        ItemStack[] items = { new ItemStack(log, 1, 0), new ItemStack(planks, 1, 0) };
+        GTRecipe recipe = recipeMap.findRecipeQuery()
+            .items(items)
+            .notUnificated(true)
+            .find();
+        assertNotNull(recipe);
+
+        ItemStack[] seenItems = recipeMap.getBackend().seenItems;
+        assertNotNull(seenItems);
+        assertNotSame(items, seenItems);
+        for (int i = 0; i < items.length; i++) {
+            assertNotSame(items[i], seenItems[i]);
+        }
+        // What the backend wrote didn't end up in the stacks of the caller
+        assertNull(items[0].getTagCompound());
+        assertEquals(1, items[0].stackSize);
+    }
+
+    @Test
+    void notUnificated_copiesOnEverySearch() {
+        ItemStack[] items = { new ItemStack(log, 1, 0), new ItemStack(planks, 1, 0) };
+        recipeMap.findRecipeQuery()
+            .items(items)
+            .notUnificated(true)
+            .find();
+        ItemStack[] firstSeen = recipeMap.getBackend().seenItems;
+        recipeMap.findRecipeQuery()
+            .items(items)
+            .notUnificated(true)
+            .find();
+
+        assertNotSame(firstSeen, recipeMap.getBackend().seenItems);
+        assertNull(items[0].getTagCompound());
+    }
+
+    @Test
+    void alreadyUnificated_backendGetsCallerStacks() {
+        ItemStack[] items = { new ItemStack(log, 1, 0), new ItemStack(planks, 1, 0) };
+        GTRecipe recipe = recipeMap.findRecipeQuery()
+            .items(items)
+            .find();
+        assertNotNull(recipe);
+
+        assertSame(items, recipeMap.getBackend().seenItems);
+        assertNotNull(items[0].getTagCompound());
+    }
+
+    /**
+     * Writes to the first input stack whenever a recipe is found, and keeps the inputs it has been given.
+     */
+    static class ModifyingBackend extends RecipeMapBackend {
+
+        @Nullable
+        ItemStack[] seenItems;
+
+        ModifyingBackend(RecipeMapBackendPropertiesBuilder propertiesBuilder) {
+            super(propertiesBuilder);
+        }
+
+        @Override
+        protected GTRecipe modifyFoundRecipe(GTRecipe recipe, ItemStack[] items, FluidStack[] fluids,
+            @Nullable ItemStack specialSlot) {
+            seenItems = items;
+            NBTTagCompound tag = new NBTTagCompound();
+            tag.setBoolean("seen", true);
+            items[0].setTagCompound(tag);
+            return recipe;
+        }
+    }
+}
@@ -58,6 +58,7 @@ import gregtech.api.enums.GTValues;
 import gregtech.api.gui.modularui.GTUITextures;
 import gregtech.api.interfaces.IIconContainer;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
@@ -66,7 +67,7 @@ import gregtech.api.recipe.check.CheckRecipeResultRegistry;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
 
-public class MTELESU extends MTEMultiBlockBase {
+public class MTELESU extends MTEMultiBlockBase implements ICustomRecipeInputs {
 
     private static final byte TEXID_SIDE = 0;
     private static final byte TEXID_CHARGING = 1;
@@ -203,6 +203,12 @@ public class MTELinkedInputBus extends MTEHatchInputBus implements IRecipeProces
         return false;
     }
 
+    @Override
+    public long getInputModificationCount() {
+        // contents are shared with every bus on the same channel, so any of them might have changed it
+        return getBaseMetaTileEntity().getTimer();
+    }
+
     @Override
     public int getSizeInventory() {
         if (mState != State.Blocked && mChannel != null && mRealInventory != null) return SIZE_INVENTORY + 1;
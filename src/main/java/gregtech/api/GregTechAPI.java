@@ -46,6 +46,7 @@ import gregtech.api.util.GTUtility;
 import gregtech.api.world.GTWorldgen;
 import gregtech.common.GTDummyWorld;
 import gregtech.common.covers.CoverPosition;
+import gregtech.common.covers.redstone.WirelessRedstoneFrequencies;
 
 /**
  * Please do not include this File in your Mod-download as it ruins compatibility, like with the IC2-API You may just
@@ -109,8 +110,12 @@ public class GregTechAPI {
     public static final Map<Integer, Byte> sWirelessRedstone = new ConcurrentHashMap<>();
     /**
      * The Advanced Redstone Frequencies
+     *
+     * @deprecated Read-only now, use {@link WirelessRedstoneFrequencies} instead
      */
-    public static final Map<String, Map<String, Map<CoverPosition, Byte>>> sAdvancedWirelessRedstone = new ConcurrentHashMap<>();
+    @Deprecated
+    public static final Map<String, Map<String, Map<CoverPosition, Byte>>> sAdvancedWirelessRedstone = WirelessRedstoneFrequencies
+        .view();
 
     /**
      * The IDSU Frequencies
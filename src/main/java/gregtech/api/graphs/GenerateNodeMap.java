@@ -12,30 +12,49 @@ import gregtech.api.graphs.consumers.ConsumerNode;
 import gregtech.api.graphs.paths.NodePath;
 import gregtech.api.metatileentity.BaseMetaPipeEntity;
 import gregtech.api.metatileentity.MetaPipeEntity;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.ReferenceLinkedOpenHashSet;
 
 // generates the node map
+// the map is walked with explicit stacks instead of recursion, so huge networks can't overflow the stack
 public abstract class GenerateNodeMap {
 
+    // every pipe walked over while generating, which is what the map depends on
+    private final ReferenceLinkedOpenHashSet<BaseMetaPipeEntity> mVisitedPipes = new ReferenceLinkedOpenHashSet<>();
+
     // clearing the node map to make sure it is gone on reset
     public static void clearNodeMap(Node aNode, int aReturnNodeValue) {
-        if (aNode.mTileEntity instanceof BaseMetaPipeEntity tPipe) {
-            tPipe.setNode(null);
-            tPipe.setNodePath(null);
-            if (aNode.mSelfPath != null) {
-                aNode.mSelfPath.clearPath();
-                aNode.mSelfPath = null;
+        if (aNode.mNodeMap != null) aNode.mNodeMap.remove();
+        final ObjectArrayList<Node> tNodes = new ObjectArrayList<>();
+        final IntArrayList tReturnNodeValues = new IntArrayList();
+        tNodes.push(aNode);
+        tReturnNodeValues.push(aReturnNodeValue);
+        while (!tNodes.isEmpty()) {
+            final Node tNode = tNodes.pop();
+            final int tReturnNodeValue = tReturnNodeValues.popInt();
+            if (tNode.mTileEntity instanceof BaseMetaPipeEntity tPipe) {
+                tPipe.setNode(null);
+                tPipe.setNodePath(null);
+                if (tNode.mSelfPath != null) {
+                    tNode.mSelfPath.clearPath();
+                    tNode.mSelfPath = null;
+                }
             }
-        }
-        for (byte side : ALL_VALID_SIDES) {
-            final NodePath tPath = aNode.mNodePaths[side];
-            if (tPath != null) {
-                tPath.clearPath();
-                aNode.mNodePaths[side] = null;
+            for (byte side : ALL_VALID_SIDES) {
+                final NodePath tPath = tNode.mNodePaths[side];
+                if (tPath != null) {
+                    tPath.clearPath();
+                    tNode.mNodePaths[side] = null;
+                }
+                final Node tNextNode = tNode.mNeighbourNodes[side];
+                if (tNextNode == null) continue;
+                if (tNextNode.mNodeValue != tReturnNodeValue) {
+                    tNodes.push(tNextNode);
+                    tReturnNodeValues.push(tNode.mNodeValue);
+                }
+                tNode.mNeighbourNodes[side] = null;
             }
-            final Node tNextNode = aNode.mNeighbourNodes[side];
-            if (tNextNode == null) continue;
-            if (tNextNode.mNodeValue != aReturnNodeValue) clearNodeMap(tNextNode, aNode.mNodeValue);
-            aNode.mNeighbourNodes[side] = null;
         }
     }
 
@@ -48,45 +67,90 @@ public abstract class GenerateNodeMap {
         return tCons;
     }
 
-    // gets the next node
-    protected void generateNextNode(BaseMetaPipeEntity aPipe, Node aPipeNode, ForgeDirection aInvalidSide,
-        int aNextNodeValue, ArrayList<ConsumerNode> tConsumers, HashSet<Node> tNodeMap) {
-        final MetaPipeEntity tMetaPipe = (MetaPipeEntity) aPipe.getMetaTileEntity();
-        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
-            if (side == aInvalidSide) {
+    // generates the whole node map starting at the pipe, and remembers what it has been made of
+    protected void generateNodeMap(BaseMetaPipeEntity aPipe) {
+        final long tStart = System.nanoTime();
+        final ArrayList<ConsumerNode> tConsumers = new ArrayList<>();
+        final HashSet<Node> tNodeMap = new HashSet<>();
+        generateNode(aPipe, null, 1, null, ForgeDirection.UNKNOWN, tConsumers, tNodeMap);
+        final long tGenerationTime = System.nanoTime() - tStart;
+        final NodeMap tMap = new NodeMap(
+            this,
+            aPipe,
+            mVisitedPipes.toArray(new BaseMetaPipeEntity[0]),
+            tNodeMap.size(),
+            tConsumers.size(),
+            tGenerationTime);
+        for (Node tNode : tNodeMap) tNode.mNodeMap = tMap;
+        for (ConsumerNode tConsumer : tConsumers) tConsumer.mNodeMap = tMap;
+    }
+
+    // on a valid tile entity create a new node, and everything behind it
+    // pipe nodes wait on the stack until all their sides are done, they are linked to the node before them after that
+    // since their highest node value isn't known until then
+    protected Node generateNode(TileEntity aTileEntity, Node aPreviousNode, int aNextNodeValue,
+        ArrayList<MetaPipeEntity> aPipes, ForgeDirection side, ArrayList<ConsumerNode> aConsumers,
+        HashSet<Node> aNodeMap) {
+        final ObjectArrayList<PipeStep> tSteps = new ObjectArrayList<>();
+        final Node tFirstNode = createNode(
+            aTileEntity,
+            aPreviousNode,
+            aNextNodeValue,
+            aPipes,
+            side,
+            aConsumers,
+            aNodeMap,
+            tSteps,
+            null,
+            -1);
+        while (!tSteps.isEmpty()) {
+            final PipeStep tStep = tSteps.top();
+            if (tStep.mSide >= ForgeDirection.VALID_DIRECTIONS.length) {
+                tSteps.pop();
+                tStep.mPipe.reloadLocks();
+                if (tStep.mPrevious != null) linkNextNode(tStep.mPrevious, tStep.mPreviousSide, tStep.mNode);
                 continue;
             }
-            final TileEntity tNextTileEntity = aPipe.getTileEntityAtSide(side);
-            if (tNextTileEntity == null || (tMetaPipe != null && !tMetaPipe.isConnectedAtSide(side))) continue;
+            final ForgeDirection tSide = ForgeDirection.VALID_DIRECTIONS[tStep.mSide++];
+            if (tSide == tStep.mInvalidSide) continue;
+            final MetaPipeEntity tMetaPipe = (MetaPipeEntity) tStep.mPipe.getMetaTileEntity();
+            final TileEntity tNextTileEntity = tStep.mPipe.getTileEntityAtSide(tSide);
+            if (tNextTileEntity == null || (tMetaPipe != null && !tMetaPipe.isConnectedAtSide(tSide))) continue;
             final ArrayList<MetaPipeEntity> tNewPipes = new ArrayList<>();
-            final Pair nextTileEntity = getNextValidTileEntity(tNextTileEntity, tNewPipes, side, tNodeMap);
-            if (nextTileEntity != null) {
-                final Node tNextNode = generateNode(
-                    nextTileEntity.mTileEntity,
-                    aPipeNode,
-                    aNextNodeValue + 1,
-                    tNewPipes,
-                    nextTileEntity.mSide,
-                    tConsumers,
-                    tNodeMap);
-                if (tNextNode != null) {
-                    final int i = side.ordinal();
-                    aNextNodeValue = tNextNode.mHighestNodeValue;
-                    aPipeNode.mHighestNodeValue = tNextNode.mHighestNodeValue;
-                    aPipeNode.mNeighbourNodes[i] = tNextNode;
-                    aPipeNode.mNodePaths[i] = aPipeNode.returnValues.mReturnPath;
-                    aPipeNode.locks[i] = aPipeNode.returnValues.returnLock;
-                    aPipeNode.mNodePaths[i].reloadLocks();
-                }
-            }
+            final Pair nextTileEntity = getNextValidTileEntity(tNextTileEntity, tNewPipes, tSide, aNodeMap);
+            if (nextTileEntity == null) continue;
+            final Node tNextNode = createNode(
+                nextTileEntity.mTileEntity,
+                tStep.mNode,
+                tStep.mNextNodeValue + 1,
+                tNewPipes,
+                nextTileEntity.mSide,
+                aConsumers,
+                aNodeMap,
+                tSteps,
+                tStep,
+                tSide.ordinal());
+            // if the next node has been pushed it gets linked once it is done
+            if (tNextNode != null && tSteps.top() == tStep) linkNextNode(tStep, tSide.ordinal(), tNextNode);
         }
-        aPipe.reloadLocks();
+        return tFirstNode;
     }
 
-    // on a valid tile entity create a new node
-    protected Node generateNode(TileEntity aTileEntity, Node aPreviousNode, int aNextNodeValue,
+    // links a finished node to the pipe node it has been found from
+    private static void linkNextNode(PipeStep aStep, int aSide, Node aNextNode) {
+        final Node tNode = aStep.mNode;
+        aStep.mNextNodeValue = aNextNode.mHighestNodeValue;
+        tNode.mHighestNodeValue = aNextNode.mHighestNodeValue;
+        tNode.mNeighbourNodes[aSide] = aNextNode;
+        tNode.mNodePaths[aSide] = tNode.returnValues.mReturnPath;
+        tNode.locks[aSide] = tNode.returnValues.returnLock;
+        tNode.mNodePaths[aSide].reloadLocks();
+    }
+
+    // creates the node for a single tile entity, pipes that lead further are pushed onto the stack
+    private Node createNode(TileEntity aTileEntity, Node aPreviousNode, int aNextNodeValue,
         ArrayList<MetaPipeEntity> aPipes, ForgeDirection side, ArrayList<ConsumerNode> aConsumers,
-        HashSet<Node> aNodeMap) {
+        HashSet<Node> aNodeMap, ObjectArrayList<PipeStep> aSteps, PipeStep aPreviousStep, int aPreviousSide) {
         if (aTileEntity.isInvalid()) return null;
         final ForgeDirection oppositeSide = side.getOpposite();
         final ForgeDirection tInvalidSide = aPreviousNode == null ? ForgeDirection.UNKNOWN : oppositeSide;
@@ -94,6 +158,7 @@ public abstract class GenerateNodeMap {
         if (isPipe(aTileEntity)) {
             final BaseMetaPipeEntity tPipe = (BaseMetaPipeEntity) aTileEntity;
             final MetaPipeEntity tMetaPipe = (MetaPipeEntity) tPipe.getMetaTileEntity();
+            mVisitedPipes.add(tPipe);
             final int tConnections = getNumberOfConnections(tMetaPipe);
             final Node tPipeNode;
             if (tConnections == 1) {
@@ -116,8 +181,9 @@ public abstract class GenerateNodeMap {
                 aPreviousNode.returnValues.mReturnPath = tPipeNode.mNodePaths[iInvalid];
                 aPreviousNode.returnValues.returnLock = lock;
             }
-            if (tConnections > 1)
-                generateNextNode(tPipe, tPipeNode, tInvalidSide, aNextNodeValue, aConsumers, aNodeMap);
+            if (tConnections > 1) {
+                aSteps.push(new PipeStep(tPipe, tPipeNode, tInvalidSide, aNextNodeValue, aPreviousStep, aPreviousSide));
+            }
         } else if (addConsumer(aTileEntity, oppositeSide, aNextNodeValue, aConsumers)) {
             final int oppositeSideOrdinal = oppositeSide.ordinal();
             final ConsumerNode tConsumeNode = aConsumers.get(aConsumers.size() - 1);
@@ -135,34 +201,35 @@ public abstract class GenerateNodeMap {
     // go over the pipes until we see a valid tile entity that needs a node
     protected Pair getNextValidTileEntity(TileEntity aTileEntity, ArrayList<MetaPipeEntity> aPipes, ForgeDirection side,
         HashSet<Node> aNodeMap) {
-        if (isPipe(aTileEntity)) {
-            final BaseMetaPipeEntity tPipe = (BaseMetaPipeEntity) aTileEntity;
+        TileEntity tTileEntity = aTileEntity;
+        ForgeDirection tSide = side;
+        while (isPipe(tTileEntity)) {
+            final BaseMetaPipeEntity tPipe = (BaseMetaPipeEntity) tTileEntity;
             final MetaPipeEntity tMetaPipe = (MetaPipeEntity) tPipe.getMetaTileEntity();
             final Node tNode = tPipe.getNode();
             if (tNode != null) {
                 if (aNodeMap.contains(tNode)) return null;
             }
-            final int tConnections = getNumberOfConnections(tMetaPipe);
-            if (tConnections == 2) {
-                final ForgeDirection tSideOp = side.getOpposite();
-                for (final ForgeDirection s : ForgeDirection.VALID_DIRECTIONS) {
-                    if (s == tSideOp || !(tMetaPipe.isConnectedAtSide(s))) continue;
-                    final TileEntity tNewTileEntity = tPipe.getTileEntityAtSide(s);
-                    if (tNewTileEntity == null) continue;
-                    if (isPipe(tNewTileEntity)) {
-                        aPipes.add(tMetaPipe);
-                        return getNextValidTileEntity(tNewTileEntity, aPipes, s, aNodeMap);
-                    } else {
-                        return new Pair(aTileEntity, s);
-                    }
-                }
-            } else {
-                return new Pair(aTileEntity, side);
+            // pipes only connected on one end can form a loop without any node in it
+            if (!mVisitedPipes.add(tPipe)) return null;
+            if (getNumberOfConnections(tMetaPipe) != 2) return new Pair(tTileEntity, tSide);
+            final ForgeDirection tSideOp = tSide.getOpposite();
+            TileEntity tNewTileEntity = null;
+            ForgeDirection tNewSide = ForgeDirection.UNKNOWN;
+            for (final ForgeDirection s : ForgeDirection.VALID_DIRECTIONS) {
+                if (s == tSideOp || !(tMetaPipe.isConnectedAtSide(s))) continue;
+                tNewTileEntity = tPipe.getTileEntityAtSide(s);
+                if (tNewTileEntity == null) continue;
+                tNewSide = s;
+                break;
             }
-        } else {
-            return new Pair(aTileEntity, side);
+            if (tNewTileEntity == null) return null;
+            if (!isPipe(tNewTileEntity)) return new Pair(tTileEntity, tNewSide);
+            aPipes.add(tMetaPipe);
+            tTileEntity = tNewTileEntity;
+            tSide = tNewSide;
         }
-        return null;
+        return new Pair(tTileEntity, tSide);
     }
 
     // check if the tile entity is the correct pipe
@@ -174,6 +241,9 @@ public abstract class GenerateNodeMap {
     protected abstract boolean addConsumer(TileEntity aTileEntity, ForgeDirection side, int aNodeValue,
         ArrayList<ConsumerNode> aConsumers);
 
+    // checks if the tile entity would be added as a consumer, without adding it
+    protected abstract boolean isConsumer(TileEntity aTileEntity, ForgeDirection side);
+
     // get correct pathClass that you need for your node network
     protected abstract NodePath getNewPath(MetaPipeEntity[] aPipes);
 
@@ -199,4 +269,26 @@ public abstract class GenerateNodeMap {
             this.mSide = side;
         }
     }
+
+    // a pipe node that still has sides left to walk
+    private static class PipeStep {
+
+        public final BaseMetaPipeEntity mPipe;
+        public final Node mNode;
+        public final ForgeDirection mInvalidSide;
+        public final PipeStep mPrevious;
+        public final int mPreviousSide;
+        public int mNextNodeValue;
+        public int mSide;
+
+        public PipeStep(BaseMetaPipeEntity aPipe, Node aNode, ForgeDirection aInvalidSide, int aNextNodeValue,
+            PipeStep aPrevious, int aPreviousSide) {
+            this.mPipe = aPipe;
+            this.mNode = aNode;
+            this.mInvalidSide = aInvalidSide;
+            this.mNextNodeValue = aNextNodeValue;
+            this.mPrevious = aPrevious;
+            this.mPreviousSide = aPreviousSide;
+        }
+    }
 }
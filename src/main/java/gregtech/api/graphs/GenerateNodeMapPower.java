@@ -1,7 +1,6 @@
 package gregtech.api.graphs;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 
 import net.minecraft.tileentity.TileEntity;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -27,7 +26,7 @@ import ic2.api.energy.tile.IEnergySink;
 public class GenerateNodeMapPower extends GenerateNodeMap {
 
     public GenerateNodeMapPower(BaseMetaPipeEntity aTileEntity) {
-        generateNode(aTileEntity, null, 1, null, ForgeDirection.UNKNOWN, new ArrayList<>(), new HashSet<>());
+        generateNodeMap(aTileEntity);
     }
 
     @Override
@@ -38,19 +37,27 @@ public class GenerateNodeMapPower extends GenerateNodeMap {
     @Override
     protected boolean addConsumer(TileEntity aTileEntity, ForgeDirection side, int aNodeValue,
         ArrayList<ConsumerNode> aConsumers) {
+        if (!isConsumer(aTileEntity, side)) return false;
+        final ConsumerNode tConsumerNode;
         if (aTileEntity instanceof BaseMetaTileEntity tBaseTileEntity) {
-            if (tBaseTileEntity.inputEnergyFrom(side, false)) {
-                ConsumerNode tConsumerNode = new NodeGTBaseMetaTile(aNodeValue, tBaseTileEntity, side, aConsumers);
-                aConsumers.add(tConsumerNode);
-                return true;
-            }
+            tConsumerNode = new NodeGTBaseMetaTile(aNodeValue, tBaseTileEntity, side, aConsumers);
+        } else if (aTileEntity instanceof IEnergyConnected tTileEntity) {
+            tConsumerNode = new NodeEnergyConnected(aNodeValue, tTileEntity, side, aConsumers);
+        } else if (aTileEntity instanceof IEnergySink sink) {
+            tConsumerNode = new NodeEnergySink(aNodeValue, sink, side, aConsumers);
+        } else {
+            tConsumerNode = new NodeEnergyReceiver(aNodeValue, (IEnergyReceiver) aTileEntity, side, aConsumers);
+        }
+        aConsumers.add(tConsumerNode);
+        return true;
+    }
 
+    @Override
+    protected boolean isConsumer(TileEntity aTileEntity, ForgeDirection side) {
+        if (aTileEntity instanceof BaseMetaTileEntity tBaseTileEntity) {
+            return tBaseTileEntity.inputEnergyFrom(side, false);
         } else if (aTileEntity instanceof IEnergyConnected tTileEntity) {
-            if (tTileEntity.inputEnergyFrom(side, false)) {
-                ConsumerNode tConsumerNode = new NodeEnergyConnected(aNodeValue, tTileEntity, side, aConsumers);
-                aConsumers.add(tConsumerNode);
-                return true;
-            }
+            return tTileEntity.inputEnergyFrom(side, false);
         } else if (aTileEntity instanceof IEnergySink sink) {
             // ic2 wants the tilentity next to it of that side not going to add a bunch of arguments just for ic2
             // crossborder checks to not load chuncks just to make sure
@@ -64,21 +71,9 @@ public class GenerateNodeMapPower extends GenerateNodeMap {
                 tNextTo = aTileEntity.getWorldObj()
                     .getTileEntity(dX, dY, dZ);
 
-            if (sink.acceptsEnergyFrom(tNextTo, side)) {
-                ConsumerNode tConsumerNode = new NodeEnergySink(
-                    aNodeValue,
-                    (IEnergySink) aTileEntity,
-                    side,
-                    aConsumers);
-                aConsumers.add(tConsumerNode);
-                return true;
-            }
-        } else if (GregTechAPI.mOutputRF && aTileEntity instanceof IEnergyReceiver receiver) {
-            ConsumerNode tConsumerNode = new NodeEnergyReceiver(aNodeValue, receiver, side, aConsumers);
-            aConsumers.add(tConsumerNode);
-            return true;
+            return sink.acceptsEnergyFrom(tNextTo, side);
         }
-        return false;
+        return GregTechAPI.mOutputRF && aTileEntity instanceof IEnergyReceiver;
     }
 
     @Override
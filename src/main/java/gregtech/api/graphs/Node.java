@@ -28,6 +28,7 @@ public class Node {
     public ReturnPair returnValues = new ReturnPair();
     public NodePath mSelfPath;
     public ArrayList<ConsumerNode> mConsumers;
+    public NodeMap mNodeMap;
     public int mCreationTime;
     public int mNodeValue;
     public int mHighestNodeValue;
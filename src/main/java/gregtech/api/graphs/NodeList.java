@@ -1,6 +1,10 @@
 package gregtech.api.graphs;
 
 // keep track on which node is being looked for across the recursive functions
+/**
+ * @deprecated Only used by {@link PowerNodes}, see there.
+ */
+@Deprecated
 public class NodeList {
 
     Node[] mNodes;
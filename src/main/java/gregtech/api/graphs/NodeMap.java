@@ -0,0 +1,144 @@
+package gregtech.api.graphs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import gregtech.api.metatileentity.MetaPipeEntity;
+
+/*
+ * what a generated node map has been made of. a map only depends on the pipes walked over, which sides of them are
+ * connected, and what is next to those sides, so as long as none of that changes generating it again gives the same
+ * map. machines regenerate the map next to them after any block update around them, most of which don't touch the
+ * cables at all, so they check the map against this first and keep it if nothing changed.
+ * also keeps how long generating took, which /gt cable_networks shows.
+ */
+public class NodeMap {
+
+    // maps that haven't been cleared yet, unloaded ones get dropped on their own
+    private static final Set<NodeMap> sNodeMaps = Collections.newSetFromMap(new WeakHashMap<>());
+    private static long sGeneratedCount;
+    private static long sGenerationTime;
+    private static long sReusedCount;
+
+    private final GenerateNodeMap mGenerator;
+    private final BaseMetaPipeEntity[] mPipes;
+    private final IMetaTileEntity[] mMetaPipes;
+    // per pipe, bit flags of the connected sides and of the sides with a consumer next to them
+    private final byte[] mConnections;
+    private final byte[] mConsumerSides;
+    // per pipe and side, what has been next to the pipe on connected sides
+    private final TileEntity[] mNeighbours;
+
+    public final int mDimension;
+    public final int mX;
+    public final int mY;
+    public final int mZ;
+    public final int mNodeCount;
+    public final int mConsumerCount;
+    public final long mGenerationTime;
+    private int mCheckedTime = -1;
+    private int mReusedCount;
+
+    public NodeMap(GenerateNodeMap aGenerator, BaseMetaPipeEntity aFirstPipe, BaseMetaPipeEntity[] aPipes,
+        int aNodeCount, int aConsumerCount, long aGenerationTime) {
+        mGenerator = aGenerator;
+        mPipes = aPipes;
+        mMetaPipes = new IMetaTileEntity[aPipes.length];
+        mConnections = new byte[aPipes.length];
+        mConsumerSides = new byte[aPipes.length];
+        mNeighbours = new TileEntity[aPipes.length * 6];
+        for (int i = 0; i < aPipes.length; i++) {
+            final BaseMetaPipeEntity tPipe = aPipes[i];
+            mMetaPipes[i] = tPipe.getMetaTileEntity();
+            if (!(mMetaPipes[i] instanceof MetaPipeEntity tMetaPipe)) continue;
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                if (!tMetaPipe.isConnectedAtSide(side)) continue;
+                final int i6 = side.ordinal();
+                final TileEntity tNextTileEntity = tPipe.getTileEntityAtSide(side);
+                mConnections[i] |= (byte) (1 << i6);
+                mNeighbours[i * 6 + i6] = tNextTileEntity;
+                if (isConsumer(tNextTileEntity, side)) mConsumerSides[i] |= (byte) (1 << i6);
+            }
+        }
+        mDimension = aFirstPipe.getWorld().provider.dimensionId;
+        mX = aFirstPipe.xCoord;
+        mY = aFirstPipe.yCoord;
+        mZ = aFirstPipe.zCoord;
+        mNodeCount = aNodeCount;
+        mConsumerCount = aConsumerCount;
+        mGenerationTime = aGenerationTime;
+        sNodeMaps.add(this);
+        sGeneratedCount++;
+        sGenerationTime += aGenerationTime;
+    }
+
+    private boolean isConsumer(TileEntity aTileEntity, ForgeDirection side) {
+        return aTileEntity != null && !mGenerator.isPipe(aTileEntity)
+            && mGenerator.isConsumer(aTileEntity, side.getOpposite());
+    }
+
+    // checks if generating the map again would give the same map, checked at most once per tick
+    // locks come from covers, which can change without the map changing, so they get reloaded here
+    public boolean isUpToDate(int aTime) {
+        if (mCheckedTime == aTime) return true;
+        for (int i = 0; i < mPipes.length; i++) {
+            final BaseMetaPipeEntity tPipe = mPipes[i];
+            if (tPipe.isInvalid() || tPipe.getMetaTileEntity() != mMetaPipes[i]) return false;
+            if (!(mMetaPipes[i] instanceof MetaPipeEntity tMetaPipe)) continue;
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                final int i6 = side.ordinal();
+                final boolean tConnected = tMetaPipe.isConnectedAtSide(side);
+                if (tConnected != ((mConnections[i] & (1 << i6)) != 0)) return false;
+                if (!tConnected) continue;
+                final TileEntity tNextTileEntity = tPipe.getTileEntityAtSide(side);
+                if (tNextTileEntity != mNeighbours[i * 6 + i6]) return false;
+                if (tNextTileEntity != null && tNextTileEntity.isInvalid()) return false;
+                if (isConsumer(tNextTileEntity, side) != ((mConsumerSides[i] & (1 << i6)) != 0)) return false;
+            }
+        }
+        for (BaseMetaPipeEntity tPipe : mPipes) {
+            tPipe.reloadLocks();
+        }
+        mCheckedTime = aTime;
+        mReusedCount++;
+        sReusedCount++;
+        return true;
+    }
+
+    // called when the map gets cleared
+    public void remove() {
+        sNodeMaps.remove(this);
+    }
+
+    public int getPipeCount() {
+        return mPipes.length;
+    }
+
+    public int getReusedCount() {
+        return mReusedCount;
+    }
+
+    public static List<NodeMap> getNodeMaps() {
+        return new ArrayList<>(sNodeMaps);
+    }
+
+    public static long getGeneratedCount() {
+        return sGeneratedCount;
+    }
+
+    public static long getGenerationTime() {
+        return sGenerationTime;
+    }
+
+    public static long getReusedTotal() {
+        return sReusedCount;
+    }
+}
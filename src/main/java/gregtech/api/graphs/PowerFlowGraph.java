@@ -0,0 +1,220 @@
+package gregtech.api.graphs;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import gregtech.api.graphs.consumers.ConsumerNode;
+import gregtech.api.graphs.paths.PowerNodePath;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+/*
+ * compiled form of a power node map, shared by all the nodes of the network. every step from a node to a neighbour is
+ * a hop, with the paths, lock and voltage loss of that step. the routes from a node energy is injected into are the
+ * hops each node has first been reached by when going outwards from it, worked out the first time energy is injected
+ * there. distributing energy is then a scan over the consumers in node map order, following each of them back to the
+ * entry node. since a new node map is made of new nodes, this gets thrown away along with them whenever the map is
+ * regenerated.
+ */
+public class PowerFlowGraph {
+
+    private final Reference2IntOpenHashMap<Node> mNodeIndex = new Reference2IntOpenHashMap<>();
+
+    // hops leaving each node are mHopStart[node] until mHopStart[node + 1]
+    private final int[] mHopStart;
+    private final int[] mHopSource;
+    private final int[] mHopTarget;
+    private final PowerNodePath[] mHopSelfPaths;
+    private final PowerNodePath[] mHopPaths;
+    private final Lock[] mHopLocks;
+    private final long[] mHopLoss;
+
+    // consumers, in the same order as in the node map
+    private final ConsumerNode[] mConsumers;
+    private final int[] mConsumerNodes;
+
+    // routes from each node energy has been injected into
+    private final Routes[] mRoutes;
+
+    // per transfer state, so the voltage of a hop is applied once and its amps are added once
+    private final int[] mHopStamps;
+    private final long[] mHopAmps;
+    private final int[] mTouchedHops;
+    private final int[] mRoute;
+    private int mStamp;
+
+    PowerFlowGraph(PowerNode aNode) {
+        mNodeIndex.defaultReturnValue(-1);
+        final ObjectArrayList<Node> tNodes = new ObjectArrayList<>();
+        mNodeIndex.put(aNode, 0);
+        tNodes.add(aNode);
+        for (int tHead = 0; tHead < tNodes.size(); tHead++) {
+            final Node tNode = tNodes.get(tHead);
+            if (tNode instanceof PowerNode tPowerNode) tPowerNode.mFlowGraph = this;
+            // consumers are the leaves of the map
+            if (tNode instanceof ConsumerNode) continue;
+            for (int side = 0; side < 6; side++) {
+                final Node tNextNode = tNode.mNeighbourNodes[side];
+                if (tNextNode == null || tNode.mNodePaths[side] == null || mNodeIndex.containsKey(tNextNode)) continue;
+                mNodeIndex.put(tNextNode, tNodes.size());
+                tNodes.add(tNextNode);
+            }
+        }
+
+        final IntArrayList tHopStart = new IntArrayList(tNodes.size() + 1);
+        final IntArrayList tSources = new IntArrayList();
+        final IntArrayList tTargets = new IntArrayList();
+        final ObjectArrayList<PowerNodePath> tSelfPaths = new ObjectArrayList<>();
+        final ObjectArrayList<PowerNodePath> tPaths = new ObjectArrayList<>();
+        final ObjectArrayList<Lock> tLocks = new ObjectArrayList<>();
+        final LongArrayList tLoss = new LongArrayList();
+        for (int i = 0; i < tNodes.size(); i++) {
+            tHopStart.add(tPaths.size());
+            final Node tNode = tNodes.get(i);
+            if (tNode instanceof ConsumerNode) continue;
+            final PowerNodePath tSelfPath = (PowerNodePath) tNode.mSelfPath;
+            for (int side = 0; side < 6; side++) {
+                final Node tNextNode = tNode.mNeighbourNodes[side];
+                final PowerNodePath tPath = (PowerNodePath) tNode.mNodePaths[side];
+                if (tNextNode == null || tPath == null) continue;
+                tSources.add(i);
+                tTargets.add(mNodeIndex.getInt(tNextNode));
+                tSelfPaths.add(tSelfPath);
+                tPaths.add(tPath);
+                tLocks.add(tNode.locks[side]);
+                tLoss.add((tSelfPath == null ? 0 : tSelfPath.getLoss()) + tPath.getLoss());
+            }
+        }
+        tHopStart.add(tPaths.size());
+
+        final ArrayList<ConsumerNode> tAllConsumers = aNode.mConsumers;
+        final ObjectArrayList<ConsumerNode> tConsumers = new ObjectArrayList<>(tAllConsumers.size());
+        final IntArrayList tConsumerNodes = new IntArrayList(tAllConsumers.size());
+        for (ConsumerNode tConsumer : tAllConsumers) {
+            final int tIndex = mNodeIndex.getInt(tConsumer);
+            if (tIndex < 0) continue;
+            tConsumers.add(tConsumer);
+            tConsumerNodes.add(tIndex);
+        }
+
+        mHopStart = tHopStart.toIntArray();
+        mHopSource = tSources.toIntArray();
+        mHopTarget = tTargets.toIntArray();
+        mHopSelfPaths = tSelfPaths.toArray(new PowerNodePath[0]);
+        mHopPaths = tPaths.toArray(new PowerNodePath[0]);
+        mHopLocks = tLocks.toArray(new Lock[0]);
+        mHopLoss = tLoss.toLongArray();
+        mConsumers = tConsumers.toArray(new ConsumerNode[0]);
+        mConsumerNodes = tConsumerNodes.toIntArray();
+        mRoutes = new Routes[tNodes.size()];
+        mHopStamps = new int[mHopPaths.length];
+        mHopAmps = new long[mHopPaths.length];
+        mTouchedHops = new int[mHopPaths.length];
+        mRoute = new int[tNodes.size()];
+    }
+
+    // distributes energy injected into the given node over the consumers in order until the amps run out
+    // consumers that don't need energy are skipped unless aAllConsumers is set, which is used to apply voltage to the
+    // whole network the first time it gets energy
+    public long transferEnergy(PowerNode aEntryNode, long aVoltage, long aMaxAmps, boolean aAllConsumers) {
+        final Routes tRoutes = getRoutes(aEntryNode);
+        if (tRoutes == null) return 0;
+        if (++mStamp == 0) {
+            Arrays.fill(mHopStamps, 0);
+            mStamp = 1;
+        }
+        int tTouched = 0;
+        long tAmpsUsed = 0;
+        for (int c = 0; c < mConsumers.length && tAmpsUsed < aMaxAmps; c++) {
+            final ConsumerNode tConsumer = mConsumers[c];
+            if (!aAllConsumers && !tConsumer.needsEnergy()) continue;
+            final int tConsumerNode = mConsumerNodes[c];
+            if (tRoutes.mReachedBy[tConsumerNode] < 0) continue;
+            // collect the route from the consumer back to the entry node
+            int tLength = 0;
+            for (int tHop = tRoutes.mReachedBy[tConsumerNode]; tHop >= 0;
+                tHop = tRoutes.mReachedBy[mHopSource[tHop]]) {
+                mRoute[tLength++] = tHop;
+            }
+            // and go along it from the entry node outwards
+            boolean tBlocked = false;
+            for (int i = tLength - 1; i >= 0; i--) {
+                final int tHop = mRoute[i];
+                final Lock tLock = mHopLocks[tHop];
+                if (tLock != null && tLock.isLocked()) {
+                    tBlocked = true;
+                    break;
+                }
+                if (mHopStamps[tHop] != mStamp) {
+                    mHopStamps[tHop] = mStamp;
+                    mHopAmps[tHop] = 0;
+                    mTouchedHops[tTouched++] = tHop;
+                    applyVoltage(tHop, aVoltage - tRoutes.mLossAt[mHopSource[tHop]]);
+                }
+            }
+            if (tBlocked) continue;
+            final long tAmps = tConsumer.injectEnergy(aVoltage - tRoutes.mLossAt[tConsumerNode], aMaxAmps - tAmpsUsed);
+            if (tAmps <= 0) continue;
+            tAmpsUsed += tAmps;
+            for (int i = 0; i < tLength; i++) {
+                mHopAmps[mRoute[i]] += tAmps;
+            }
+        }
+        for (int i = 0; i < tTouched; i++) {
+            final int tHop = mTouchedHops[i];
+            final long tAmps = mHopAmps[tHop];
+            if (tAmps <= 0) continue;
+            mHopPaths[tHop].addAmps(tAmps);
+            if (mHopSelfPaths[tHop] != null) mHopSelfPaths[tHop].addAmps(tAmps);
+        }
+        return tAmpsUsed;
+    }
+
+    private void applyVoltage(int aHop, long aVoltage) {
+        long tVoltage = aVoltage;
+        final PowerNodePath tSelfPath = mHopSelfPaths[aHop];
+        if (tSelfPath != null) {
+            tSelfPath.applyVoltage(tVoltage, false);
+            tVoltage -= tSelfPath.getLoss();
+        }
+        mHopPaths[aHop].applyVoltage(tVoltage, true);
+    }
+
+    private Routes getRoutes(PowerNode aEntryNode) {
+        final int tEntry = mNodeIndex.getInt(aEntryNode);
+        if (tEntry < 0) return null;
+        Routes tRoutes = mRoutes[tEntry];
+        if (tRoutes == null) {
+            tRoutes = new Routes(tEntry);
+            mRoutes[tEntry] = tRoutes;
+        }
+        return tRoutes;
+    }
+
+    // hop each node has first been reached by going outwards from an entry node, and the loss up to the node
+    private final class Routes {
+
+        // -1 for the entry node, -2 for nodes that can't be reached
+        private final int[] mReachedBy = new int[mRoute.length];
+        private final long[] mLossAt = new long[mRoute.length];
+
+        private Routes(int aEntry) {
+            Arrays.fill(mReachedBy, -2);
+            mReachedBy[aEntry] = -1;
+            final int[] tQueue = new int[mRoute.length];
+            tQueue[0] = aEntry;
+            for (int tHead = 0, tTail = 1; tHead < tTail; tHead++) {
+                final int tNode = tQueue[tHead];
+                for (int tHop = mHopStart[tNode]; tHop < mHopStart[tNode + 1]; tHop++) {
+                    final int tNextNode = mHopTarget[tHop];
+                    if (mReachedBy[tNextNode] != -2) continue;
+                    mReachedBy[tNextNode] = tHop;
+                    mLossAt[tNextNode] = mLossAt[tNode] + mHopLoss[tHop];
+                    tQueue[tTail++] = tNextNode;
+                }
+            }
+        }
+    }
+}
@@ -10,8 +10,15 @@ import gregtech.api.graphs.consumers.ConsumerNode;
 public class PowerNode extends Node {
 
     public boolean mHadVoltage = false;
+    PowerFlowGraph mFlowGraph;
 
     public PowerNode(int aNodeValue, TileEntity aTileEntity, ArrayList<ConsumerNode> aConsumers) {
         super(aNodeValue, aTileEntity, aConsumers);
     }
+
+    // routes through the network of this node, compiled on first use and shared by all of its nodes
+    public PowerFlowGraph getFlowGraph() {
+        if (mFlowGraph == null) mFlowGraph = new PowerFlowGraph(this);
+        return mFlowGraph;
+    }
 }
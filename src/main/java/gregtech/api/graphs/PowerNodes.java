@@ -12,6 +12,11 @@ import gregtech.api.graphs.paths.PowerNodePath;
  * this way we don't have to go over the entire network to look for it we also hold a list of all consumers so we can
  * check before looking if that consumer actually needs power and only look for nodes that actually need power
  */
+/**
+ * @deprecated Cables distribute energy through {@link PowerNode#getFlowGraph()} now. Kept for addons that still walk
+ *             node maps themselves.
+ */
+@Deprecated
 public class PowerNodes {
 
     // check if the looked for node is next to or get the next node that is closer to it
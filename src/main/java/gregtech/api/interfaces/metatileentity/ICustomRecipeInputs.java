@@ -0,0 +1,13 @@
+package gregtech.api.interfaces.metatileentity;
+
+import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
+
+/**
+ * Implement this interface if your multiblock overrides {@link MTEMultiBlockBase#checkProcessing},
+ * {@link MTEMultiBlockBase#doCheckRecipe}, {@link MTEMultiBlockBase#checkRecipeForCustomHatches},
+ * {@link MTEMultiBlockBase#getStoredInputs} or {@link MTEMultiBlockBase#getStoredFluids} to look at anything other
+ * than its input buses, input hatches and controller slot. Such multiblocks keep checking for recipes periodically
+ * instead of waiting for their inputs to change after a check that found no recipe.
+ */
+public interface ICustomRecipeInputs {
+}
@@ -180,4 +180,22 @@ public interface IGregTechTileEntity extends ITexturedTileEntity, ICoverable, IF
     }
 
     default void startTimeStatistics() {}
+
+    /**
+     * Stops ticking the MetaTileEntity until something happens to it, like its inventory, energy, fluids, neighbours,
+     * facing or settings changing, or until the given amount of ticks has passed. Covers keep ticking. Meant for idle
+     * machines which would only check for these changes every tick anyway. May be ignored.
+     *
+     * @param aMaxTicks ticks after which to wake up at the latest
+     */
+    default void sleep(int aMaxTicks) {}
+
+    /**
+     * Makes a sleeping MetaTileEntity tick again, starting with the next tick.
+     */
+    default void wakeUp() {}
+
+    default boolean isSleeping() {
+        return false;
+    }
 }
@@ -0,0 +1,98 @@
+package gregtech.api.logic;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.recipe.RecipeMap;
+
+/**
+ * Small ring buffer of input fingerprints that recently failed to match any recipe, so that
+ * {@link ProcessingLogic#process} doesn't search the recipemap again while inputs stay the same.
+ * <p>
+ * Entries are tied to the recipemap and its {@link gregtech.api.recipe.RecipeMapBackend#getGeneration generation},
+ * so adding / removing recipes or {@link gregtech.api.recipe.RecipeMapBackend#reInit reInit} invalidates them.
+ */
+final class NoRecipeCache {
+
+    /**
+     * Enough to cover one entry per input bus of most multiblocks with input separation.
+     */
+    private static final int SIZE = 8;
+
+    private final long[] fingerprints = new long[SIZE];
+    private final RecipeMap<?>[] recipeMaps = new RecipeMap<?>[SIZE];
+    private final int[] generations = new int[SIZE];
+    private int next;
+
+    boolean contains(RecipeMap<?> recipeMap, long fingerprint) {
+        int generation = recipeMap.getBackend()
+            .getGeneration();
+        for (int i = 0; i < SIZE; i++) {
+            if (recipeMaps[i] == recipeMap && fingerprints[i] == fingerprint && generations[i] == generation) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    void add(RecipeMap<?> recipeMap, long fingerprint) {
+        recipeMaps[next] = recipeMap;
+        fingerprints[next] = fingerprint;
+        generations[next] = recipeMap.getBackend()
+            .getGeneration();
+        next = (next + 1) % SIZE;
+    }
+
+    void clear() {
+        for (int i = 0; i < SIZE; i++) {
+            recipeMaps[i] = null;
+        }
+    }
+
+    /**
+     * @return Hash of everything the default recipe search depends on. Order of inputs matters.
+     */
+    static long fingerprint(ItemStack[] items, FluidStack[] fluids, @Nullable ItemStack specialSlot, long voltage,
+        long amperage) {
+        long h = mix(voltage) ^ mix(amperage) * 31;
+        for (ItemStack item : items) {
+            h = h * 0x9E3779B97F4A7C15L + hash(item);
+        }
+        for (FluidStack fluid : fluids) {
+            if (fluid == null) {
+                h = h * 0x9E3779B97F4A7C15L;
+                continue;
+            }
+            long f = fluid.getFluidID();
+            f = f * 31 + fluid.amount;
+            f = f * 31 + (fluid.tag == null ? 0 : fluid.tag.hashCode());
+            h = h * 0x9E3779B97F4A7C15L + f;
+        }
+        h = h * 0x9E3779B97F4A7C15L + hash(specialSlot);
+        return mix(h);
+    }
+
+    private static long hash(@Nullable ItemStack item) {
+        if (item == null || item.getItem() == null) return 0;
+        long h = Item.getIdFromItem(item.getItem());
+        h = h * 31 + Items.feather.getDamage(item);
+        h = h * 31 + item.stackSize;
+        h = h * 31 + (item.getTagCompound() == null ? 0
+            : item.getTagCompound()
+                .hashCode());
+        return h;
+    }
+
+    /**
+     * Finalizer of SplitMix64.
+     */
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
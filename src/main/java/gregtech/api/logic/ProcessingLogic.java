@@ -65,6 +65,12 @@ public class ProcessingLogic {
     protected RecipeMap<?> lastRecipeMap;
     protected GTRecipe lastRecipe;
     protected Map<IDualInputInventory, Set<GTRecipe>> craftingPatternRecipeCache = new HashMap<>();
+    /**
+     * Inputs that recently didn't match anything. Null if disabled.
+     */
+    @Nullable
+    private NoRecipeCache noRecipeCache = new NoRecipeCache();
+    protected boolean wakeOnInputChange = true;
 
     public ProcessingLogic() {}
 
@@ -232,6 +238,26 @@ public class ProcessingLogic {
         return this;
     }
 
+    /**
+     * Sets whether inputs which failed to match any recipe should be remembered, so that the recipemap is not searched
+     * again until inputs, voltage or the recipemap change. Enabled by default. Has no effect if
+     * {@link #isRecipeSearchInputOnly()} returns false.
+     */
+    public ProcessingLogic setNoRecipeCache(boolean enabled) {
+        this.noRecipeCache = enabled ? new NoRecipeCache() : null;
+        return this;
+    }
+
+    /**
+     * Sets whether the machine may stop polling for recipes after a check that found no recipe, and only search again
+     * once its input buses or hatches report a change. Enabled by default. Disable this if the result of recipe search
+     * depends on anything other than the inputs, e.g. if {@link #validateRecipe} looks at the world.
+     */
+    public ProcessingLogic setWakeOnInputChange(boolean enabled) {
+        this.wakeOnInputChange = enabled;
+        return this;
+    }
+
     // endregion
 
     // region Overwrite calculated result
@@ -304,6 +330,9 @@ public class ProcessingLogic {
             if (lastRecipeMap != null) {
                 craftingPatternRecipeCache.clear();
             }
+            if (noRecipeCache != null) {
+                noRecipeCache.clear();
+            }
             lastRecipe = null;
             lastRecipeMap = recipeMap;
         }
@@ -353,10 +382,23 @@ public class ProcessingLogic {
                 recipeLockableMachine.getSingleRecipeCheck()
                     .getRecipe()).checkRecipeResult;
         }
+
+        boolean useNoRecipeCache = noRecipeCache != null && recipeMap != null && isRecipeSearchInputOnly();
+        long inputFingerprint = 0;
+        if (useNoRecipeCache) {
+            inputFingerprint = NoRecipeCache
+                .fingerprint(inputItems, inputFluids, specialSlotItem, availableVoltage, availableAmperage);
+            if (noRecipeCache.contains(recipeMap, inputFingerprint)) {
+                return CheckRecipeResultRegistry.NO_RECIPE;
+            }
+        }
+
         Stream<GTRecipe> matchedRecipes = findRecipeMatches(recipeMap);
         Iterable<GTRecipe> recipeIterable = matchedRecipes::iterator;
         CheckRecipeResult checkRecipeResult = CheckRecipeResultRegistry.NO_RECIPE;
+        boolean matchedAny = false;
         for (GTRecipe matchedRecipe : recipeIterable) {
+            matchedAny = true;
             CalculationResult foundResult = validateAndCalculateRecipe(matchedRecipe);
             if (foundResult.successfullyConsumedInputs) {
                 // Successfully found and set recipe, so return it
@@ -367,6 +409,10 @@ public class ProcessingLogic {
                 checkRecipeResult = foundResult.checkRecipeResult;
             }
         }
+        if (useNoRecipeCache && !matchedAny) {
+            // Only remember inputs nothing matched at all; other failures depend on outputs, power etc.
+            noRecipeCache.add(recipeMap, inputFingerprint);
+        }
         return checkRecipeResult;
     }
 
@@ -444,6 +490,15 @@ public class ProcessingLogic {
         return calculator.getDuration() * helper.getDurationMultiplierDouble();
     }
 
+    /**
+     * Whether {@link #findRecipeMatches} only depends on the inputs, voltage and recipemap, so that searches which
+     * found no recipe don't need to be repeated while they are unchanged. Override this to return false if you
+     * override {@link #findRecipeMatches} to look at machine state like its mode or tier.
+     */
+    protected boolean isRecipeSearchInputOnly() {
+        return true;
+    }
+
     /**
      * Finds a list of matched recipes. At this point no additional check to the matched recipe has been done.
      * <p>
@@ -543,6 +598,14 @@ public class ProcessingLogic {
         return calculatedParallels;
     }
 
+    /**
+     * @return Whether the machine may skip recipe checks while its inputs are unchanged since the last check that
+     *         found no recipe. Never true if {@link #isRecipeSearchInputOnly()} returns false.
+     */
+    public boolean isWakeOnInputChange() {
+        return wakeOnInputChange && isRecipeSearchInputOnly();
+    }
+
     // endregion
 
     /**
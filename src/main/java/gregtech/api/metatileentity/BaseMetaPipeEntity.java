@@ -504,6 +504,14 @@ public class BaseMetaPipeEntity extends CommonBaseMetaTileEntity
         super.invalidate();
     }
 
+    @Override
+    public void onChunkUnload() {
+        if (hasValidMetaTileEntity()) {
+            mMetaTileEntity.onUnload();
+        }
+        super.onChunkUnload();
+    }
+
     @Override
     public boolean hasCustomInventoryName() {
         return false;
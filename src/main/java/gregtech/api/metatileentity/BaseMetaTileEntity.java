@@ -119,6 +119,9 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     private int oX = 0, oY = 0, oZ = 0;
     private long oOutput = 0, mAcceptedAmperes = Long.MAX_VALUE;
     private long mLastCheckTick = 0;
+    // tick to wake up at, 0 when not sleeping
+    private long mSleepUntil = 0;
+    private boolean mWakeUp = false;
     private String mOwnerName = "";
     private UUID mOwnerUuid = GTUtility.defaultUuid;
     private int cableUpdateDelay = 30;
@@ -340,6 +343,19 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                 mAverageEUInput[mAverageEUInputIndex] = 0;
                 mAverageEUOutput[mAverageEUOutputIndex] = 0;
             }
+            if (isServerSide && mSleepUntil != 0) {
+                if (!shouldWakeUp()) {
+                    // amperage and hazards are per tick, even for a sleeping machine
+                    if (mTickTimer > 20 && mMetaTileEntity.isElectric()) {
+                        mAcceptedAmperes = 0;
+                        if (getEUCapacity() > 0) checkHazards();
+                    }
+                    // the flags of this tick are kept, so that the MetaTileEntity sees them once it wakes up
+                    mRunningThroughTick = false;
+                    return;
+                }
+                mSleepUntil = 0;
+            }
 
             mMetaTileEntity.onPreTick(this, mTickTimer);
 
@@ -406,84 +422,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                             decreaseStoredEU(tEU, true);
                         }
                     }
-                    if (getEUCapacity() > 0) {
-                        if (GregTechAPI.sMachineFireExplosions && getRandomNumber(1000) == 0) {
-                            final Block tBlock = getBlockAtSide(ForgeDirection.getOrientation(getRandomNumber(6)));
-                            if (tBlock instanceof BlockFire) doEnergyExplosion();
-                        }
-
-                        if (!hasValidMetaTileEntity()) {
-                            mRunningThroughTick = false;
-                            return;
-                        }
-
-                        if (GregTechAPI.sMachineRainExplosions) {
-                            if (mMetaTileEntity.willExplodeInRain()) {
-                                if (getRandomNumber(1000) == 0 && isRainPossible()) {
-                                    // Short-circuit so raincheck happens before isRainExposed,
-                                    // saves sme TPS since rain exposed check can be slow
-                                    // This logic can be compressed further by only checking for
-                                    // isRainExposed once IF we can guarantee it never thunders without
-                                    // raining, but I don't know if this is true or not.
-                                    if (worldObj.isRaining() && isRainExposed()) {
-                                        if (getRandomNumber(10) == 0) {
-                                            try {
-                                                GTMod.achievements.issueAchievement(
-                                                    this.getWorldObj()
-                                                        .getPlayerEntityByName(mOwnerName),
-                                                    "badweather");
-                                            } catch (Exception ignored) {}
-                                            GTLog.exp.println(
-                                                "Machine at: " + this.getXCoord()
-                                                    + " | "
-                                                    + this.getYCoord()
-                                                    + " | "
-                                                    + this.getZCoord()
-                                                    + " DIMID: "
-                                                    + this.worldObj.provider.dimensionId
-                                                    + " explosion due to rain!");
-                                            doEnergyExplosion();
-                                        } else {
-                                            GTLog.exp.println(
-                                                "Machine at: " + this.getXCoord()
-                                                    + " | "
-                                                    + this.getYCoord()
-                                                    + " | "
-                                                    + this.getZCoord()
-                                                    + " DIMID: "
-                                                    + this.worldObj.provider.dimensionId
-                                                    + "  set to Fire due to rain!");
-                                            setOnFire();
-                                        }
-                                    }
-                                    if (!hasValidMetaTileEntity()) {
-                                        mRunningThroughTick = false;
-                                        return;
-                                    }
-                                    if (GregTechAPI.sMachineThunderExplosions && worldObj.isThundering()
-                                        && getRandomNumber(3) == 0
-                                        && isRainExposed()) {
-                                        try {
-                                            GTMod.achievements.issueAchievement(
-                                                this.getWorldObj()
-                                                    .getPlayerEntityByName(mOwnerName),
-                                                "badweather");
-                                        } catch (Exception ignored) {}
-                                        GTLog.exp.println(
-                                            "Machine at: " + this.getXCoord()
-                                                + " | "
-                                                + this.getYCoord()
-                                                + " | "
-                                                + this.getZCoord()
-                                                + " DIMID: "
-                                                + this.worldObj.provider.dimensionId
-                                                + " explosion due to Thunderstorm!");
-                                        doEnergyExplosion();
-                                    }
-                                }
-                            }
-                        }
-                    }
+                    if (getEUCapacity() > 0) checkHazards();
                 }
 
                 if (!hasValidMetaTileEntity()) {
@@ -557,36 +496,31 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                         | (mWorks ? 64 : 0)
                         | (mMuffler ? 128 : 0));
                     if (tData != oTextureData)
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_COMMON_DATA, oTextureData = tData);
+                        BlockEventBatcher.queue(this, BlockEventBatcher.COMMON_DATA, oTextureData = tData);
 
                     tData = mMetaTileEntity.getUpdateData();
                     if (tData != oUpdateData)
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_CUSTOM_DATA, oUpdateData = tData);
+                        BlockEventBatcher.queue(this, BlockEventBatcher.UPDATE_DATA, oUpdateData = tData);
                     if (mMetaTileEntity instanceof MTEHatch) {
                         tData = ((MTEHatch) mMetaTileEntity).getTexturePage();
-                        if (tData != oTexturePage) sendBlockEvent(
-                            GregTechTileClientEvents.CHANGE_CUSTOM_DATA,
+                        if (tData != oTexturePage) BlockEventBatcher.queue(
+                            this,
+                            BlockEventBatcher.TEXTURE_PAGE,
                             (byte) ((oTexturePage = tData) | 0x80)); // set last bit as a flag for page
                     }
-                    if (mColor != oColor) sendBlockEvent(GregTechTileClientEvents.CHANGE_COLOR, oColor = mColor);
+                    if (mColor != oColor) BlockEventBatcher.queue(this, BlockEventBatcher.COLOR, oColor = mColor);
                     tData = (byte) (((mSidedRedstone[0] > 0) ? 1 : 0) | ((mSidedRedstone[1] > 0) ? 2 : 0)
                         | ((mSidedRedstone[2] > 0) ? 4 : 0)
                         | ((mSidedRedstone[3] > 0) ? 8 : 0)
                         | ((mSidedRedstone[4] > 0) ? 16 : 0)
                         | ((mSidedRedstone[5] > 0) ? 32 : 0));
                     if (tData != oRedstoneData)
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_REDSTONE_OUTPUT, oRedstoneData = tData);
+                        BlockEventBatcher.queue(this, BlockEventBatcher.REDSTONE_OUTPUT, oRedstoneData = tData);
                     if (mLightValue != oLightValue) {
                         worldObj.setLightValue(EnumSkyBlock.Block, xCoord, yCoord, zCoord, mLightValue);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord, yCoord, zCoord);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord + 1, yCoord, zCoord);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord - 1, yCoord, zCoord);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord, yCoord + 1, zCoord);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord, yCoord - 1, zCoord);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord, yCoord, zCoord + 1);
-                        worldObj.updateLightByType(EnumSkyBlock.Block, xCoord, yCoord, zCoord - 1);
+                        BlockEventBatcher.queueLightUpdate(worldObj, xCoord, yCoord, zCoord);
                         issueTextureUpdate();
-                        sendBlockEvent(GregTechTileClientEvents.CHANGE_LIGHT, oLightValue = mLightValue);
+                        BlockEventBatcher.queue(this, BlockEventBatcher.LIGHT, oLightValue = mLightValue);
                     }
                 }
 
@@ -601,6 +535,139 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         mWorkUpdate = mInventoryChanged = mRunningThroughTick = false;
     }
 
+    /**
+     * Randomly sets electric machines on fire or explodes them, when next to fire or out in the rain. Also done while
+     * the machine sleeps.
+     */
+    private void checkHazards() {
+        if (GregTechAPI.sMachineFireExplosions && getRandomNumber(1000) == 0) {
+            final Block tBlock = getBlockAtSide(ForgeDirection.getOrientation(getRandomNumber(6)));
+            if (tBlock instanceof BlockFire) doEnergyExplosion();
+        }
+
+        if (!hasValidMetaTileEntity()) {
+            return;
+        }
+
+        if (GregTechAPI.sMachineRainExplosions) {
+            if (mMetaTileEntity.willExplodeInRain()) {
+                if (getRandomNumber(1000) == 0 && isRainPossible()) {
+                    // Short-circuit so raincheck happens before isRainExposed,
+                    // saves sme TPS since rain exposed check can be slow
+                    // This logic can be compressed further by only checking for
+                    // isRainExposed once IF we can guarantee it never thunders without
+                    // raining, but I don't know if this is true or not.
+                    if (worldObj.isRaining() && isRainExposed()) {
+                        if (getRandomNumber(10) == 0) {
+                            try {
+                                GTMod.achievements.issueAchievement(
+                                    this.getWorldObj()
+                                        .getPlayerEntityByName(mOwnerName),
+                                    "badweather");
+                            } catch (Exception ignored) {}
+                            GTLog.exp.println(
+                                "Machine at: " + this.getXCoord()
+                                    + " | "
+                                    + this.getYCoord()
+                                    + " | "
+                                    + this.getZCoord()
+                                    + " DIMID: "
+                                    + this.worldObj.provider.dimensionId
+                                    + " explosion due to rain!");
+                            doEnergyExplosion();
+                        } else {
+                            GTLog.exp.println(
+                                "Machine at: " + this.getXCoord()
+                                    + " | "
+                                    + this.getYCoord()
+                                    + " | "
+                                    + this.getZCoord()
+                                    + " DIMID: "
+                                    + this.worldObj.provider.dimensionId
+                                    + "  set to Fire due to rain!");
+                            setOnFire();
+                        }
+                    }
+                    if (!hasValidMetaTileEntity()) {
+                        return;
+                    }
+                    if (GregTechAPI.sMachineThunderExplosions && worldObj.isThundering()
+                        && getRandomNumber(3) == 0
+                        && isRainExposed()) {
+                        try {
+                            GTMod.achievements.issueAchievement(
+                                this.getWorldObj()
+                                    .getPlayerEntityByName(mOwnerName),
+                                "badweather");
+                        } catch (Exception ignored) {}
+                        GTLog.exp.println(
+                            "Machine at: " + this.getXCoord()
+                                + " | "
+                                + this.getYCoord()
+                                + " | "
+                                + this.getZCoord()
+                                + " DIMID: "
+                                + this.worldObj.provider.dimensionId
+                                + " explosion due to Thunderstorm!");
+                        doEnergyExplosion();
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void sleep(int aMaxTicks) {
+        if (aMaxTicks <= 0 || !isServerSide() || !hasValidMetaTileEntity()) return;
+        // energy is sent out and items are charged every tick
+        if (mMetaTileEntity.isEnetOutput() || hasChargeableItems()) return;
+        mSleepUntil = mTickTimer + aMaxTicks;
+        mWakeUp = false;
+    }
+
+    @Override
+    public void wakeUp() {
+        mWakeUp = true;
+    }
+
+    @Override
+    public boolean isSleeping() {
+        return mSleepUntil != 0;
+    }
+
+    private boolean hasChargeableItems() {
+        final int tDechargerStart = mMetaTileEntity.dechargerSlotStartIndex();
+        for (int i = 0; i < mMetaTileEntity.dechargerSlotCount(); i++) {
+            if (mMetaTileEntity.mInventory[tDechargerStart + i] != null) return true;
+        }
+        final int tRechargerStart = mMetaTileEntity.rechargerSlotStartIndex();
+        for (int i = 0; i < mMetaTileEntity.rechargerSlotCount(); i++) {
+            if (mMetaTileEntity.mInventory[tRechargerStart + i] != null) return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return If anything has happened to a sleeping machine which the full tick would have to react to
+     */
+    private boolean shouldWakeUp() {
+        return mWakeUp || mTickTimer >= mSleepUntil
+            || mTickTimer <= 20
+            || cableUpdateDelay >= 0
+            || mInventoryChanged
+            || mWorkUpdate
+            || mNeedsBlockUpdate
+            || mNeedsTileUpdate
+            || mSendClientData
+            || mRedstone != oRedstone
+            || mFacing != oFacing
+            || mColor != oColor
+            || mLightValue != oLightValue
+            || xCoord != oX
+            || yCoord != oY
+            || zCoord != oZ;
+    }
+
     @Override
     protected void onTickFail() {
         mMetaTileEntity.onTickFail(this, mTickTimer);
@@ -918,6 +985,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     public void onMachineBlockUpdate() {
         if (canAccessData()) mMetaTileEntity.onMachineBlockUpdate();
         cableUpdateDelay = 10;
+        mWakeUp = true;
     }
 
     /**
@@ -951,6 +1019,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public void enableWorking() {
         if (!mWorks) mWorkUpdate = true;
+        mWakeUp = true;
         mWorks = true;
         setShutdownStatus(false);
         if (hasValidMetaTileEntity()) {
@@ -961,6 +1030,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public void disableWorking() {
         mWorks = false;
+        mWakeUp = true;
         if (hasValidMetaTileEntity()) {
             mMetaTileEntity.onDisableWorking();
         }
@@ -1025,6 +1095,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         if (!canAccessData()) return false;
         if (getStoredEU() < getEUCapacity() || aIgnoreTooMuchEnergy) {
             setStoredEU(mMetaTileEntity.getEUVar() + aEnergy);
+            mWakeUp = true;
             return true;
         }
         return false;
@@ -1077,6 +1148,8 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
                         if (node == null) {
                             new GenerateNodeMapPower(pipe);
                         } else if (node.mCreationTime != time) {
+                            // most updates around machines don't change the cables, keep the map if it still matches
+                            if (node.mNodeMap != null && node.mNodeMap.isUpToDate(time)) continue;
                             GenerateNodeMap.clearNodeMap(node, -1);
                             new GenerateNodeMapPower(pipe);
                         }
@@ -1356,6 +1429,7 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
     @Override
     public boolean onRightclick(final EntityPlayer aPlayer, final ForgeDirection side, final float aX, final float aY,
         final float aZ) {
+        mWakeUp = true;
         final ForgeDirection wrenchingSide = GTUtility.determineWrenchingSide(side, aX, aY, aZ);
         final ForgeDirection effectiveSide = !hasCoverAtSide(side) ? wrenchingSide : side;
         Cover effectiveSideCover = getCoverAtSide(effectiveSide);
@@ -1816,8 +1890,10 @@ public class BaseMetaTileEntity extends CommonBaseMetaTileEntity
         if (mTickTimer > 5 && canAccessData()
             && (mRunningThroughTick || !mInputDisabled)
             && (side == ForgeDirection.UNKNOWN || (mMetaTileEntity.isLiquidInput(side)
-                && getCoverAtSide(side).letsFluidIn(aFluid == null ? null : aFluid.getFluid()))))
+                && getCoverAtSide(side).letsFluidIn(aFluid == null ? null : aFluid.getFluid())))) {
+            if (doFill) mWakeUp = true;
             return mMetaTileEntity.fill(side, aFluid, doFill);
+        }
         return 0;
     }
 
@@ -0,0 +1,172 @@
+package gregtech.api.metatileentity;
+
+import static gregtech.api.enums.GTValues.NW;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import net.minecraft.world.EnumSkyBlock;
+import net.minecraft.world.World;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.net.GTPacketBlockEvents;
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import it.unimi.dsi.fastutil.shorts.Short2IntOpenHashMap;
+import it.unimi.dsi.fastutil.shorts.ShortArrayList;
+
+/**
+ * Collects the state changes machines send to clients over a tick, and sends them once at the end of the tick as one
+ * {@link GTPacketBlockEvents} per chunk. Only the last value of each kind of change is sent for each machine.
+ * <p>
+ * Light updates of machines whose light value changed are collected as well, so that blocks next to several of them
+ * only get updated once.
+ */
+public final class BlockEventBatcher {
+
+    /**
+     * Kinds of changes, in the order they are applied on the client.
+     */
+    public static final int COMMON_DATA = 0, UPDATE_DATA = 1, TEXTURE_PAGE = 2, COLOR = 3, REDSTONE_OUTPUT = 4,
+        LIGHT = 5, KINDS = 6;
+
+    /**
+     * Client event of each kind of change, see {@link GregTechTileClientEvents}.
+     */
+    public static final byte[] EVENT_IDS = { GregTechTileClientEvents.CHANGE_COMMON_DATA,
+        GregTechTileClientEvents.CHANGE_CUSTOM_DATA, GregTechTileClientEvents.CHANGE_CUSTOM_DATA,
+        GregTechTileClientEvents.CHANGE_COLOR, GregTechTileClientEvents.CHANGE_REDSTONE_OUTPUT,
+        GregTechTileClientEvents.CHANGE_LIGHT };
+
+    private static final Map<World, Long2ObjectOpenHashMap<ChunkEvents>> sEvents = new HashMap<>();
+    private static final Map<World, LongLinkedOpenHashSet> sLightUpdates = new HashMap<>();
+
+    private BlockEventBatcher() {}
+
+    /**
+     * Queues a change of a machine to be sent to the players watching its chunk at the end of the tick.
+     *
+     * @param aKind One of the kinds of changes above
+     */
+    public static void queue(BaseTileEntity aTileEntity, int aKind, byte aValue) {
+        final World tWorld = aTileEntity.getWorldObj();
+        Long2ObjectOpenHashMap<ChunkEvents> tChunks = sEvents.get(tWorld);
+        if (tChunks == null) {
+            tChunks = new Long2ObjectOpenHashMap<>();
+            sEvents.put(tWorld, tChunks);
+        }
+        final int tChunkX = aTileEntity.xCoord >> 4, tChunkZ = aTileEntity.zCoord >> 4;
+        final long tChunk = (long) tChunkX << 32 | (tChunkZ & 0xFFFFFFFFL);
+        ChunkEvents tEvents = tChunks.get(tChunk);
+        if (tEvents == null) {
+            tEvents = new ChunkEvents(tChunkX, tChunkZ);
+            tChunks.put(tChunk, tEvents);
+        }
+        tEvents.add(
+            GTPacketBlockEvents.pack(aTileEntity.xCoord, aTileEntity.yCoord, aTileEntity.zCoord),
+            aKind,
+            aValue);
+    }
+
+    /**
+     * Queues updating the block light at and next to the given position at the end of the tick.
+     */
+    public static void queueLightUpdate(World aWorld, int aX, int aY, int aZ) {
+        LongLinkedOpenHashSet tPositions = sLightUpdates.get(aWorld);
+        if (tPositions == null) {
+            tPositions = new LongLinkedOpenHashSet();
+            sLightUpdates.put(aWorld, tPositions);
+        }
+        tPositions.add(packPosition(aX, aY, aZ));
+    }
+
+    private static long packPosition(int aX, int aY, int aZ) {
+        return ((long) aX & 0x3FFFFFF) << 38 | ((long) aZ & 0x3FFFFFF) << 12 | (aY & 0xFFF);
+    }
+
+    /**
+     * Sends everything queued during this tick. Called at the end of every server tick.
+     */
+    public static void flush() {
+        if (!sLightUpdates.isEmpty()) {
+            final LongOpenHashSet tUpdated = new LongOpenHashSet();
+            for (Map.Entry<World, LongLinkedOpenHashSet> tEntry : sLightUpdates.entrySet()) {
+                final World tWorld = tEntry.getKey();
+                tUpdated.clear();
+                for (LongIterator it = tEntry.getValue()
+                    .iterator(); it.hasNext();) {
+                    final long tPosition = it.nextLong();
+                    final int tX = (int) (tPosition >> 38), tZ = (int) (tPosition << 26 >> 38),
+                        tY = (int) (tPosition & 0xFFF);
+                    if (tUpdated.add(tPosition)) tWorld.updateLightByType(EnumSkyBlock.Block, tX, tY, tZ);
+                    for (ForgeDirection tSide : ForgeDirection.VALID_DIRECTIONS) {
+                        final int tNextX = tX + tSide.offsetX, tNextY = tY + tSide.offsetY, tNextZ = tZ + tSide.offsetZ;
+                        if (tUpdated.add(packPosition(tNextX, tNextY, tNextZ)))
+                            tWorld.updateLightByType(EnumSkyBlock.Block, tNextX, tNextY, tNextZ);
+                    }
+                }
+            }
+            sLightUpdates.clear();
+        }
+
+        if (!sEvents.isEmpty()) {
+            for (Map.Entry<World, Long2ObjectOpenHashMap<ChunkEvents>> tEntry : sEvents.entrySet()) {
+                final World tWorld = tEntry.getKey();
+                for (ObjectIterator<Long2ObjectMap.Entry<ChunkEvents>> it = tEntry.getValue()
+                    .long2ObjectEntrySet()
+                    .fastIterator(); it.hasNext();) {
+                    final ChunkEvents tEvents = it.next()
+                        .getValue();
+                    NW.sendPacketToAllPlayersInRange(
+                        tWorld,
+                        tEvents.toPacket(),
+                        tEvents.mChunkX << 4,
+                        tEvents.mChunkZ << 4);
+                }
+            }
+            sEvents.clear();
+        }
+    }
+
+    private static final class ChunkEvents {
+
+        private final int mChunkX, mChunkZ;
+        private final Short2IntOpenHashMap mIndices = new Short2IntOpenHashMap();
+        private final ShortArrayList mPositions = new ShortArrayList();
+        private final ByteArrayList mMasks = new ByteArrayList();
+        private final ByteArrayList mValues = new ByteArrayList();
+
+        private ChunkEvents(int aChunkX, int aChunkZ) {
+            mChunkX = aChunkX;
+            mChunkZ = aChunkZ;
+            mIndices.defaultReturnValue(-1);
+        }
+
+        private void add(short aPosition, int aKind, byte aValue) {
+            int tIndex = mIndices.get(aPosition);
+            if (tIndex < 0) {
+                tIndex = mPositions.size();
+                mIndices.put(aPosition, tIndex);
+                mPositions.add(aPosition);
+                mMasks.add((byte) 0);
+                mValues.size(mValues.size() + KINDS);
+            }
+            mMasks.set(tIndex, (byte) (mMasks.getByte(tIndex) | 1 << aKind));
+            mValues.set(tIndex * KINDS + aKind, aValue);
+        }
+
+        private GTPacketBlockEvents toPacket() {
+            return new GTPacketBlockEvents(
+                mChunkX,
+                mChunkZ,
+                mPositions.toShortArray(),
+                mMasks.toByteArray(),
+                mValues.toByteArray());
+        }
+    }
+}
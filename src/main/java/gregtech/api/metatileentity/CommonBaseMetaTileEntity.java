@@ -43,6 +43,7 @@ public abstract class CommonBaseMetaTileEntity extends CoverableTileEntity imple
     private boolean hasTimeStatisticsStarted;
     private int mTimeStatisticsIndex = 0;
     private int mLagWarningCount = 0;
+    private TickProfiler.Histogram[] mTickProfilerHistograms;
 
     protected boolean createNewMetatileEntity(short aID) {
         if (aID <= 0 || aID >= GregTechAPI.METATILEENTITIES.length || GregTechAPI.METATILEENTITIES[aID] == null) {
@@ -69,8 +70,9 @@ public abstract class CommonBaseMetaTileEntity extends CoverableTileEntity imple
     public final void updateEntity() {
         super.updateEntity();
 
+        final boolean tProfiling = TickProfiler.isRunning();
         long tTime;
-        if (hasTimeStatisticsStarted) {
+        if (hasTimeStatisticsStarted || tProfiling) {
             tTime = System.nanoTime();
         } else {
             tTime = 0;
@@ -89,6 +91,17 @@ public abstract class CommonBaseMetaTileEntity extends CoverableTileEntity imple
             }
         }
 
+        if (tProfiling && isServerSide() && hasValidMetaTileEntity()) {
+            mTickProfilerHistograms = TickProfiler.getHistograms(this, mTickProfilerHistograms);
+            if (mTickProfilerHistograms != null) {
+                final long tDuration = System.nanoTime() - tTime;
+                for (TickProfiler.Histogram tHistogram : mTickProfilerHistograms) tHistogram.record(tDuration);
+            }
+        } else if (!tProfiling) {
+            // let go of the histograms of a stopped session
+            mTickProfilerHistograms = null;
+        }
+
         if (isServerSide() && hasTimeStatisticsStarted && hasValidMetaTileEntity()) {
             tTime = System.nanoTime() - tTime;
             mTimeStatisticsIndex = (mTimeStatisticsIndex + 1) % mTimeStatistics.length;
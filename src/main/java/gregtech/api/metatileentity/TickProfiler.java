@@ -0,0 +1,244 @@
+package gregtech.api.metatileentity;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server wide tick times of all machines, summed up by machine class, meta ID, chunk and owner.
+ * <p>
+ * While a session is running, every machine adds the time of its tick to one histogram of each of these groups. A
+ * machine looks its histograms up once per session and keeps them, so recording a tick only takes a few atomic
+ * additions. Started, stopped and dumped with "/gt tick_profiler".
+ */
+public final class TickProfiler {
+
+    public enum Group {
+
+        CLASS,
+        META_ID,
+        CHUNK,
+        OWNER
+    }
+
+    private static volatile Session sSession;
+
+    private TickProfiler() {}
+
+    public static boolean isRunning() {
+        return sSession != null;
+    }
+
+    /**
+     * Starts a new session, dropping the current one.
+     */
+    public static void start() {
+        sSession = new Session();
+    }
+
+    /**
+     * @return The session that has been running, or null if none was
+     */
+    public static Session stop() {
+        final Session tSession = sSession;
+        sSession = null;
+        return tSession;
+    }
+
+    public static Session getSession() {
+        return sSession;
+    }
+
+    /**
+     * @return The histograms of the given machine for the running session, reusing the given ones if they are still
+     *         for it, or null if no session is running
+     */
+    static Histogram[] getHistograms(CommonBaseMetaTileEntity aTileEntity, Histogram[] aHistograms) {
+        final Session tSession = sSession;
+        if (tSession == null) return null;
+        if (aHistograms != null && aHistograms[0].mSession == tSession
+            && aHistograms[Group.META_ID.ordinal()].mMetaID == aTileEntity.getMetaTileID()) return aHistograms;
+        final Histogram[] tHistograms = new Histogram[Group.values().length];
+        tHistograms[Group.CLASS.ordinal()] = tSession.get(
+            Group.CLASS,
+            aTileEntity.getMetaTileEntity()
+                .getClass()
+                .getName(),
+            0);
+        tHistograms[Group.META_ID.ordinal()] = tSession.get(
+            Group.META_ID,
+            aTileEntity.getMetaTileID() + " " + aTileEntity.getMetaTileEntity()
+                .getMetaName(),
+            aTileEntity.getMetaTileID());
+        tHistograms[Group.CHUNK.ordinal()] = tSession.get(
+            Group.CHUNK,
+            "DIM " + aTileEntity.getWorld().provider.dimensionId
+                + " "
+                + (aTileEntity.getXCoord() >> 4)
+                + " "
+                + (aTileEntity.getZCoord() >> 4),
+            0);
+        tHistograms[Group.OWNER.ordinal()] = tSession.get(Group.OWNER, String.valueOf(aTileEntity.getOwnerName()), 0);
+        return tHistograms;
+    }
+
+    public static final class Session {
+
+        private final long mStartTime = System.currentTimeMillis();
+        private final Map<Group, ConcurrentHashMap<String, Histogram>> mGroups = new ConcurrentHashMap<>();
+
+        private Session() {
+            for (Group tGroup : Group.values()) {
+                mGroups.put(tGroup, new ConcurrentHashMap<>());
+            }
+        }
+
+        private Histogram get(Group aGroup, String aKey, int aMetaID) {
+            return mGroups.get(aGroup)
+                .computeIfAbsent(aKey, k -> new Histogram(this, k, aMetaID));
+        }
+
+        /**
+         * @return Histograms of the given group, the ones with the most time in total first
+         */
+        public List<Histogram> getHistograms(Group aGroup) {
+            final List<Histogram> tHistograms = new ArrayList<>(
+                mGroups.get(aGroup)
+                    .values());
+            tHistograms.sort(Comparator.comparingLong(Histogram::getTotalNanos)
+                .reversed());
+            return tHistograms;
+        }
+
+        public long getDurationMillis() {
+            return System.currentTimeMillis() - mStartTime;
+        }
+
+        /**
+         * Writes all histograms of this session to a CSV file in the given directory.
+         *
+         * @return The file written to
+         */
+        public File dump(File aDirectory) throws IOException {
+            final File tFile = new File(
+                aDirectory,
+                "GregTech-TickProfile-" + new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date(mStartTime))
+                    + ".csv");
+            try (BufferedWriter tWriter = Files.newBufferedWriter(tFile.toPath(), StandardCharsets.UTF_8)) {
+                tWriter.write("group,key,ticks,total_ns,mean_ns,p50_ns,p99_ns,max_ns");
+                tWriter.newLine();
+                for (Group tGroup : Group.values()) {
+                    for (Histogram tHistogram : getHistograms(tGroup)) {
+                        final long tTicks = tHistogram.getTicks();
+                        if (tTicks == 0) continue;
+                        tWriter.write(
+                            tGroup.name() + ",\""
+                                + tHistogram.mKey.replace("\"", "\"\"")
+                                + "\","
+                                + tTicks
+                                + ","
+                                + tHistogram.getTotalNanos()
+                                + ","
+                                + tHistogram.getTotalNanos() / tTicks
+                                + ","
+                                + tHistogram.getPercentile(0.5)
+                                + ","
+                                + tHistogram.getPercentile(0.99)
+                                + ","
+                                + tHistogram.getMaxNanos());
+                        tWriter.newLine();
+                    }
+                }
+            }
+            return tFile;
+        }
+    }
+
+    /**
+     * Tick times in buckets that are at most 1/8 of their value wide, up to the longest time a long can hold.
+     */
+    public static final class Histogram {
+
+        private static final int SUB_BUCKET_BITS = 3;
+        private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+        // times below this each get their own bucket
+        private static final int LINEAR_BUCKETS = SUB_BUCKETS * 2;
+        private static final int BUCKETS = LINEAR_BUCKETS + (Long.SIZE - SUB_BUCKET_BITS - 2) * SUB_BUCKETS;
+
+        private final Session mSession;
+        private final int mMetaID;
+        public final String mKey;
+        private final AtomicLongArray mBuckets = new AtomicLongArray(BUCKETS);
+        private final LongAdder mTicks = new LongAdder();
+        private final LongAdder mTotalNanos = new LongAdder();
+        private final AtomicLong mMaxNanos = new AtomicLong();
+
+        private Histogram(Session aSession, String aKey, int aMetaID) {
+            mSession = aSession;
+            mKey = aKey;
+            mMetaID = aMetaID;
+        }
+
+        private static int getBucket(long aNanos) {
+            if (aNanos < LINEAR_BUCKETS) return (int) aNanos;
+            final int tShift = Long.SIZE - 1 - Long.numberOfLeadingZeros(aNanos) - SUB_BUCKET_BITS;
+            return LINEAR_BUCKETS + (tShift - 1) * SUB_BUCKETS + (int) (aNanos >>> tShift) - SUB_BUCKETS;
+        }
+
+        private static long getBucketMax(int aBucket) {
+            if (aBucket < LINEAR_BUCKETS) return aBucket;
+            final int tShift = (aBucket - LINEAR_BUCKETS) / SUB_BUCKETS + 1;
+            final long tMin = (long) ((aBucket - LINEAR_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS) << tShift;
+            return tMin + (1L << tShift) - 1;
+        }
+
+        void record(long aNanos) {
+            if (aNanos < 0) return;
+            mBuckets.incrementAndGet(getBucket(aNanos));
+            mTicks.increment();
+            mTotalNanos.add(aNanos);
+            long tMax = mMaxNanos.get();
+            while (aNanos > tMax && !mMaxNanos.compareAndSet(tMax, aNanos)) tMax = mMaxNanos.get();
+        }
+
+        public long getTicks() {
+            return mTicks.sum();
+        }
+
+        public long getTotalNanos() {
+            return mTotalNanos.sum();
+        }
+
+        public long getMaxNanos() {
+            return mMaxNanos.get();
+        }
+
+        /**
+         * @return Upper end of the bucket the given share of ticks is at or below, in nanoseconds
+         */
+        public long getPercentile(double aShare) {
+            long tTotal = 0;
+            for (int i = 0; i < BUCKETS; i++) tTotal += mBuckets.get(i);
+            if (tTotal == 0) return 0;
+            final long tTarget = Math.max(1, (long) Math.ceil(tTotal * aShare));
+            long tCount = 0;
+            for (int i = 0; i < BUCKETS; i++) {
+                tCount += mBuckets.get(i);
+                if (tCount >= tTarget) return Math.min(getBucketMax(i), getMaxNanos());
+            }
+            return getMaxNanos();
+        }
+    }
+}
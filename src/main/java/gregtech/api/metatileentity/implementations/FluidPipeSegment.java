@@ -0,0 +1,167 @@
+package gregtech.api.metatileentity.implementations;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+import net.minecraftforge.fluids.IFluidHandler;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * A run of Fluid Pipes without branches, made of the Pipes connected to exactly two other Fluid Pipes and nothing else.
+ * <p>
+ * The whole run is updated at once by whichever of its Pipes ticks first, at most once every 5 ticks like a single
+ * Pipe. Each Pipe still keeps its own Fluids, but only ever passes them on to one of its two neighbours, which are
+ * kept here along with the sides they are on, so no sides have to be looked at or covers checked while distributing.
+ * The segment stays valid as long as none of its Pipes have been connected, disconnected, covered, replaced or
+ * unloaded.
+ */
+final class FluidPipeSegment {
+
+    private static final int UPDATE_INTERVAL = 5;
+
+    private final MTEFluidPipe[] pipes;
+    private final IGregTechTileEntity[] bases;
+    private final byte[] connections;
+    private final byte[] disabledInput;
+    // the two neighbours of each Pipe, and the sides of the Pipe they are on
+    private final BaseMetaPipeEntity[] neighbours;
+    private final ForgeDirection[] neighbourSides;
+    private long lastUpdate = Long.MIN_VALUE;
+    private boolean valid = true;
+
+    private FluidPipeSegment(ObjectArrayList<MTEFluidPipe> aPipes) {
+        pipes = aPipes.toArray(new MTEFluidPipe[0]);
+        bases = new IGregTechTileEntity[pipes.length];
+        connections = new byte[pipes.length];
+        disabledInput = new byte[pipes.length];
+        neighbours = new BaseMetaPipeEntity[pipes.length * 2];
+        neighbourSides = new ForgeDirection[pipes.length * 2];
+        for (int i = 0; i < pipes.length; i++) {
+            final MTEFluidPipe tPipe = pipes[i];
+            bases[i] = tPipe.getBaseMetaTileEntity();
+            connections[i] = tPipe.mConnections;
+            disabledInput[i] = tPipe.mDisableInput;
+            int n = i * 2;
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                if (!tPipe.isConnectedAtSide(side)) continue;
+                neighbours[n] = (BaseMetaPipeEntity) bases[i].getTileEntityAtSide(side);
+                neighbourSides[n++] = side;
+            }
+            tPipe.setSegment(this, i);
+        }
+    }
+
+    /**
+     * @return New segment the given Pipe is part of, or null if it has branches or anything but Fluid Pipes next to it
+     */
+    static FluidPipeSegment build(MTEFluidPipe aPipe) {
+        if (!isInner(aPipe)) return null;
+        final ObjectArrayList<MTEFluidPipe> tPipes = new ObjectArrayList<>();
+        // walk to one end of the run first, then collect the Pipes from there on
+        MTEFluidPipe tStart = aPipe;
+        MTEFluidPipe tFrom = null;
+        for (MTEFluidPipe tNext; (tNext = getNextInner(tStart, tFrom)) != null && tNext != aPipe;) {
+            tFrom = tStart;
+            tStart = tNext;
+        }
+        tFrom = null;
+        for (MTEFluidPipe tPipe = tStart, tNext; tPipe != null; tFrom = tPipe, tPipe = tNext) {
+            tPipes.add(tPipe);
+            tNext = getNextInner(tPipe, tFrom);
+            // runs may be closed loops
+            if (tNext == tStart) break;
+        }
+        // a single Pipe gains nothing from being a segment
+        if (tPipes.size() < 2) return null;
+        return new FluidPipeSegment(tPipes);
+    }
+
+    private static boolean isInner(MTEFluidPipe aPipe) {
+        final IGregTechTileEntity tBase = aPipe.getBaseMetaTileEntity();
+        if (tBase == null || tBase.isDead()) return false;
+        int tCount = 0;
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (!aPipe.isConnectedAtSide(side)) continue;
+            if (++tCount > 2 || tBase.hasCoverAtSide(side)) return false;
+            if (!(tBase.getTileEntityAtSide(side) instanceof BaseMetaPipeEntity tNext)
+                || !(tNext.getMetaTileEntity() instanceof MTEFluidPipe)
+                || tNext.hasCoverAtSide(side.getOpposite())) return false;
+        }
+        return tCount == 2;
+    }
+
+    private static MTEFluidPipe getNextInner(MTEFluidPipe aPipe, MTEFluidPipe aFrom) {
+        final IGregTechTileEntity tBase = aPipe.getBaseMetaTileEntity();
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (!aPipe.isConnectedAtSide(side)) continue;
+            final TileEntity tTileEntity = tBase.getTileEntityAtSide(side);
+            if (tTileEntity instanceof BaseMetaPipeEntity tNext
+                && tNext.getMetaTileEntity() instanceof MTEFluidPipe tNextPipe
+                && tNextPipe != aFrom
+                && isInner(tNextPipe)) return tNextPipe;
+        }
+        return null;
+    }
+
+    boolean isValid() {
+        return valid;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Updates all Pipes of the segment, unless that has already happened in the last 5 ticks.
+     */
+    void update(long aWorldTime) {
+        if (aWorldTime - lastUpdate < UPDATE_INTERVAL) return;
+        lastUpdate = aWorldTime;
+        if (!isUpToDate()) {
+            invalidate();
+            return;
+        }
+        for (int i = 0; i < pipes.length && valid; i++) {
+            // Pipes can burn down while updating
+            if (bases[i].isDead()) {
+                invalidate();
+                return;
+            }
+            pipes[i].updateFluids(bases[i]);
+        }
+    }
+
+    private boolean isUpToDate() {
+        for (int i = 0; i < pipes.length; i++) {
+            final MTEFluidPipe tPipe = pipes[i];
+            if (bases[i].isDead() || bases[i].getMetaTileEntity() != tPipe
+                || tPipe.mConnections != connections[i]
+                || tPipe.mDisableInput != disabledInput[i]) return false;
+            for (int n = i * 2; n < i * 2 + 2; n++) {
+                final BaseMetaPipeEntity tNeighbour = neighbours[n];
+                if (tNeighbour.isDead() || bases[i].hasCoverAtSide(neighbourSides[n])
+                    || tNeighbour.hasCoverAtSide(neighbourSides[n].getOpposite())) return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collects the neighbours of a Pipe of this segment which it can pass Fluids on to.
+     *
+     * @param aIndex Position of the Pipe in this segment
+     * @return the number of neighbours put into the arrays
+     */
+    int getTargets(int aIndex, byte aLastReceivedFrom, IFluidHandler[] aTanks, ForgeDirection[] aSides) {
+        int tCount = 0;
+        for (int n = aIndex * 2; n < aIndex * 2 + 2; n++) {
+            final ForgeDirection side = neighbourSides[n];
+            if ((aLastReceivedFrom & side.flag) != 0) continue;
+            aTanks[tCount] = neighbours[n];
+            aSides[tCount++] = side.getOpposite();
+        }
+        return tCount;
+    }
+}
@@ -0,0 +1,302 @@
+package gregtech.api.metatileentity.implementations;
+
+import java.util.Arrays;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraftforge.common.util.ForgeDirection;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import gregtech.api.metatileentity.BaseMetaPipeEntity;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.ints.IntArrayFIFOQueue;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrays;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+
+/**
+ * Item Pipes connected to each other, along with a routing table for every Pipe Items have been sent from.
+ * <p>
+ * The Network is shared by all of its Pipes and stays valid until one of them notices that its connections, colour,
+ * neighbours or covers have changed, see {@link MTEItemPipe#getNetworkSignature()}. The next Pipe to send Items then
+ * builds a new one. Routing is then only a walk over the reachable destinations instead of scanning all Pipes.
+ */
+final class ItemPipeNetwork {
+
+    private final MTEItemPipe[] pipes;
+    private final Reference2IntOpenHashMap<MTEItemPipe> indices;
+    // Pipes Items can pass into from each Pipe, edgeStart[i] until edgeStart[i + 1]
+    private final int[] edgeStart;
+    private final int[] edgeTarget;
+    private final byte[] edgeSide;
+    // Pipes with a connected side that isn't facing another Pipe
+    private final boolean[] destination;
+    private final Int2ObjectOpenHashMap<Routes> routes = new Int2ObjectOpenHashMap<>();
+    private boolean valid = true;
+
+    private ItemPipeNetwork(MTEItemPipe[] pipes, Reference2IntOpenHashMap<MTEItemPipe> indices) {
+        this.pipes = pipes;
+        this.indices = indices;
+        this.destination = new boolean[pipes.length];
+
+        final IntArrayList tEdgeStart = new IntArrayList(pipes.length + 1);
+        final IntArrayList tEdgeTarget = new IntArrayList();
+        final IntArrayList tEdgeSide = new IntArrayList();
+        for (int i = 0; i < pipes.length; i++) {
+            tEdgeStart.add(tEdgeTarget.size());
+            final IGregTechTileEntity tBase = pipes[i].getBaseMetaTileEntity();
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                if (!pipes[i].isConnectedAtSide(side)) continue;
+                final TileEntity tTileEntity = tBase.getTileEntityAtSide(side);
+                if (!(tTileEntity instanceof BaseMetaPipeEntity tNext)) {
+                    destination[i] = true;
+                    continue;
+                }
+                if (!(tNext.getMetaTileEntity() instanceof MTEItemPipe tNextPipe)) continue;
+                final int tTarget = indices.getInt(tNextPipe);
+                if (tTarget < 0 || !canPass(tBase, side, tNext)) continue;
+                tEdgeTarget.add(tTarget);
+                tEdgeSide.add(side.ordinal());
+            }
+        }
+        tEdgeStart.add(tEdgeTarget.size());
+        this.edgeStart = tEdgeStart.toIntArray();
+        this.edgeTarget = tEdgeTarget.toIntArray();
+        this.edgeSide = new byte[tEdgeSide.size()];
+        for (int e = 0; e < edgeSide.length; e++) {
+            edgeSide[e] = (byte) tEdgeSide.getInt(e);
+        }
+    }
+
+    /**
+     * Collects all Pipes connected to the given one and makes them share a new Network.
+     */
+    static ItemPipeNetwork build(MTEItemPipe aPipe) {
+        final ObjectArrayList<MTEItemPipe> tPipes = new ObjectArrayList<>();
+        final Reference2IntOpenHashMap<MTEItemPipe> tIndices = new Reference2IntOpenHashMap<>();
+        tIndices.defaultReturnValue(-1);
+        tIndices.put(aPipe, 0);
+        tPipes.add(aPipe);
+        for (int tHead = 0; tHead < tPipes.size(); tHead++) {
+            final MTEItemPipe tPipe = tPipes.get(tHead);
+            final IGregTechTileEntity tBase = tPipe.getBaseMetaTileEntity();
+            for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+                final TileEntity tTileEntity = tBase.getTileEntityAtSide(side);
+                if (!(tTileEntity instanceof BaseMetaPipeEntity tNext)
+                    || !(tNext.getMetaTileEntity() instanceof MTEItemPipe tNextPipe)
+                    || tIndices.containsKey(tNextPipe)) continue;
+                if (!tPipe.isConnectedAtSide(side) && !tNextPipe.isConnectedAtSide(side.getOpposite())) continue;
+                tIndices.put(tNextPipe, tPipes.size());
+                tPipes.add(tNextPipe);
+            }
+        }
+
+        final ItemPipeNetwork tNetwork = new ItemPipeNetwork(tPipes.toArray(new MTEItemPipe[0]), tIndices);
+        for (MTEItemPipe tPipe : tNetwork.pipes) {
+            tPipe.setNetwork(tNetwork);
+        }
+        return tNetwork;
+    }
+
+    /**
+     * Same checks as {@link gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe.Util#scanPipes}, except
+     * for the connection, which is part of the Network.
+     */
+    private static boolean canPass(IGregTechTileEntity aFrom, ForgeDirection side, IGregTechTileEntity aTo) {
+        if (!aFrom.getCoverAtSide(side)
+            .letsItemsOut(-2)) return false;
+        if (aFrom.getColorization() >= 0) {
+            final byte tColor = aTo.getColorization();
+            if (tColor >= 0 && tColor != aFrom.getColorization()) return false;
+        }
+        return aTo.getCoverAtSide(side.getOpposite())
+            .letsItemsIn(-2);
+    }
+
+    boolean isValid() {
+        return valid;
+    }
+
+    void invalidate() {
+        valid = false;
+        routes.clear();
+    }
+
+    /**
+     * @return Destinations reachable from the given Pipe, or null if it isn't part of this Network.
+     */
+    Routes getRoutes(MTEItemPipe aSource) {
+        final int tSource = indices.getInt(aSource);
+        if (tSource < 0) return null;
+        Routes tRoutes = routes.get(tSource);
+        if (tRoutes == null) {
+            tRoutes = new Routes(tSource);
+            routes.put(tSource, tRoutes);
+        }
+        return tRoutes;
+    }
+
+    /**
+     * Shortest routes from one Pipe to all destinations, by the sum of the step sizes along the way like
+     * {@link gregtech.api.interfaces.metatileentity.IMetaTileEntityItemPipe.Util#scanPipes} does. Pipes already at
+     * their capacity and covers are checked when a route is used, since those can change at any time. If they block
+     * the route to a destination, a detour around them can be looked for.
+     */
+    final class Routes {
+
+        private final int source;
+        // destinations, sorted by distance and then by capacity
+        private final int[] destinations;
+        // previous Pipe on the route to each Pipe, and the side of it the route leaves through
+        private final int[] previous;
+        private final byte[] previousSide;
+        // same for the detours, only through Pipes and covers Items can pass right now
+        private int[] detourPrevious;
+        private byte[] detourPreviousSide;
+        private boolean detoursFound;
+
+        private Routes(int aSource) {
+            source = aSource;
+            final long[] tDistance = new long[pipes.length];
+            previous = new int[pipes.length];
+            previousSide = new byte[pipes.length];
+            findRoutes(tDistance, previous, previousSide, false);
+
+            final IntArrayList tDestinations = new IntArrayList();
+            for (int i = 0; i < pipes.length; i++) {
+                if (destination[i] && tDistance[i] != Long.MAX_VALUE) tDestinations.add(i);
+            }
+            destinations = tDestinations.toIntArray();
+            IntArrays.quickSort(destinations, (a, b) -> {
+                if (tDistance[a] != tDistance[b]) return Long.compare(tDistance[a], tDistance[b]);
+                return Integer.compare(pipes[b].getPipeCapacity(), pipes[a].getPipeCapacity());
+            });
+        }
+
+        /**
+         * Fills in the shortest routes from the source to every Pipe.
+         *
+         * @param aPassableOnly Whether to only go through Pipes with capacity left and covers letting Items pass
+         */
+        private void findRoutes(long[] aDistance, int[] aPrevious, byte[] aPreviousSide, boolean aPassableOnly) {
+            Arrays.fill(aDistance, Long.MAX_VALUE);
+            Arrays.fill(aPrevious, -1);
+
+            // step sizes may be negative, so distances are corrected until nothing changes, like scanPipes does
+            final int[] tRelaxed = new int[pipes.length];
+            final boolean[] tQueued = new boolean[pipes.length];
+            final IntArrayFIFOQueue tQueue = new IntArrayFIFOQueue();
+            aDistance[source] = pipes[source].getStepSize();
+            tQueue.enqueue(source);
+            tQueued[source] = true;
+            while (!tQueue.isEmpty()) {
+                final int tPipe = tQueue.dequeueInt();
+                tQueued[tPipe] = false;
+                for (int e = edgeStart[tPipe]; e < edgeStart[tPipe + 1]; e++) {
+                    final int tNext = edgeTarget[e];
+                    if (tNext == source) continue;
+                    final long tStep = aDistance[tPipe] + pipes[tNext].getStepSize();
+                    if (tStep >= aDistance[tNext]) continue;
+                    if (aPassableOnly && !canPassNow(tPipe, ForgeDirection.getOrientation(edgeSide[e]), tNext)) {
+                        continue;
+                    }
+                    // a Pipe can't be corrected more often than there are Pipes, unless step sizes loop
+                    if (tRelaxed[tNext]++ > pipes.length) continue;
+                    aDistance[tNext] = tStep;
+                    aPrevious[tNext] = tPipe;
+                    aPreviousSide[tNext] = edgeSide[e];
+                    if (!tQueued[tNext]) {
+                        tQueued[tNext] = true;
+                        tQueue.enqueue(tNext);
+                    }
+                }
+            }
+        }
+
+        // whether Items can go from one Pipe into the next one right now
+        private boolean canPassNow(int aFrom, ForgeDirection aSide, int aTo) {
+            final IGregTechTileEntity tBase = pipes[aTo].getBaseMetaTileEntity();
+            if (tBase == null || tBase.isInvalidTileEntity() || !pipes[aTo].pipeCapacityCheck()) return false;
+            final IGregTechTileEntity tFromBase = pipes[aFrom].getBaseMetaTileEntity();
+            return tFromBase != null && tFromBase.getCoverAtSide(aSide)
+                .letsItemsOut(-2)
+                && tBase.getCoverAtSide(aSide.getOpposite())
+                    .letsItemsIn(-2);
+        }
+
+        int size() {
+            return destinations.length;
+        }
+
+        MTEItemPipe getDestination(int aIndex) {
+            return pipes[destinations[aIndex]];
+        }
+
+        /**
+         * Forgets the detours found so far, as Pipes on them may have reached their capacity since.
+         */
+        void resetDetours() {
+            detoursFound = false;
+        }
+
+        /**
+         * Looks for a detour to a destination whose route isn't {@link #isPassable passable}, through parallel Pipes
+         * which have capacity left and covers letting Items pass. Detours to all destinations are found at once, and
+         * kept until {@link #resetDetours}.
+         *
+         * @return If there is such a detour
+         */
+        boolean hasDetour(int aIndex) {
+            if (!detoursFound) {
+                if (detourPrevious == null) {
+                    detourPrevious = new int[pipes.length];
+                    detourPreviousSide = new byte[pipes.length];
+                }
+                findRoutes(new long[pipes.length], detourPrevious, detourPreviousSide, true);
+                detoursFound = true;
+            }
+            return detourPrevious[destinations[aIndex]] >= 0;
+        }
+
+        /**
+         * @return If all Pipes on the route to a destination have capacity left and all covers let Items pass.
+         */
+        boolean isPassable(int aIndex) {
+            int tPipe = destinations[aIndex];
+            for (int tSteps = 0; tSteps <= pipes.length; tSteps++) {
+                final IGregTechTileEntity tBase = pipes[tPipe].getBaseMetaTileEntity();
+                if (tBase == null || tBase.isInvalidTileEntity() || !pipes[tPipe].pipeCapacityCheck()) return false;
+                if (tPipe == source) return true;
+                final int tPrevious = previous[tPipe];
+                if (tPrevious < 0) return false;
+                final ForgeDirection tSide = ForgeDirection.getOrientation(previousSide[tPipe]);
+                final IGregTechTileEntity tPreviousBase = pipes[tPrevious].getBaseMetaTileEntity();
+                if (tPreviousBase == null || !tPreviousBase.getCoverAtSide(tSide)
+                    .letsItemsOut(-2)
+                    || !tBase.getCoverAtSide(tSide.getOpposite())
+                        .letsItemsIn(-2))
+                    return false;
+                tPipe = tPrevious;
+            }
+            return false;
+        }
+
+        /**
+         * Counts a transfer for all Pipes on the route to a destination.
+         *
+         * @param aDetour Whether the transfer went along the {@link #hasDetour detour}
+         * @return false if any of these Pipes has reached its capacity
+         */
+        boolean incrementTransferCounters(int aIndex, boolean aDetour) {
+            final int[] tPrevious = aDetour ? detourPrevious : previous;
+            boolean tCapacityLeft = true;
+            int tPipe = destinations[aIndex];
+            for (int tSteps = 0; tSteps <= pipes.length && tPipe >= 0; tSteps++) {
+                if (!pipes[tPipe].incrementTransferCounter(1)) tCapacityLeft = false;
+                if (tPipe == source) break;
+                tPipe = tPrevious[tPipe];
+            }
+            return tCapacityLeft;
+        }
+    }
+}
@@ -110,6 +110,8 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
     public boolean mAllowInputFromOutputSide = false, mFluidTransfer = false, mItemTransfer = false,
         mHasBeenUpdated = false, mStuttering = false, mCharge = false, mDecharge = false;
     private int errorDisplayID;
+    // tick this machine has gone to sleep at, 0 if it hasn't
+    private long mSleepTick = 0;
     public boolean mDisableFilter = true;
     public boolean mDisableMultiStack = true;
     public int mProgresstime = 0, mMaxProgresstime = 0, mEUt = 0, mOutputBlocked = 0;
@@ -555,6 +557,11 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
         super.onPostTick(aBaseMetaTileEntity, aTick);
 
         if (aBaseMetaTileEntity.isServerSide()) {
+            if (mSleepTick != 0) {
+                // count the ticks slept through as well
+                if (mOutputBlocked != 0) mOutputBlocked += (int) (aTick - mSleepTick - 1);
+                mSleepTick = 0;
+            }
             mCharge = aBaseMetaTileEntity.getStoredEU() / 2 > aBaseMetaTileEntity.getEUCapacity() / 3;
             mDecharge = aBaseMetaTileEntity.getStoredEU() < aBaseMetaTileEntity.getEUCapacity() / 3;
 
@@ -686,6 +693,20 @@ public abstract class MTEBasicMachine extends MTEBasicTank implements RecipeMapW
                                                          // 0));
     }
 
+    /**
+     * Lets an idle machine sleep until it would next check for a recipe or try to output on its own. Anything else that
+     * could let it start working, like its inventory changing or energy arriving, wakes it up earlier.
+     */
+    protected void trySleep(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
+        if (mMaxProgresstime > 0 || !allowToCheckRecipe() || aBaseMetaTileEntity.isSleeping()) return;
+        long tTicks = 600 - aTick % 600;
+        if (doesAutoOutputFluids() && getDrainableStack() != null) tTicks = Math.min(tTicks, 20 - aTick % 20);
+        if (mOutputBlocked != 0) tTicks = Math.min(tTicks, 1 + Math.floorMod(1 - mOutputBlocked, 300));
+        if (tTicks <= 1) return;
+        aBaseMetaTileEntity.sleep((int) tTicks);
+        if (aBaseMetaTileEntity.isSleeping()) mSleepTick = aTick;
+    }
+
     protected void doDisplayThings() {
         if (!isValidMainFacing(mMainFacing) && isValidMainFacing(getBaseMetaTileEntity().getFrontFacing())) {
             mMainFacing = getBaseMetaTileEntity().getFrontFacing();
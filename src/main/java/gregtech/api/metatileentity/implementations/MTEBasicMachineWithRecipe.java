@@ -631,6 +631,12 @@ public class MTEBasicMachineWithRecipe extends MTEBasicMachine {
         return true;
     }
 
+    @Override
+    public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
+        super.onPostTick(aBaseMetaTileEntity, aTick);
+        if (aBaseMetaTileEntity.isServerSide()) trySleep(aBaseMetaTileEntity, aTick);
+    }
+
     @Override
     public void onPreTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
         super.onPreTick(aBaseMetaTileEntity, aTick);
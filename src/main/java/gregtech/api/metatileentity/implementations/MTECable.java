@@ -25,11 +25,7 @@ import gregtech.api.enums.Dyes;
 import gregtech.api.enums.Materials;
 import gregtech.api.enums.TextureSet;
 import gregtech.api.enums.Textures;
-import gregtech.api.graphs.Node;
-import gregtech.api.graphs.NodeList;
 import gregtech.api.graphs.PowerNode;
-import gregtech.api.graphs.PowerNodes;
-import gregtech.api.graphs.consumers.ConsumerNode;
 import gregtech.api.graphs.paths.PowerNodePath;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.metatileentity.IConnectable;
@@ -216,19 +212,11 @@ public class MTECable extends MetaPipeEntity implements IMetaTileEntityCable {
             return 0;
         final BaseMetaPipeEntity tBase = (BaseMetaPipeEntity) getBaseMetaTileEntity();
         if (!(tBase.getNode() instanceof PowerNode tNode)) return 0;
-        int tPlace = 0;
-        final Node[] tToPower = new Node[tNode.mConsumers.size()];
-        if (tNode.mHadVoltage) {
-            for (ConsumerNode consumer : tNode.mConsumers) {
-                if (consumer.needsEnergy()) tToPower[tPlace++] = consumer;
-            }
-        } else {
-            tNode.mHadVoltage = true;
-            for (ConsumerNode consumer : tNode.mConsumers) {
-                tToPower[tPlace++] = consumer;
-            }
-        }
-        return PowerNodes.powerNode(tNode, null, new NodeList(tToPower), (int) voltage, (int) amperage);
+        // the first time the network gets energy, apply voltage to all of it
+        final boolean tAllConsumers = !tNode.mHadVoltage;
+        tNode.mHadVoltage = true;
+        return tNode.getFlowGraph()
+            .transferEnergy(tNode, (int) voltage, (int) amperage, tAllConsumers);
     }
 
     @Override
@@ -36,8 +36,6 @@ import net.minecraftforge.fluids.FluidStack;
 import net.minecraftforge.fluids.FluidTankInfo;
 import net.minecraftforge.fluids.IFluidHandler;
 
-import org.apache.commons.lang3.tuple.MutableTriple;
-
 import cpw.mods.fml.common.Optional;
 import gregtech.GTMod;
 import gregtech.api.enums.Dyes;
@@ -112,6 +110,18 @@ public class MTEFluidPipe extends MetaPipeEntity {
      */
     public byte mDisableInput = 0;
 
+    private static final int SEGMENT_RETRY_INTERVAL = 20;
+    // Shared by all Pipes while distributing, which only happens on the server thread
+    private static final IFluidHandler[] sDistributionTanks = new IFluidHandler[6];
+    private static final ForgeDirection[] sDistributionSides = new ForgeDirection[6];
+    private static final int[] sDistributionCapacities = new int[6];
+
+    private FluidPipeSegment mSegment;
+    private int mSegmentIndex;
+    private int mSegmentRetry;
+    // Fluid this Pipe asks tanks about how much they can take
+    private FluidStack mProbeFluid;
+
     public MTEFluidPipe(int aID, String aName, String aNameRegional, float aThickNess, Materials aMaterial,
         int aCapacity, int aHeatResistance, boolean aGasProof) {
         this(aID, aName, aNameRegional, aThickNess, aMaterial, aCapacity, aHeatResistance, aGasProof, 1);
@@ -289,29 +299,69 @@ public class MTEFluidPipe extends MetaPipeEntity {
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
         super.onPostTick(aBaseMetaTileEntity, aTick);
         if (aBaseMetaTileEntity.isServerSide() && aTick % 5 == 0) {
-            mLastReceivedFrom &= 63;
-            if (mLastReceivedFrom == 63) {
+            if (!GTMod.gregtechproxy.gt6Pipe || mCheckConnections) checkConnections();
+
+            final FluidPipeSegment tSegment = getSegment();
+            if (tSegment != null) tSegment.update(
+                aBaseMetaTileEntity.getWorld()
+                    .getTotalWorldTime());
+            if (tSegment == null || !tSegment.isValid()) updateFluids(aBaseMetaTileEntity);
+        }
+    }
+
+    /**
+     * Checks the Fluids of this Pipe and distributes them, done every 5 ticks either by the Pipe itself or by the
+     * {@link FluidPipeSegment} it is part of.
+     */
+    void updateFluids(IGregTechTileEntity aBaseMetaTileEntity) {
+        mLastReceivedFrom &= 63;
+        if (mLastReceivedFrom == 63) {
+            mLastReceivedFrom = 0;
+        }
+
+        final boolean shouldDistribute = (oLastReceivedFrom == mLastReceivedFrom);
+        for (int i = 0, j = aBaseMetaTileEntity.getRandomNumber(mPipeAmount); i < mPipeAmount; i++) {
+            final int index = (i + j) % mPipeAmount;
+            if (mFluids[index] != null && mFluids[index].amount <= 0) mFluids[index] = null;
+            if (mFluids[index] == null) continue;
+
+            if (checkEnvironment(index, aBaseMetaTileEntity)) return;
+
+            if (shouldDistribute) {
+                distributeFluid(index, aBaseMetaTileEntity);
                 mLastReceivedFrom = 0;
             }
+        }
 
-            if (!GTMod.gregtechproxy.gt6Pipe || mCheckConnections) checkConnections();
+        oLastReceivedFrom = mLastReceivedFrom;
+    }
 
-            final boolean shouldDistribute = (oLastReceivedFrom == mLastReceivedFrom);
-            for (int i = 0, j = aBaseMetaTileEntity.getRandomNumber(mPipeAmount); i < mPipeAmount; i++) {
-                final int index = (i + j) % mPipeAmount;
-                if (mFluids[index] != null && mFluids[index].amount <= 0) mFluids[index] = null;
-                if (mFluids[index] == null) continue;
+    private FluidPipeSegment getSegment() {
+        if (mSegment != null && mSegment.isValid()) return mSegment;
+        mSegment = null;
+        // Pipes that aren't part of a segment only look for one every now and then
+        if (mSegmentRetry-- > 0) return null;
+        mSegmentRetry = SEGMENT_RETRY_INTERVAL;
+        return FluidPipeSegment.build(this);
+    }
 
-                if (checkEnvironment(index, aBaseMetaTileEntity)) return;
+    void setSegment(FluidPipeSegment aSegment, int aIndex) {
+        if (mSegment != null && mSegment != aSegment) mSegment.invalidate();
+        mSegment = aSegment;
+        mSegmentIndex = aIndex;
+        mSegmentRetry = 0;
+    }
 
-                if (shouldDistribute) {
-                    distributeFluid(index, aBaseMetaTileEntity);
-                    mLastReceivedFrom = 0;
-                }
-            }
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        if (mSegment != null) mSegment.invalidate();
+    }
 
-            oLastReceivedFrom = mLastReceivedFrom;
-        }
+    @Override
+    public void onUnload() {
+        super.onUnload();
+        if (mSegment != null) mSegment.invalidate();
     }
 
     private boolean checkEnvironment(int index, IGregTechTileEntity aBaseMetaTileEntity) {
@@ -387,61 +437,78 @@ public class MTEFluidPipe extends MetaPipeEntity {
         final FluidStack tFluid = mFluids[index];
         if (tFluid == null) return;
 
-        // Tank, From, Amount to receive
-        final List<MutableTriple<IFluidHandler, ForgeDirection, Integer>> tTanks = new ArrayList<>();
-        final int amount = tFluid.amount;
-        final byte tOffset = (byte) getBaseMetaTileEntity().getRandomNumber(6);
-        for (final byte i : ALL_VALID_SIDES) {
-            // Get a list of tanks accepting fluids, and what side they're on
-            final ForgeDirection side = ForgeDirection.getOrientation((i + tOffset) % 6);
-            final ForgeDirection oppositeSide = side.getOpposite();
-            final IFluidHandler tTank = aBaseMetaTileEntity.getITankContainerAtSide(side);
-            final IGregTechTileEntity gTank = tTank instanceof IGregTechTileEntity ? (IGregTechTileEntity) tTank : null;
-
-            if (isConnectedAtSide(side) && tTank != null
-                && (mLastReceivedFrom & side.flag) == 0
-                && getBaseMetaTileEntity().getCoverAtSide(side)
-                    .letsFluidOut(tFluid.getFluid())
-                && (gTank == null || gTank.getCoverAtSide(oppositeSide)
-                    .letsFluidIn(tFluid.getFluid()))) {
-                if (tTank.fill(oppositeSide, tFluid, false) > 0) {
-                    tTanks.add(new MutableTriple<>(tTank, oppositeSide, 0));
+        // Tanks accepting fluids, what side they're on and how much they can take
+        final IFluidHandler[] tTanks = sDistributionTanks;
+        final ForgeDirection[] tSides = sDistributionSides;
+        final int[] tCapacities = sDistributionCapacities;
+        int tTankCount = 0;
+        if (mSegment != null && mSegment.isValid()) {
+            // Pipes of a segment only have other Pipes without covers next to them
+            tTankCount = mSegment.getTargets(mSegmentIndex, mLastReceivedFrom, tTanks, tSides);
+        } else {
+            final byte tOffset = (byte) getBaseMetaTileEntity().getRandomNumber(6);
+            for (final byte i : ALL_VALID_SIDES) {
+                // Get a list of tanks accepting fluids, and what side they're on
+                final ForgeDirection side = ForgeDirection.getOrientation((i + tOffset) % 6);
+                final ForgeDirection oppositeSide = side.getOpposite();
+                final IFluidHandler tTank = aBaseMetaTileEntity.getITankContainerAtSide(side);
+                final IGregTechTileEntity gTank = tTank instanceof IGregTechTileEntity
+                    ? (IGregTechTileEntity) tTank
+                    : null;
+
+                if (isConnectedAtSide(side) && tTank != null
+                    && (mLastReceivedFrom & side.flag) == 0
+                    && getBaseMetaTileEntity().getCoverAtSide(side)
+                        .letsFluidOut(tFluid.getFluid())
+                    && (gTank == null || gTank.getCoverAtSide(oppositeSide)
+                        .letsFluidIn(tFluid.getFluid()))) {
+                    tTanks[tTankCount] = tTank;
+                    tSides[tTankCount++] = oppositeSide;
                 }
-                tFluid.amount = amount; // Because some mods do actually modify input fluid stack
             }
         }
 
         // How much of this fluid is available for distribution?
         final double tAmount = Math.max(1, Math.min(mCapacity * 10, tFluid.amount));
 
-        final FluidStack maxFluid = tFluid.copy();
-        maxFluid.amount = Integer.MAX_VALUE;
+        if (mProbeFluid == null || !mProbeFluid.isFluidEqual(tFluid)) mProbeFluid = tFluid.copy();
 
         double availableCapacity = 0;
-        // Calculate available capacity for distribution from all tanks
-        for (final MutableTriple<IFluidHandler, ForgeDirection, Integer> tEntry : tTanks) {
-            tEntry.right = tEntry.left.fill(tEntry.middle, maxFluid, false);
-            availableCapacity += tEntry.right;
+        int tAccepting = 0;
+        // Calculate available capacity for distribution from all tanks, dropping the ones not accepting anything
+        for (int i = 0; i < tTankCount; i++) {
+            mProbeFluid.amount = Integer.MAX_VALUE; // Because some mods do actually modify input fluid stack
+            final int tCapacity = tTanks[i].fill(tSides[i], mProbeFluid, false);
+            if (tCapacity <= 0) continue;
+            tTanks[tAccepting] = tTanks[i];
+            tSides[tAccepting] = tSides[i];
+            tCapacities[tAccepting++] = tCapacity;
+            availableCapacity += tCapacity;
         }
 
         // Now distribute
-        for (final MutableTriple<IFluidHandler, ForgeDirection, Integer> tEntry : tTanks) {
+        for (int i = 0; i < tAccepting; i++) {
+            int tShare = tCapacities[i];
             // Distribue fluids based on percentage available space at destination
-            if (availableCapacity > tAmount)
-                tEntry.right = (int) Math.floor(tEntry.right * tAmount / availableCapacity);
+            if (availableCapacity > tAmount) tShare = (int) Math.floor(tShare * tAmount / availableCapacity);
 
             // If the percent is not enough to give at least 1L, try to give 1L
-            if (tEntry.right == 0) tEntry.right = (int) Math.min(1, tAmount);
+            if (tShare == 0) tShare = (int) Math.min(1, tAmount);
 
-            if (tEntry.right <= 0) continue;
+            if (tShare <= 0) continue;
 
-            final int tFilledAmount = tEntry.left
-                .fill(tEntry.middle, drainFromIndex(tEntry.right, false, index), false);
+            final int tFilledAmount = tTanks[i].fill(tSides[i], drainFromIndex(tShare, false, index), true);
 
-            if (tFilledAmount > 0) tEntry.left.fill(tEntry.middle, drainFromIndex(tFilledAmount, true, index), true);
+            if (tFilledAmount > 0) {
+                mFluids[index].amount -= tFilledAmount;
+                if (mFluids[index].amount <= 0) mFluids[index] = null;
+            }
 
-            if (mFluids[index] == null || mFluids[index].amount <= 0) return;
+            if (mFluids[index] == null) break;
         }
+
+        // Don't keep tanks loaded through the shared arrays
+        for (int i = 0; i < tTankCount; i++) tTanks[i] = null;
     }
 
     public void connectPipeOnSide(ForgeDirection side, EntityPlayer entityPlayer) {
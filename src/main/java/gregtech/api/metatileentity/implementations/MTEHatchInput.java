@@ -20,6 +20,9 @@ import gregtech.api.util.GTUtility;
 public class MTEHatchInput extends MTEHatch {
 
     public RecipeMap<?> mRecipeMap = null;
+    private long inputModificationCount;
+    private int lastFluidID = -1;
+    private int lastFluidAmount;
 
     public MTEHatchInput(int aID, String aName, String aNameRegional, int aTier) {
         this(
@@ -132,6 +135,45 @@ public class MTEHatchInput extends MTEHatch {
         return true;
     }
 
+    @Override
+    public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTick) {
+        super.onPostTick(aBaseMetaTileEntity, aTick);
+        if (aBaseMetaTileEntity.isServerSide()
+            && (updateFluidSnapshot() | aBaseMetaTileEntity.hasInventoryBeenModified())) {
+            markInputModified();
+        }
+    }
+
+    /**
+     * Compares stored fluids with the ones seen last tick.
+     *
+     * @return Whether stored fluids have changed since the last call.
+     */
+    protected boolean updateFluidSnapshot() {
+        FluidStack fluid = getFillableStack();
+        int id = fluid == null ? -1 : fluid.getFluidID();
+        int amount = fluid == null ? 0 : fluid.amount;
+        if (id == lastFluidID && amount == lastFluidAmount) return false;
+        lastFluidID = id;
+        lastFluidAmount = amount;
+        return true;
+    }
+
+    /**
+     * Bumps {@link #getInputModificationCount()}.
+     */
+    public void markInputModified() {
+        inputModificationCount++;
+    }
+
+    /**
+     * Monotonic counter which changes whenever stored fluids of this hatch may have changed. See
+     * {@link MTEHatchInputBus#getInputModificationCount()}.
+     */
+    public long getInputModificationCount() {
+        return inputModificationCount;
+    }
+
     public void updateSlots() {
         if (mInventory[getInputSlot()] != null && mInventory[getInputSlot()].stackSize <= 0)
             mInventory[getInputSlot()] = null;
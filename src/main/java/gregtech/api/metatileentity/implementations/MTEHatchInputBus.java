@@ -48,6 +48,7 @@ public class MTEHatchInputBus extends MTEHatch implements IConfigurationCircuitS
     public boolean disableFilter = true;
     public boolean disableLimited = true;
     private int uiButtonCount = 0;
+    private long inputModificationCount;
 
     public MTEHatchInputBus(int id, String name, String nameRegional, int tier) {
         this(id, name, nameRegional, tier, getSlots(tier) + 1);
@@ -141,9 +142,29 @@ public class MTEHatchInputBus extends MTEHatch implements IConfigurationCircuitS
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTimer) {
         if (aBaseMetaTileEntity.isServerSide() && aBaseMetaTileEntity.hasInventoryBeenModified()) {
             updateSlots();
+            markInputModified();
         }
     }
 
+    /**
+     * Bumps {@link #getInputModificationCount()}. Call this if contents change in a way that doesn't go through the
+     * inventory of the base tile entity.
+     */
+    public void markInputModified() {
+        inputModificationCount++;
+    }
+
+    /**
+     * Monotonic counter which changes whenever contents of this bus may have changed. Multiblocks compare it against
+     * the value seen at their last failed recipe check, so that recipe search is skipped while nothing has changed.
+     * <p>
+     * Buses whose contents aren't stored in their own inventory (e.g. ME buses) must make sure this changes whenever
+     * available items might have changed.
+     */
+    public long getInputModificationCount() {
+        return inputModificationCount;
+    }
+
     public void updateSlots() {
         for (int i = 0; i < mInventory.length - 1; i++)
             if (mInventory[i] != null && mInventory[i].stackSize <= 0) mInventory[i] = null;
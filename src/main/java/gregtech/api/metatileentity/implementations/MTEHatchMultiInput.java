@@ -25,6 +25,7 @@ public class MTEHatchMultiInput extends MTEHatchInput implements IAddUIWidgets {
     private final FluidStack[] mStoredFluid;
     private final FluidStackTank[] fluidTanks;
     public final int mCapacityPer;
+    private long[] lastFluids;
 
     public MTEHatchMultiInput(int aID, int aSlot, String aName, String aNameRegional, int aTier) {
         super(aID, aSlot, aName, aNameRegional, aTier);
@@ -266,6 +267,24 @@ public class MTEHatchMultiInput extends MTEHatchInput implements IAddUIWidgets {
         super.onPostTick(aBaseMetaTileEntity, aTick);
     }
 
+    @Override
+    protected boolean updateFluidSnapshot() {
+        if (mStoredFluid == null) return false;
+        if (lastFluids == null || lastFluids.length != mStoredFluid.length) {
+            lastFluids = new long[mStoredFluid.length];
+        }
+        boolean changed = false;
+        for (int i = 0; i < mStoredFluid.length; i++) {
+            FluidStack fluid = mStoredFluid[i];
+            long snapshot = fluid == null ? -1 : (long) fluid.getFluidID() << 32 | fluid.amount & 0xFFFFFFFFL;
+            if (lastFluids[i] != snapshot) {
+                lastFluids[i] = snapshot;
+                changed = true;
+            }
+        }
+        return changed;
+    }
+
     @Override
     public boolean isValidSlot(int aIndex) {
         return aIndex >= 4;
@@ -3,9 +3,6 @@ package gregtech.api.metatileentity.implementations;
 import static gregtech.api.enums.GTValues.ALL_VALID_SIDES;
 import static gregtech.api.enums.Textures.BlockIcons.PIPE_RESTRICTOR;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.inventory.IInventory;
 import net.minecraft.inventory.ISidedInventory;
@@ -42,6 +39,8 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
     public ForgeDirection mLastReceivedFrom = ForgeDirection.UNKNOWN, oLastReceivedFrom = ForgeDirection.UNKNOWN;
     public boolean mIsRestrictive = false;
     private int[] cacheSides;
+    private ItemPipeNetwork mNetwork;
+    private long mNetworkSignature;
 
     public MTEItemPipe(int aID, String aName, String aNameRegional, float aThickNess, Materials aMaterial,
         int aInvSlotCount, int aStepSize, boolean aIsRestrictive, int aTickTime) {
@@ -191,25 +190,26 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
             }
 
             if (!GTMod.gregtechproxy.gt6Pipe || mCheckConnections) checkConnections();
+            checkNetwork();
 
             doTickProfilingInThisTick = true;
             if (oLastReceivedFrom == mLastReceivedFrom) {
                 doTickProfilingInThisTick = false;
 
-                final ArrayList<IMetaTileEntityItemPipe> tPipeList = new ArrayList<>();
-
-                for (boolean temp = true; temp && !isInventoryEmpty() && pipeCapacityCheck();) {
-                    temp = false;
-                    tPipeList.clear();
-                    for (IMetaTileEntityItemPipe tTileEntity : GTUtility
-                        .sortMapByValuesAcending(
-                            IMetaTileEntityItemPipe.Util.scanPipes(this, new HashMap<>(), 0, false, false))
-                        .keySet()) {
-                        if (temp) break;
-                        tPipeList.add(tTileEntity);
-                        while (!temp && !isInventoryEmpty() && tTileEntity.sendItemStack(aBaseMetaTileEntity))
-                            for (IMetaTileEntityItemPipe tPipe : tPipeList)
-                                if (!tPipe.incrementTransferCounter(1)) temp = true;
+                if (!isInventoryEmpty() && pipeCapacityCheck()) {
+                    final ItemPipeNetwork.Routes tRoutes = getNetwork().getRoutes(this);
+
+                    for (boolean temp = true; temp && !isInventoryEmpty() && pipeCapacityCheck();) {
+                        temp = false;
+                        tRoutes.resetDetours();
+                        for (int i = 0; i < tRoutes.size() && !temp; i++) {
+                            // go around full Pipes before giving up on a destination
+                            final boolean tDetour = !tRoutes.isPassable(i);
+                            if (tDetour && !tRoutes.hasDetour(i)) continue;
+                            final MTEItemPipe tTarget = tRoutes.getDestination(i);
+                            while (!temp && !isInventoryEmpty() && tTarget.sendItemStack(aBaseMetaTileEntity))
+                                if (!tRoutes.incrementTransferCounters(i, tDetour)) temp = true;
+                        }
                     }
                 }
             }
@@ -219,6 +219,55 @@ public class MTEItemPipe extends MetaPipeEntity implements IMetaTileEntityItemPi
         }
     }
 
+    private ItemPipeNetwork getNetwork() {
+        if (mNetwork == null || !mNetwork.isValid()) ItemPipeNetwork.build(this);
+        return mNetwork;
+    }
+
+    void setNetwork(ItemPipeNetwork aNetwork) {
+        mNetwork = aNetwork;
+        mNetworkSignature = getNetworkSignature();
+    }
+
+    /**
+     * Drops the Network of this Pipe and of the Pipes next to it if anything the Network has been built from changed.
+     */
+    private void checkNetwork() {
+        final long tSignature = getNetworkSignature();
+        if (tSignature == mNetworkSignature) return;
+        mNetworkSignature = tSignature;
+        if (mNetwork != null) mNetwork.invalidate();
+        // this Pipe may be new, or been connected to another Network
+        final IGregTechTileEntity tBase = getBaseMetaTileEntity();
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            if (tBase.getTileEntityAtSide(side) instanceof BaseMetaPipeEntity tNext
+                && tNext.getMetaTileEntity() instanceof MTEItemPipe tNextPipe
+                && tNextPipe.mNetwork != null) tNextPipe.mNetwork.invalidate();
+        }
+    }
+
+    /**
+     * @return Everything about this Pipe the routes through it depend on, except for its capacity
+     */
+    long getNetworkSignature() {
+        final IGregTechTileEntity tBase = getBaseMetaTileEntity();
+        long tSignature = Long.MIN_VALUE | (mConnections & 0x3F) | (long) (tBase.getColorization() + 1) << 24;
+        for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
+            final Cover tCover = tBase.getCoverAtSide(side);
+            final int tBit = 1 << side.ordinal();
+            if (tBase.getTileEntityAtSide(side) instanceof BaseMetaPipeEntity) tSignature |= tBit << 6;
+            if (tCover.letsItemsIn(-2)) tSignature |= tBit << 12;
+            if (tCover.letsItemsOut(-2)) tSignature |= tBit << 18;
+        }
+        return tSignature;
+    }
+
+    @Override
+    public void onRemoval() {
+        super.onRemoval();
+        if (mNetwork != null) mNetwork.invalidate();
+    }
+
     @Override
     public boolean onWrenchRightClick(ForgeDirection side, ForgeDirection wrenchingSide, EntityPlayer entityPlayer,
         float aX, float aY, float aZ, ItemStack aTool) {
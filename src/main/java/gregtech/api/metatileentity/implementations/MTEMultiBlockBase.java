@@ -82,6 +82,7 @@ import gregtech.api.enums.VoidingMode;
 import gregtech.api.gui.modularui.GTUITextures;
 import gregtech.api.gui.widgets.StructureErrorSyncer;
 import gregtech.api.interfaces.fluid.IFluidStore;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IItemLockable;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.modularui.IAddGregtechLogo;
@@ -119,6 +120,7 @@ import gregtech.common.tileentities.machines.IDualInputHatch;
 import gregtech.common.tileentities.machines.IDualInputInventory;
 import gregtech.common.tileentities.machines.IRecipeProcessingAwareHatch;
 import gregtech.common.tileentities.machines.ISmartInputHatch;
+import gregtech.common.tileentities.machines.MEExtractionBatch;
 import gregtech.common.tileentities.machines.MTEHatchCraftingInputME;
 import gregtech.common.tileentities.machines.MTEHatchInputBusME;
 import gregtech.common.tileentities.machines.MTEHatchInputME;
@@ -195,6 +197,10 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
     protected long mLastWorkingTick = 0, mTotalRunTime = 0;
     private static final int CHECK_INTERVAL = 100; // How often should we check for a new recipe on an idle machine?
     private final int randomTickOffset = (int) (Math.random() * CHECK_INTERVAL + 1);
+    /**
+     * State of the inputs when the last recipe check found no recipe.
+     */
+    private final NoRecipeInputs noRecipeInputs = new NoRecipeInputs();
 
     /** A list of unparameterized structure errors. */
     private EnumSet<StructureError> structureErrors = EnumSet.noneOf(StructureError.class);
@@ -473,6 +479,7 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         mMaintenanceHatches.clear();
         mDualInputHatches.clear();
         mSmartInputHatches.clear();
+        noRecipeInputs.forget();
 
         mCoils.clear();
         if (coilLease != null) {
@@ -671,10 +678,72 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         }
         this.checkRecipeResult = result;
         endRecipeProcessing();
+        rememberNoRecipeInputs();
         // Don't use `result` here because `endRecipeProcessing()` might mutate `this.checkRecipeResult`
         return this.checkRecipeResult.wasSuccessful();
     }
 
+    /**
+     * If the last check found no recipe and the machine is in
+     * {@link ProcessingLogic#isWakeOnInputChange() wake on input change} mode, remembers state of inputs so that
+     * periodic checks can be skipped until they change. Multiblocks implementing {@link ICustomRecipeInputs} are
+     * always checked periodically.
+     */
+    private void rememberNoRecipeInputs() {
+        if (checkRecipeResult != CheckRecipeResultRegistry.NO_RECIPE || processingLogic == null
+            || !processingLogic.isWakeOnInputChange()
+            || this instanceof ICustomRecipeInputs) {
+            noRecipeInputs.forget();
+            return;
+        }
+        noRecipeInputs.remember(
+            getInputModificationCount(),
+            mTotalRunTime,
+            getRecipeMap(),
+            machineMode,
+            getRecipeCheckSettings(),
+            getControllerSlot());
+    }
+
+    /**
+     * @return Whether nothing the last recipe check depended on has changed since it found no recipe.
+     */
+    private boolean areInputsUnchangedSinceNoRecipe() {
+        return noRecipeInputs.isUnchanged(
+            getInputModificationCount(),
+            mTotalRunTime,
+            getRecipeMap(),
+            machineMode,
+            getRecipeCheckSettings(),
+            getControllerSlot());
+    }
+
+    /**
+     * @return Settings of the machine that change how recipes are checked, packed into an int
+     */
+    private int getRecipeCheckSettings() {
+        return (isInputSeparationEnabled() ? 1 : 0) | (isBatchModeEnabled() ? 2 : 0)
+            | (isRecipeLockingEnabled() ? 4 : 0)
+            | getVoidingMode().ordinal() << 3;
+    }
+
+    /**
+     * @return Sum of modification counters of all input buses and hatches. Changes whenever any of them changes, as
+     *         all of them only ever increase.
+     */
+    protected long getInputModificationCount() {
+        long count = 0;
+        for (int i = 0; i < mInputBusses.size(); i++) {
+            MTEHatchInputBus bus = mInputBusses.get(i);
+            if (bus != null && bus.isValid()) count += bus.getInputModificationCount();
+        }
+        for (int i = 0; i < mInputHatches.size(); i++) {
+            MTEHatchInput hatch = mInputHatches.get(i);
+            if (hatch != null && hatch.isValid()) count += hatch.getInputModificationCount();
+        }
+        return count;
+    }
+
     private boolean shouldCheckRecipeThisTick(long aTick) {
         // do a recipe check if any crafting input hatch just got pushed in items
         boolean shouldCheck = false;
@@ -689,6 +758,9 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
         }
         if (shouldCheck) return true;
 
+        // Nothing to do until inputs change
+        if (areInputsUnchangedSinceNoRecipe()) return false;
+
         // Perform more frequent recipe change after the machine just shuts down.
         long timeElapsed = mTotalRunTime - mLastWorkingTick;
 
@@ -1796,16 +1868,18 @@ public abstract class MTEMultiBlockBase extends MetaTileEntity
     }
 
     protected void endRecipeProcessing() {
+        final MEExtractionBatch batch = new MEExtractionBatch();
         for (MTEHatchInputBus hatch : validMTEList(mInputBusses)) {
             if (hatch instanceof IRecipeProcessingAwareHatch aware) {
-                setResultIfFailure(aware.endRecipeProcessing(this));
+                setResultIfFailure(aware.endRecipeProcessing(this, batch));
             }
         }
         for (MTEHatchInput hatch : validMTEList(mInputHatches)) {
             if (hatch instanceof IRecipeProcessingAwareHatch aware) {
-                setResultIfFailure(aware.endRecipeProcessing(this));
+                setResultIfFailure(aware.endRecipeProcessing(this, batch));
             }
         }
+        batch.submit();
     }
 
     public boolean addToMachineList(IGregTechTileEntity aTileEntity, int aBaseCasingIndex) {
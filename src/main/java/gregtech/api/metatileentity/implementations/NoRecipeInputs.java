@@ -0,0 +1,68 @@
+package gregtech.api.metatileentity.implementations;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.item.ItemStack;
+
+import gregtech.api.recipe.RecipeMap;
+
+/**
+ * State of a multiblock when its last recipe check found no recipe, so that periodic recipe checks can be skipped
+ * until something the check depends on changes.
+ */
+final class NoRecipeInputs {
+
+    /**
+     * Longest time a machine skips recipe checks because its inputs didn't change, in case the result depends on
+     * something else.
+     */
+    static final int RECHECK_INTERVAL = 1200;
+
+    // -1 if nothing is remembered
+    private long inputCount = -1;
+    private long runTime;
+    private RecipeMap<?> recipeMap;
+    private int machineMode;
+    private int settings;
+    @Nullable
+    private ItemStack controllerSlot;
+
+    /**
+     * @param inputCount     Sum of the modification counters of all inputs, see
+     *                       {@link MTEMultiBlockBase#getInputModificationCount()}
+     * @param runTime        Ticks the machine has existed for
+     * @param recipeMap      Recipemap the check looked in
+     * @param machineMode    Mode the machine was in
+     * @param settings       Other settings of the machine the check depends on, like input separation or voiding mode
+     * @param controllerSlot Content of the controller slot, which is copied
+     */
+    void remember(long inputCount, long runTime, RecipeMap<?> recipeMap, int machineMode, int settings,
+        @Nullable ItemStack controllerSlot) {
+        this.inputCount = inputCount;
+        this.runTime = runTime;
+        this.recipeMap = recipeMap;
+        this.machineMode = machineMode;
+        this.settings = settings;
+        this.controllerSlot = controllerSlot == null ? null : controllerSlot.copy();
+    }
+
+    void forget() {
+        inputCount = -1;
+        recipeMap = null;
+        controllerSlot = null;
+    }
+
+    /**
+     * @return Whether nothing has changed since the remembered check, and it has been done less than
+     *         {@link #RECHECK_INTERVAL} ticks ago
+     */
+    boolean isUnchanged(long inputCount, long runTime, RecipeMap<?> recipeMap, int machineMode, int settings,
+        @Nullable ItemStack controllerSlot) {
+        return this.inputCount >= 0 && runTime - this.runTime < RECHECK_INTERVAL
+            && this.machineMode == machineMode
+            && this.settings == settings
+            && this.recipeMap == recipeMap
+            && this.inputCount == inputCount
+            && ItemStack.areItemStacksEqual(this.controllerSlot, controllerSlot);
+    }
+}
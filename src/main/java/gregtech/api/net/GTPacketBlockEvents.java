@@ -0,0 +1,102 @@
+package gregtech.api.net;
+
+import static gregtech.api.metatileentity.BlockEventBatcher.EVENT_IDS;
+import static gregtech.api.metatileentity.BlockEventBatcher.KINDS;
+
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.IBlockAccess;
+
+import com.google.common.io.ByteArrayDataInput;
+
+import gregtech.api.metatileentity.BaseMetaTileEntity;
+import gregtech.api.metatileentity.BlockEventBatcher;
+import io.netty.buffer.ByteBuf;
+
+/**
+ * All changes of the machines in one chunk during a tick, see {@link BlockEventBatcher}. Only the changes that
+ * happened are sent for each machine.
+ */
+public class GTPacketBlockEvents extends GTPacket {
+
+    private int mChunkX, mChunkZ;
+    // position in the chunk, see pack
+    private short[] mPositions;
+    // kinds of changes that happened to each machine
+    private byte[] mMasks;
+    // the value of each kind of change, KINDS for each machine
+    private byte[] mValues;
+
+    public GTPacketBlockEvents() {
+        super();
+    }
+
+    public GTPacketBlockEvents(int aChunkX, int aChunkZ, short[] aPositions, byte[] aMasks, byte[] aValues) {
+        super();
+        mChunkX = aChunkX;
+        mChunkZ = aChunkZ;
+        mPositions = aPositions;
+        mMasks = aMasks;
+        mValues = aValues;
+    }
+
+    /**
+     * @return The position of a block within its chunk
+     */
+    public static short pack(int aX, int aY, int aZ) {
+        return (short) ((aX & 15) << 12 | (aY & 255) << 4 | (aZ & 15));
+    }
+
+    @Override
+    public void encode(ByteBuf aOut) {
+        aOut.writeInt(mChunkX);
+        aOut.writeInt(mChunkZ);
+        aOut.writeShort(mPositions.length);
+        for (int i = 0; i < mPositions.length; i++) {
+            aOut.writeShort(mPositions[i]);
+            aOut.writeByte(mMasks[i]);
+            for (int tKind = 0; tKind < KINDS; tKind++) {
+                if ((mMasks[i] & 1 << tKind) != 0) aOut.writeByte(mValues[i * KINDS + tKind]);
+            }
+        }
+    }
+
+    @Override
+    public GTPacket decode(ByteArrayDataInput aData) {
+        final int tChunkX = aData.readInt();
+        final int tChunkZ = aData.readInt();
+        final int tCount = aData.readUnsignedShort();
+        final short[] tPositions = new short[tCount];
+        final byte[] tMasks = new byte[tCount];
+        final byte[] tValues = new byte[tCount * KINDS];
+        for (int i = 0; i < tCount; i++) {
+            tPositions[i] = aData.readShort();
+            tMasks[i] = aData.readByte();
+            for (int tKind = 0; tKind < KINDS; tKind++) {
+                if ((tMasks[i] & 1 << tKind) != 0) tValues[i * KINDS + tKind] = aData.readByte();
+            }
+        }
+        return new GTPacketBlockEvents(tChunkX, tChunkZ, tPositions, tMasks, tValues);
+    }
+
+    @Override
+    public void process(IBlockAccess aWorld) {
+        if (aWorld == null) return;
+        for (int i = 0; i < mPositions.length; i++) {
+            final TileEntity tTileEntity = aWorld.getTileEntity(
+                mChunkX << 4 | mPositions[i] >> 12 & 15,
+                mPositions[i] >> 4 & 255,
+                mChunkZ << 4 | mPositions[i] & 15);
+            // the block may have been replaced by something else on the client
+            if (!(tTileEntity instanceof BaseMetaTileEntity)) continue;
+            for (int tKind = 0; tKind < KINDS; tKind++) {
+                if ((mMasks[i] & 1 << tKind) != 0)
+                    tTileEntity.receiveClientEvent(EVENT_IDS[tKind], mValues[i * KINDS + tKind]);
+            }
+        }
+    }
+
+    @Override
+    public byte getPacketID() {
+        return GTPacketTypes.BLOCK_EVENTS.id;
+    }
+}
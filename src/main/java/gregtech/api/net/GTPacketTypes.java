@@ -40,6 +40,7 @@ public enum GTPacketTypes {
     COIL_STATUS(30, new GTCoilStatus()),
     DEBUG_COVER(31, new PacketDebugRedstoneCover()),
     LMA_CRAFTING_FX(32, new GTPacketLMACraftingFX()),
+    BLOCK_EVENTS(33, new GTPacketBlockEvents()),
     // merge conflict prevention comment, keep a trailing comma above
     ;
 
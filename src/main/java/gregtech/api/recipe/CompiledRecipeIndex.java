@@ -0,0 +1,379 @@
+package gregtech.api.recipe;
+
+import static gregtech.api.enums.GTValues.W;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.Fluid;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.util.GTOreDictUnificator;
+import gregtech.api.util.GTRecipe;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
+/**
+ * Compiled recipe lookup used by {@link RecipeMapBackend} when {@link RecipeMapBuilder#compiledLookup} is set.
+ * <p>
+ * Every recipe gets an ordinal, and every ingredient of it (item input slot or fluid input) gets one bit of a
+ * per-recipe mask. Each ingredient key (item + meta, or fluid) holds a posting list of (ordinal, bits) pairs. A query
+ * ORs the bits of all supplied ingredients into a per-thread scratch array, so recipes missing any of their ingredients
+ * are dropped before {@link GTRecipe#isRecipeInputEqual} ever runs.
+ * <p>
+ * Candidates are emitted in the same order as the plain item / fluid index would produce them, and the mask is only
+ * ever a necessary condition of the default {@link RecipeMapBackend#filterFindRecipe}, so results stay identical.
+ */
+@ParametersAreNonnullByDefault
+final class CompiledRecipeIndex {
+
+    /**
+     * Set on posting entries the plain index would file the recipe under. Entries without this flag only contribute
+     * mask bits, e.g. the unificated variant of a recipe input.
+     */
+    private static final long LISTED = 1L << 63;
+    /**
+     * Set on the scratch mask of a recipe once it has been emitted, so it is not emitted twice.
+     */
+    private static final long EMITTED = 1L << 63;
+    /**
+     * Recipes with more ingredients than this are not filtered by mask, only by the final input check.
+     */
+    private static final int MAX_SLOTS = 63;
+
+    private final ObjectArrayList<GTRecipe> recipes = new ObjectArrayList<>();
+    private final LongArrayList fullMasks = new LongArrayList();
+    private final Reference2IntOpenHashMap<GTRecipe> ordinals = new Reference2IntOpenHashMap<>();
+    private final Reference2ObjectOpenHashMap<Item, Int2ObjectOpenHashMap<Posting>> itemPostings = new Reference2ObjectOpenHashMap<>();
+    private final Reference2ObjectOpenHashMap<Fluid, Posting> fluidPostings = new Reference2ObjectOpenHashMap<>();
+    private final ThreadLocal<Scratch> scratch = ThreadLocal.withInitial(Scratch::new);
+    private int removedCount;
+
+    CompiledRecipeIndex() {
+        ordinals.defaultReturnValue(-1);
+    }
+
+    // region maintenance
+
+    void add(GTRecipe recipe) {
+        if (ordinals.containsKey(recipe)) return;
+        int ordinal = recipes.size();
+        recipes.add(recipe);
+        fullMasks.add(computeFullMask(recipe));
+        ordinals.put(recipe, ordinal);
+        addItemPostings(recipe, ordinal);
+        addFluidPostings(recipe, ordinal);
+    }
+
+    /**
+     * Removal is lazy: the ordinal is tombstoned and skipped by queries. Posting lists are compacted once enough
+     * tombstones pile up.
+     */
+    void removeAll(Collection<? extends GTRecipe> toRemove) {
+        for (GTRecipe recipe : toRemove) {
+            int ordinal = ordinals.removeInt(recipe);
+            if (ordinal < 0) continue;
+            recipes.set(ordinal, null);
+            removedCount++;
+        }
+        if (removedCount > 64 && removedCount * 2 > recipes.size()) {
+            compact();
+        }
+    }
+
+    void clear() {
+        recipes.clear();
+        fullMasks.clear();
+        ordinals.clear();
+        itemPostings.clear();
+        fluidPostings.clear();
+        removedCount = 0;
+    }
+
+    /**
+     * Re-files item postings after recipe inputs have been re-unificated. Item posting order follows
+     * {@code itemOrder}, just like the plain item index is refilled in {@link RecipeMapBackend#reInit}.
+     */
+    void reInit(Collection<GTRecipe> itemOrder) {
+        compact();
+        itemPostings.clear();
+        for (GTRecipe recipe : itemOrder) {
+            int ordinal = ordinals.getInt(recipe);
+            if (ordinal < 0) continue;
+            addItemPostings(recipe, ordinal);
+        }
+    }
+
+    private void compact() {
+        int[] remap = new int[recipes.size()];
+        int next = 0;
+        for (int i = 0; i < recipes.size(); i++) {
+            GTRecipe recipe = recipes.get(i);
+            if (recipe == null) {
+                remap[i] = -1;
+                continue;
+            }
+            remap[i] = next;
+            recipes.set(next, recipe);
+            fullMasks.set(next, fullMasks.getLong(i));
+            ordinals.put(recipe, next);
+            next++;
+        }
+        recipes.size(next);
+        fullMasks.size(next);
+        for (Int2ObjectOpenHashMap<Posting> byMeta : itemPostings.values()) {
+            for (Posting posting : byMeta.values()) {
+                posting.remap(remap);
+            }
+        }
+        for (Posting posting : fluidPostings.values()) {
+            posting.remap(remap);
+        }
+        removedCount = 0;
+    }
+
+    private static long computeFullMask(GTRecipe recipe) {
+        int slots = 0;
+        long mask = 0;
+        for (int i = 0; i < recipe.mInputs.length; i++) {
+            ItemStack item = recipe.mInputs[i];
+            if (item == null || item.getItem() == null) continue;
+            mask |= slotBit(i);
+            slots++;
+        }
+        for (int i = 0; i < recipe.mFluidInputs.length; i++) {
+            FluidStack fluid = recipe.mFluidInputs[i];
+            // Zero amount fluids are not required by GTRecipe#maxParallelCalculatedByInputs
+            if (fluid == null || fluid.amount <= 0) continue;
+            mask |= slotBit(recipe.mInputs.length + i);
+            slots++;
+        }
+        return slots > MAX_SLOTS ? 0 : mask;
+    }
+
+    private static long slotBit(int slot) {
+        return slot < MAX_SLOTS ? 1L << slot : 0;
+    }
+
+    private void addItemPostings(GTRecipe recipe, int ordinal) {
+        for (int i = 0; i < recipe.mInputs.length; i++) {
+            ItemStack item = recipe.mInputs[i];
+            if (item == null) continue;
+            long bit = slotBit(i);
+            itemPosting(item.getItem(), Items.feather.getDamage(item)).add(ordinal, bit | LISTED);
+            // Inputs are compared against their unificated form, so make that satisfy the slot as well
+            ItemStack unified = GTOreDictUnificator.get_nocopy(true, item);
+            if (unified != null && unified != item) {
+                itemPosting(unified.getItem(), Items.feather.getDamage(unified)).add(ordinal, bit);
+            }
+        }
+        if (recipe instanceof GTRecipe.GTRecipe_WithAlt recipeWithAlt) {
+            for (int i = 0; i < recipeWithAlt.mOreDictAlt.length; i++) {
+                ItemStack[] itemStacks = recipeWithAlt.mOreDictAlt[i];
+                if (itemStacks == null) continue;
+                long bit = i < recipe.mInputs.length ? slotBit(i) : 0;
+                for (ItemStack item : itemStacks) {
+                    if (item == null) continue;
+                    itemPosting(item.getItem(), Items.feather.getDamage(item)).add(ordinal, bit | LISTED);
+                }
+            }
+        }
+    }
+
+    private void addFluidPostings(GTRecipe recipe, int ordinal) {
+        for (int i = 0; i < recipe.mFluidInputs.length; i++) {
+            FluidStack fluid = recipe.mFluidInputs[i];
+            if (fluid == null) continue;
+            fluidPostings.computeIfAbsent(fluid.getFluid(), k -> new Posting())
+                .add(ordinal, slotBit(recipe.mInputs.length + i) | LISTED);
+        }
+    }
+
+    private Posting itemPosting(Item item, int meta) {
+        Int2ObjectOpenHashMap<Posting> byMeta = itemPostings.get(item);
+        if (byMeta == null) {
+            byMeta = new Int2ObjectOpenHashMap<>();
+            itemPostings.put(item, byMeta);
+        }
+        Posting posting = byMeta.get(meta);
+        if (posting == null) {
+            posting = new Posting();
+            byMeta.put(meta, posting);
+        }
+        return posting;
+    }
+
+    @Nullable
+    private Posting findItemPosting(@Nullable Item item, int meta) {
+        Int2ObjectOpenHashMap<Posting> byMeta = itemPostings.get(item);
+        return byMeta == null ? null : byMeta.get(meta);
+    }
+
+    // endregion
+
+    // region query
+
+    /**
+     * Collects recipes that have all of their ingredients present in the supplied inputs. Order matches the plain
+     * item index, followed by the fluid index if {@code includeFluidIndex} is set.
+     *
+     * @param items             Already unificated item inputs.
+     * @param fluids            Fluid inputs.
+     * @param includeFluidIndex Whether recipes only reachable through their fluid inputs should be collected.
+     * @param out               Receives the candidates.
+     */
+    void collectCandidates(ItemStack[] items, FluidStack[] fluids, boolean includeFluidIndex,
+        List<? super GTRecipe> out) {
+        if (recipes.isEmpty()) return;
+        Scratch s = scratch.get();
+        s.prepare(recipes.size());
+        // Wildcard inputs can match any meta, which the masks cannot express.
+        boolean unfiltered = false;
+        try {
+            // Pass 1: OR bits of every supplied ingredient into the scratch masks.
+            for (ItemStack item : items) {
+                if (item == null) continue;
+                Item type = item.getItem();
+                int meta = Items.feather.getDamage(item);
+                if (meta == W) unfiltered = true;
+                mark(s, findItemPosting(type, meta));
+                mark(s, findItemPosting(type, W));
+                ItemStack target = GTOreDictUnificator.get_nocopy(false, item);
+                if (target != null && target != item) {
+                    Item targetType = target.getItem();
+                    int targetMeta = Items.feather.getDamage(target);
+                    if (targetType != type || targetMeta != meta) {
+                        mark(s, findItemPosting(targetType, targetMeta));
+                        mark(s, findItemPosting(targetType, W));
+                    }
+                }
+            }
+            for (FluidStack fluid : fluids) {
+                if (fluid == null) continue;
+                mark(s, fluidPostings.get(fluid.getFluid()));
+            }
+
+            // Pass 2: emit in plain index order.
+            for (ItemStack item : items) {
+                if (item == null) continue;
+                Item type = item.getItem();
+                emit(s, findItemPosting(type, Items.feather.getDamage(item)), unfiltered, out);
+                emit(s, findItemPosting(type, W), unfiltered, out);
+            }
+            if (includeFluidIndex) {
+                for (FluidStack fluid : fluids) {
+                    if (fluid == null) continue;
+                    emit(s, fluidPostings.get(fluid.getFluid()), unfiltered, out);
+                }
+            }
+        } finally {
+            s.reset();
+        }
+    }
+
+    private static void mark(Scratch s, @Nullable Posting posting) {
+        if (posting == null) return;
+        for (int i = 0; i < posting.size; i++) {
+            s.mark(posting.ordinals[i], posting.bits[i] & ~LISTED);
+        }
+    }
+
+    private void emit(Scratch s, @Nullable Posting posting, boolean unfiltered, List<? super GTRecipe> out) {
+        if (posting == null) return;
+        for (int i = 0; i < posting.size; i++) {
+            if ((posting.bits[i] & LISTED) == 0) continue;
+            int ordinal = posting.ordinals[i];
+            GTRecipe recipe = recipes.get(ordinal);
+            if (recipe == null) continue;
+            long seen = s.masks[ordinal];
+            if ((seen & EMITTED) != 0) continue;
+            long full = fullMasks.getLong(ordinal);
+            if (!unfiltered && (seen & full) != full) continue;
+            s.mark(ordinal, EMITTED);
+            out.add(recipe);
+        }
+    }
+
+    // endregion
+
+    /**
+     * Postings of a single ingredient key, in insertion order.
+     */
+    private static final class Posting {
+
+        private int[] ordinals = new int[4];
+        private long[] bits = new long[4];
+        private int size;
+
+        void add(int ordinal, long bit) {
+            // All postings of one recipe are filed at once, so duplicates are always adjacent
+            if (size > 0 && ordinals[size - 1] == ordinal) {
+                bits[size - 1] |= bit;
+                return;
+            }
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                bits = Arrays.copyOf(bits, size * 2);
+            }
+            ordinals[size] = ordinal;
+            bits[size] = bit;
+            size++;
+        }
+
+        void remap(int[] remap) {
+            int next = 0;
+            for (int i = 0; i < size; i++) {
+                int ordinal = remap[ordinals[i]];
+                if (ordinal < 0) continue;
+                ordinals[next] = ordinal;
+                bits[next] = bits[i];
+                next++;
+            }
+            size = next;
+        }
+    }
+
+    /**
+     * Per-thread working memory, so queries don't allocate once warmed up.
+     */
+    private static final class Scratch {
+
+        private long[] masks = new long[0];
+        private int[] touched = new int[16];
+        private int touchedCount;
+
+        void prepare(int recipeCount) {
+            if (masks.length < recipeCount) {
+                masks = new long[Math.max(recipeCount, masks.length * 2)];
+            }
+        }
+
+        void mark(int ordinal, long bits) {
+            if (bits == 0) return;
+            if (masks[ordinal] == 0) {
+                if (touchedCount == touched.length) {
+                    touched = Arrays.copyOf(touched, touchedCount * 2);
+                }
+                touched[touchedCount++] = ordinal;
+            }
+            masks[ordinal] |= bits;
+        }
+
+        void reset() {
+            for (int i = 0; i < touchedCount; i++) {
+                masks[touched[i]] = 0;
+            }
+            touchedCount = 0;
+        }
+    }
+}
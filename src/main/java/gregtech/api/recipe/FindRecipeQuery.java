@@ -62,31 +62,62 @@ public final class FindRecipeQuery {
      */
     @Nullable
     public GTRecipe find() {
-        return findAll().findFirst()
-            .orElse(null);
+        return findEach(ALWAYS);
+    }
+
+    /**
+     * Visits matched recipes in order until {@code callback} returns true. Unlike {@link #findAll}, this does not
+     * build stream, and does not allocate for the search itself.
+     *
+     * @param callback Called for each matched recipe. Return true to stop the search.
+     * @return The recipe {@code callback} returned true for, or null if no recipe did.
+     */
+    @Nullable
+    public GTRecipe findEach(Predicate<GTRecipe> callback) {
+        RecipeMatchCursor cursor = RecipeMatchCursor.acquire();
+        try {
+            start(cursor);
+            GTRecipe recipe;
+            while ((recipe = cursor.next()) != null) {
+                if (accepts(recipe) && callback.test(recipe)) {
+                    return recipe;
+                }
+            }
+            return null;
+        } finally {
+            cursor.release();
+        }
     }
 
     /**
      * @return All the matched recipes in the form of Stream.
      */
     public Stream<GTRecipe> findAll() {
+        // Stream may be abandoned halfway, so don't use pooled cursor.
+        return start(new RecipeMatchCursor()).stream()
+            .filter(this::accepts);
+    }
+
+    private RecipeMatchCursor start(RecipeMatchCursor cursor) {
         if (items == null) {
             items = new ItemStack[0];
         }
         if (fluids == null) {
             fluids = new FluidStack[0];
         }
+        return cursor.start(
+            recipeMap.getBackend(),
+            items,
+            fluids,
+            specialSlot,
+            cachedRecipe,
+            notUnificated,
+            dontCheckStackSizes,
+            forCollisionCheck);
+    }
 
-        return recipeMap.getBackend()
-            .matchRecipeStream(
-                items,
-                fluids,
-                specialSlot,
-                cachedRecipe,
-                notUnificated,
-                dontCheckStackSizes,
-                forCollisionCheck)
-            .filter(recipe -> voltage * recipeMap.getAmperage() >= recipe.mEUt && filter.test(recipe));
+    private boolean accepts(GTRecipe recipe) {
+        return voltage * recipeMap.getAmperage() >= recipe.mEUt && filter.test(recipe);
     }
 
     /**
@@ -97,8 +128,7 @@ public final class FindRecipeQuery {
     public boolean checkCollision() {
         dontCheckStackSizes = true;
         forCollisionCheck = true;
-        return findAll().findAny()
-            .isPresent();
+        return find() != null;
     }
 
     // endregion
@@ -11,15 +11,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Objects;
-import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 import javax.annotation.ParametersAreNonnullByDefault;
 
+import net.minecraft.init.Items;
+import net.minecraft.item.Item;
 import net.minecraft.item.ItemStack;
 import net.minecraftforge.fluids.Fluid;
 import net.minecraftforge.fluids.FluidStack;
@@ -30,12 +31,14 @@ import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.SetMultimap;
 
 import gregtech.api.GregTechAPI;
+import gregtech.api.enums.GTValues;
 import gregtech.api.objects.GTItemStack;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTRecipeBuilder;
-import gregtech.api.util.GTStreamUtil;
+import gregtech.api.util.GTUtility;
 import gregtech.api.util.MethodsReturnNonnullByDefault;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 
 /**
  * Responsible for recipe addition / search for recipemap.
@@ -61,7 +64,23 @@ public class RecipeMapBackend {
     /**
      * All the recipes belonging to this backend, indexed by recipe category.
      */
-    private final Map<RecipeCategory, Collection<GTRecipe>> recipesByCategory = new HashMap<>();
+    private final Map<RecipeCategory, List<GTRecipe>> recipesByCategory = new HashMap<>();
+
+    /**
+     * Reverse index of the above, so that removing recipe only touches the keys it has been filed under.
+     */
+    private final Map<GTRecipe, IndexedKeys> indexedKeys = new Reference2ObjectOpenHashMap<>();
+
+    /**
+     * Compiled recipe lookup, present if {@link RecipeMapBackendProperties#compiledLookup} is set.
+     */
+    @Nullable
+    private final CompiledRecipeIndex compiledIndex;
+
+    /**
+     * Incremented whenever recipes are added, removed or re-unificated.
+     */
+    private int generation;
 
     /**
      * All the properties specific to this backend.
@@ -70,6 +89,7 @@ public class RecipeMapBackend {
 
     public RecipeMapBackend(RecipeMapBackendPropertiesBuilder propertiesBuilder) {
         this.properties = propertiesBuilder.build();
+        this.compiledIndex = properties.compiledLookup ? new CompiledRecipeIndex() : null;
         GregTechAPI.itemStackMultiMaps.add(itemIndex);
     }
 
@@ -117,6 +137,14 @@ public class RecipeMapBackend {
         return Collections.unmodifiableMap(recipesByCategory);
     }
 
+    /**
+     * @return Counter that changes whenever search result of this backend might change, i.e. recipes are added,
+     *         removed or re-unificated. Useful for invalidating cached search results.
+     */
+    public int getGeneration() {
+        return generation;
+    }
+
     // region add recipe
 
     /**
@@ -128,14 +156,21 @@ public class RecipeMapBackend {
         if (recipe.getRecipeCategory() == null) {
             recipe.setRecipeCategory(recipeMap.getDefaultRecipeCategory());
         }
+        generation++;
         recipesByCategory.computeIfAbsent(recipe.getRecipeCategory(), v -> new ArrayList<>())
             .add(recipe);
+        IndexedKeys keys = getIndexedKeys(recipe);
+        keys.copies++;
         for (FluidStack fluid : recipe.mFluidInputs) {
             if (fluid == null) continue;
-            fluidIndex.put(
-                fluid.getFluid()
-                    .getName(),
-                recipe);
+            String key = fluid.getFluid()
+                .getName();
+            if (fluidIndex.put(key, recipe)) {
+                keys.fluids.add(key);
+            }
+        }
+        if (compiledIndex != null) {
+            compiledIndex.add(recipe);
         }
         return addToItemMap(recipe);
     }
@@ -146,20 +181,36 @@ public class RecipeMapBackend {
     protected GTRecipe addToItemMap(GTRecipe recipe) {
         for (ItemStack item : recipe.mInputs) {
             if (item == null) continue;
-            itemIndex.put(new GTItemStack(item), recipe);
+            putToItemMap(item, recipe);
         }
         if (recipe instanceof GTRecipe.GTRecipe_WithAlt recipeWithAlt) {
             for (ItemStack[] itemStacks : recipeWithAlt.mOreDictAlt) {
                 if (itemStacks == null) continue;
                 for (ItemStack item : itemStacks) {
                     if (item == null) continue;
-                    itemIndex.put(new GTItemStack(item), recipe);
+                    putToItemMap(item, recipe);
                 }
             }
         }
         return recipe;
     }
 
+    private void putToItemMap(ItemStack item, GTRecipe recipe) {
+        GTItemStack key = new GTItemStack(item);
+        if (itemIndex.put(key, recipe)) {
+            getIndexedKeys(recipe).items.add(key);
+        }
+    }
+
+    private IndexedKeys getIndexedKeys(GTRecipe recipe) {
+        IndexedKeys keys = indexedKeys.get(recipe);
+        if (keys == null) {
+            keys = new IndexedKeys(recipe.getRecipeCategory());
+            indexedKeys.put(recipe, keys);
+        }
+        return keys;
+    }
+
     /**
      * Builds recipe from supplied recipe builder and adds it.
      */
@@ -229,16 +280,36 @@ public class RecipeMapBackend {
      * Removes supplied recipes from recipe list. Do not use unless absolute necessity!
      */
     public void removeRecipes(Collection<? extends GTRecipe> recipesToRemove) {
-        for (Collection<GTRecipe> recipes : recipesByCategory.values()) {
-            recipes.removeAll(recipesToRemove);
+        generation++;
+        for (GTRecipe recipe : recipesToRemove) {
+            IndexedKeys keys = indexedKeys.remove(recipe);
+            if (keys == null) continue;
+            List<GTRecipe> recipes = recipesByCategory.get(keys.category);
+            if (recipes != null) {
+                removeCopies(recipes, recipe, keys.copies);
+            }
+            for (GTItemStack key : keys.items) {
+                itemIndex.remove(key, recipe);
+            }
+            for (String key : keys.fluids) {
+                fluidIndex.remove(key, recipe);
+            }
         }
-        for (GTItemStack key : new HashMap<>(itemIndex.asMap()).keySet()) {
-            itemIndex.get(key)
-                .removeAll(recipesToRemove);
+        if (compiledIndex != null) {
+            compiledIndex.removeAll(recipesToRemove);
         }
-        for (String key : new HashMap<>(fluidIndex.asMap()).keySet()) {
-            fluidIndex.get(key)
-                .removeAll(recipesToRemove);
+    }
+
+    /**
+     * Removes the recipe as often as it has been added, looking from the back since recently added recipes are more
+     * likely to be removed.
+     */
+    private static void removeCopies(List<GTRecipe> recipes, GTRecipe recipe, int copies) {
+        for (int i = recipes.size() - 1; i >= 0 && copies > 0; i--) {
+            if (recipes.get(i) == recipe) {
+                recipes.remove(i);
+                copies--;
+            }
         }
     }
 
@@ -253,7 +324,14 @@ public class RecipeMapBackend {
      * If you want to shoot your foot...
      */
     public void clearRecipes() {
+        generation++;
         recipesByCategory.clear();
+        indexedKeys.clear();
+        itemIndex.clear();
+        fluidIndex.clear();
+        if (compiledIndex != null) {
+            compiledIndex.clear();
+        }
     }
 
     // endregion
@@ -262,12 +340,20 @@ public class RecipeMapBackend {
      * Re-unificates all the items present in recipes. Also reflects recipe removals.
      */
     public void reInit() {
+        generation++;
         itemIndex.clear();
-        for (GTRecipe recipe : allRecipes()) {
+        for (IndexedKeys keys : indexedKeys.values()) {
+            keys.items.clear();
+        }
+        Collection<GTRecipe> recipes = allRecipes();
+        for (GTRecipe recipe : recipes) {
             GTOreDictUnificator.setStackArray(true, true, recipe.mInputs);
             GTOreDictUnificator.setStackArray(true, true, recipe.mOutputs);
             addToItemMap(recipe);
         }
+        if (compiledIndex != null) {
+            compiledIndex.reInit(recipes);
+        }
     }
 
     /**
@@ -292,8 +378,13 @@ public class RecipeMapBackend {
      * @return True if collision is found.
      */
     boolean checkCollision(GTRecipe recipe) {
-        return matchRecipeStream(recipe.mInputs, recipe.mFluidInputs, null, null, false, true, true).findAny()
-            .isPresent();
+        RecipeMatchCursor cursor = RecipeMatchCursor.acquire();
+        try {
+            return cursor.start(this, recipe.mInputs, recipe.mFluidInputs, null, null, false, true, true)
+                .next() != null;
+        } finally {
+            cursor.release();
+        }
     }
 
     /**
@@ -343,16 +434,31 @@ public class RecipeMapBackend {
      *                            for the matched recipe.
      * @param forCollisionCheck   If this method is called to check collision with already registered recipes.
      * @return Stream of matches recipes.
+     * @see RecipeMatchCursor
      */
     Stream<GTRecipe> matchRecipeStream(ItemStack[] rawItems, FluidStack[] fluids, @Nullable ItemStack specialSlot,
         @Nullable GTRecipe cachedRecipe, boolean notUnificated, boolean dontCheckStackSizes,
         boolean forCollisionCheck) {
-        if (doesOverwriteFindRecipe()) {
-            return GTStreamUtil.ofNullable(overwriteFindRecipe(rawItems, fluids, specialSlot, cachedRecipe));
-        }
+        // Stream may be abandoned halfway, so don't use pooled cursor.
+        return new RecipeMatchCursor()
+            .start(
+                this,
+                rawItems,
+                fluids,
+                specialSlot,
+                cachedRecipe,
+                notUnificated,
+                dontCheckStackSizes,
+                forCollisionCheck)
+            .stream();
+    }
 
+    /**
+     * @return False if it's known without searching that nothing can match supplied inputs.
+     */
+    boolean canMatch(ItemStack[] rawItems, FluidStack[] fluids, boolean forCollisionCheck) {
         if (recipesByCategory.isEmpty()) {
-            return Stream.empty();
+            return false;
         }
 
         // Some recipe classes require a certain amount of inputs of certain kinds. Like "at least 1 fluid + 1 item"
@@ -365,59 +471,67 @@ public class RecipeMapBackend {
                 int count = 0;
                 for (FluidStack fluid : fluids) if (fluid != null) count++;
                 if (count < properties.minFluidInputs) {
-                    return Stream.empty();
+                    return false;
                 }
             }
             if (properties.minItemInputs > 0) {
                 int count = 0;
                 for (ItemStack item : rawItems) if (item != null) count++;
                 if (count < properties.minItemInputs) {
-                    return Stream.empty();
+                    return false;
                 }
             }
         }
+        return true;
+    }
 
-        ItemStack[] items;
-        // Unification happens here in case the item input isn't already unificated.
-        if (notUnificated) {
-            items = GTOreDictUnificator.getStackArray(true, (Object[]) rawItems);
-        } else {
-            items = rawItems;
-        }
+    boolean hasCompiledIndex() {
+        return compiledIndex != null;
+    }
+
+    /**
+     * Collects recipes from the compiled index that might match supplied inputs, without checking them. Only call this
+     * if {@link #hasCompiledIndex()}.
+     *
+     * @param items Already unificated item inputs.
+     */
+    void collectCompiledCandidates(ItemStack[] items, FluidStack[] fluids, List<GTRecipe> out) {
+        // If the minimum amount of items required for the recipes is 0, then it could match to fluid-only recipes,
+        // so check fluid index too.
+        compiledIndex.collectCandidates(items, fluids, properties.minItemInputs == 0, out);
+    }
 
-        return Stream.<Stream<GTRecipe>>of(
-            // Check the recipe which has been used last time in order to not have to search for it again, if possible.
-            GTStreamUtil.ofNullable(cachedRecipe)
-                .filter(recipe -> recipe.mCanBeBuffered)
-                .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
-                .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
-                .filter(Objects::nonNull),
-            // Now look for the recipes inside the item index, but only when the recipes actually can have items inputs.
-            GTStreamUtil.ofConditional(!itemIndex.isEmpty(), items)
-                .filter(Objects::nonNull)
-                .flatMap(item -> Stream.of(new GTItemStack(item), new GTItemStack(item, true)))
-                .map(itemIndex::get)
-                .flatMap(Collection::stream)
-                .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
-                .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
-                .filter(Objects::nonNull),
-            // If the minimum amount of items required for the recipes is 0, then it could match to fluid-only recipes,
-            // so check fluid index too.
-            GTStreamUtil.ofConditional(properties.minItemInputs == 0, fluids)
-                .filter(Objects::nonNull)
-                .map(
-                    fluidStack -> fluidIndex.get(
-                        fluidStack.getFluid()
-                            .getName()))
-                .flatMap(Collection::stream)
-                .filter(recipe -> filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes))
-                .map(recipe -> modifyFoundRecipe(recipe, items, fluids, specialSlot))
-                .filter(Objects::nonNull),
-            // Lastly, find fallback.
-            forCollisionCheck ? Stream.empty()
-                : GTStreamUtil.ofSupplier(() -> findFallback(items, fluids, specialSlot))
-                    .filter(Objects::nonNull))
-            .flatMap(Function.identity());
+    /**
+     * @return Number of lookups {@link #lookupIndex} does for supplied inputs.
+     */
+    int getIndexLookupCount(ItemStack[] items, FluidStack[] fluids) {
+        // Fluid index is only needed for fluid-only recipes, see collectCompiledCandidates
+        return items.length * 2 + (properties.minItemInputs == 0 ? fluids.length : 0);
+    }
+
+    /**
+     * Looks up recipes that might match one of supplied inputs in the index, without checking them. Lookups go through
+     * each item, first with its own meta and then with wildcard meta, then through each fluid.
+     *
+     * @param lookup Number of the lookup, less than {@link #getIndexLookupCount}
+     * @param items  Already unificated item inputs.
+     * @param key    Key reused for item lookups
+     * @return Recipes found, or null if there are none
+     */
+    @Nullable
+    Collection<GTRecipe> lookupIndex(int lookup, ItemStack[] items, FluidStack[] fluids, ItemIndexKey key) {
+        if (lookup < items.length * 2) {
+            ItemStack item = items[lookup >> 1];
+            if (item == null || itemIndex.isEmpty()) return null;
+            return itemIndex.asMap()
+                .get(key.set(item, (lookup & 1) != 0));
+        }
+        FluidStack fluid = fluids[lookup - items.length * 2];
+        if (fluid == null) return null;
+        return fluidIndex.asMap()
+            .get(
+                fluid.getFluid()
+                    .getName());
     }
 
     /**
@@ -447,4 +561,48 @@ public class RecipeMapBackend {
          */
         B create(RecipeMapBackendPropertiesBuilder propertiesBuilder);
     }
+
+    /**
+     * Reusable key to look up items in the index, equal to the {@link GTItemStack} with the same item and meta.
+     */
+    static final class ItemIndexKey {
+
+        @Nullable
+        private Item item;
+        private short meta;
+
+        private ItemIndexKey set(ItemStack stack, boolean wildcard) {
+            item = stack.getItem();
+            meta = (short) (wildcard ? GTValues.W : Items.feather.getDamage(stack));
+            return this;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof GTItemStack stack && stack.mItem == item && stack.mMetaData == meta;
+        }
+
+        @Override
+        public int hashCode() {
+            // Same as GTItemStack#hashCode, which goes through an ItemStack and so has negative meta turned into 0
+            return item == null ? 0 : GTUtility.itemToInt(item, Math.max(meta, 0));
+        }
+    }
+
+    /**
+     * Keys a recipe has been filed under in the indexes of a backend.
+     */
+    private static final class IndexedKeys {
+
+        @Nullable
+        private final RecipeCategory category;
+        private final List<GTItemStack> items = new ArrayList<>(4);
+        private final List<String> fluids = new ArrayList<>(1);
+        // how often the recipe has been added to its category
+        private int copies;
+
+        private IndexedKeys(@Nullable RecipeCategory category) {
+            this.category = category;
+        }
+    }
 }
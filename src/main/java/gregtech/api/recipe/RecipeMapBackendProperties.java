@@ -37,6 +37,11 @@ public final class RecipeMapBackendProperties {
      */
     public final boolean specialSlotSensitive;
 
+    /**
+     * Whether this backend should search recipes through {@link CompiledRecipeIndex} instead of plain item index.
+     */
+    public final boolean compiledLookup;
+
     /**
      * Changes how recipes are emitted by a particular recipe builder.
      */
@@ -48,7 +53,7 @@ public final class RecipeMapBackendProperties {
     private Consumer<? super GTRecipe> recipeTransformer;
 
     RecipeMapBackendProperties(int minItemInputs, int minFluidInputs, boolean specialSlotSensitive,
-        Function<? super GTRecipeBuilder, ? extends Iterable<? extends GTRecipe>> recipeEmitter,
+        boolean compiledLookup, Function<? super GTRecipeBuilder, ? extends Iterable<? extends GTRecipe>> recipeEmitter,
         @Nullable Consumer<? super GTRecipeBuilder> builderTransformer,
         @Nullable Consumer<? super GTRecipe> recipeTransformer) {
         if (minItemInputs < 0 || minFluidInputs < 0) {
@@ -57,6 +62,7 @@ public final class RecipeMapBackendProperties {
         this.minItemInputs = minItemInputs;
         this.minFluidInputs = minFluidInputs;
         this.specialSlotSensitive = specialSlotSensitive;
+        this.compiledLookup = compiledLookup;
         this.recipeEmitter = recipeEmitter;
         this.builderTransformer = builderTransformer;
         this.recipeTransformer = recipeTransformer;
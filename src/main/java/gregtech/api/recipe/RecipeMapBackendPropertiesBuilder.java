@@ -26,6 +26,8 @@ public final class RecipeMapBackendPropertiesBuilder {
 
     private boolean specialSlotSensitive;
 
+    private boolean compiledLookup;
+
     private Consumer<? super GTRecipeBuilder> builderTransformer;
 
     private Function<? super GTRecipeBuilder, ? extends Iterable<? extends GTRecipe>> recipeEmitter = this::defaultBuildRecipe;
@@ -39,6 +41,7 @@ public final class RecipeMapBackendPropertiesBuilder {
             minItemInputs,
             minFluidInputs,
             specialSlotSensitive,
+            compiledLookup,
             recipeEmitter,
             builderTransformer,
             recipeTransformer);
@@ -59,6 +62,11 @@ public final class RecipeMapBackendPropertiesBuilder {
         return this;
     }
 
+    public RecipeMapBackendPropertiesBuilder compiledLookup() {
+        this.compiledLookup = true;
+        return this;
+    }
+
     public RecipeMapBackendPropertiesBuilder recipeEmitter(
         Function<? super GTRecipeBuilder, ? extends Iterable<? extends GTRecipe>> recipeEmitter) {
         this.recipeEmitter = recipeEmitter;
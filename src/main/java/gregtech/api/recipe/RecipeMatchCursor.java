@@ -0,0 +1,211 @@
+package gregtech.api.recipe;
+
+import java.util.Collection;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import javax.annotation.Nullable;
+import javax.annotation.ParametersAreNonnullByDefault;
+
+import net.minecraft.item.ItemStack;
+import net.minecraftforge.fluids.FluidStack;
+
+import gregtech.api.util.GTOreDictUnificator;
+import gregtech.api.util.GTRecipe;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+
+/**
+ * Resumable, loop based recipe search on {@link RecipeMapBackend}. Matches are visited in this order: cached recipe,
+ * recipes from the index, then {@link RecipeMapBackend#findFallback}.
+ * <p>
+ * Each thread keeps one cursor for {@link #acquire}, so that searches which don't escape the caller (like
+ * {@link FindRecipeQuery#find}) don't allocate once warmed up, unless the inputs have to be unificated. Cursors
+ * backing a {@link Stream} are created separately, since a stream may be abandoned before it is exhausted.
+ */
+@ParametersAreNonnullByDefault
+final class RecipeMatchCursor {
+
+    private static final ThreadLocal<RecipeMatchCursor> POOLED = ThreadLocal.withInitial(RecipeMatchCursor::new);
+
+    private enum Stage {
+        OVERWRITE,
+        CACHED,
+        INDEX,
+        FALLBACK,
+        DONE
+    }
+
+    private final ObjectArrayList<GTRecipe> candidates = new ObjectArrayList<>();
+    private final RecipeMapBackend.ItemIndexKey indexKey = new RecipeMapBackend.ItemIndexKey();
+    private boolean inUse;
+
+    private RecipeMapBackend backend;
+    private ItemStack[] items;
+    private FluidStack[] fluids;
+    @Nullable
+    private ItemStack specialSlot;
+    @Nullable
+    private GTRecipe cachedRecipe;
+    private boolean dontCheckStackSizes;
+    private boolean forCollisionCheck;
+    private Stage stage = Stage.DONE;
+    // next index lookup to do, see RecipeMapBackend#lookupIndex
+    private int indexLookup;
+    private int candidateIndex;
+
+    /**
+     * @return Cursor owned by the current thread, or a new one if it is already in use. Call {@link #release} once
+     *         done.
+     */
+    static RecipeMatchCursor acquire() {
+        RecipeMatchCursor cursor = POOLED.get();
+        if (cursor.inUse) {
+            return new RecipeMatchCursor();
+        }
+        cursor.inUse = true;
+        return cursor;
+    }
+
+    /**
+     * Drops references to the search inputs and returns this cursor to the pool.
+     */
+    void release() {
+        backend = null;
+        items = null;
+        fluids = null;
+        specialSlot = null;
+        cachedRecipe = null;
+        candidates.clear();
+        stage = Stage.DONE;
+        inUse = false;
+    }
+
+    /**
+     * Prepares new search. Parameters are the same as {@link RecipeMapBackend#matchRecipeStream}.
+     */
+    RecipeMatchCursor start(RecipeMapBackend backend, ItemStack[] rawItems, FluidStack[] fluids,
+        @Nullable ItemStack specialSlot, @Nullable GTRecipe cachedRecipe, boolean notUnificated,
+        boolean dontCheckStackSizes, boolean forCollisionCheck) {
+        this.backend = backend;
+        this.items = rawItems;
+        this.fluids = fluids;
+        this.specialSlot = specialSlot;
+        this.cachedRecipe = cachedRecipe;
+        this.dontCheckStackSizes = dontCheckStackSizes;
+        this.forCollisionCheck = forCollisionCheck;
+        this.candidates.clear();
+        this.indexLookup = 0;
+        this.candidateIndex = 0;
+
+        if (backend.doesOverwriteFindRecipe()) {
+            stage = Stage.OVERWRITE;
+        } else if (!backend.canMatch(rawItems, fluids, forCollisionCheck)) {
+            stage = Stage.DONE;
+        } else {
+            // Unification happens here in case the item input isn't already unificated. The stacks are copied, so
+            // that backends modifying the found recipe can't change the stacks of the caller.
+            if (notUnificated) {
+                items = GTOreDictUnificator.getStackArray(true, (Object[]) rawItems);
+            }
+            stage = Stage.CACHED;
+        }
+        return this;
+    }
+
+    /**
+     * @return Next matched recipe, or null if there's no more.
+     */
+    @Nullable
+    GTRecipe next() {
+        while (true) {
+            switch (stage) {
+                case OVERWRITE -> {
+                    stage = Stage.DONE;
+                    GTRecipe recipe = backend.overwriteFindRecipe(items, fluids, specialSlot, cachedRecipe);
+                    if (recipe != null) return recipe;
+                }
+                case CACHED -> {
+                    // Check the recipe which has been used last time in order to not have to search for it again,
+                    // if possible.
+                    stage = Stage.INDEX;
+                    if (cachedRecipe != null && cachedRecipe.mCanBeBuffered) {
+                        GTRecipe recipe = test(cachedRecipe);
+                        if (recipe != null) return recipe;
+                    }
+                }
+                case INDEX -> {
+                    do {
+                        while (candidateIndex < candidates.size()) {
+                            GTRecipe recipe = test(candidates.get(candidateIndex++));
+                            if (recipe != null) return recipe;
+                        }
+                    } while (nextCandidates());
+                    stage = forCollisionCheck ? Stage.DONE : Stage.FALLBACK;
+                }
+                case FALLBACK -> {
+                    stage = Stage.DONE;
+                    GTRecipe recipe = backend.findFallback(items, fluids, specialSlot);
+                    if (recipe != null) return recipe;
+                }
+                case DONE -> {
+                    return null;
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@link #candidates} with the recipes of the next index lookup that finds any. Lookups are only done once
+     * the recipes of the previous one have been tested, so that searches stopping at the first match skip the rest.
+     * Recipes are copied, so that recipes can be added to the backend while a search is in progress.
+     *
+     * @return Whether there are new candidates
+     */
+    private boolean nextCandidates() {
+        candidates.clear();
+        candidateIndex = 0;
+        if (backend.hasCompiledIndex()) {
+            if (indexLookup++ > 0) return false;
+            backend.collectCompiledCandidates(items, fluids, candidates);
+            return true;
+        }
+        int lookupCount = backend.getIndexLookupCount(items, fluids);
+        while (indexLookup < lookupCount) {
+            Collection<GTRecipe> recipes = backend.lookupIndex(indexLookup++, items, fluids, indexKey);
+            if (recipes != null) {
+                candidates.addAll(recipes);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Nullable
+    private GTRecipe test(GTRecipe recipe) {
+        if (!backend.filterFindRecipe(recipe, items, fluids, specialSlot, dontCheckStackSizes)) return null;
+        return backend.modifyFoundRecipe(recipe, items, fluids, specialSlot);
+    }
+
+    /**
+     * @return Stream view of the remaining matches.
+     */
+    Stream<GTRecipe> stream() {
+        return StreamSupport.stream(
+            new Spliterators.AbstractSpliterator<GTRecipe>(
+                Long.MAX_VALUE,
+                Spliterator.ORDERED | Spliterator.NONNULL) {
+
+                @Override
+                public boolean tryAdvance(Consumer<? super GTRecipe> action) {
+                    GTRecipe recipe = next();
+                    if (recipe == null) return false;
+                    action.accept(recipe);
+                    return true;
+                }
+            },
+            false);
+    }
+}
@@ -1,5 +1,7 @@
 package gregtech.api.threads;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ThreadFactory;
@@ -15,9 +17,12 @@ import gregtech.GTMod;
 import gregtech.api.GregTechAPI;
 import gregtech.api.interfaces.tileentity.IMachineBlockUpdateable;
 import gregtech.common.GTProxy;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 
 public class RunnableMachineUpdate implements Runnable {
 
@@ -26,6 +31,26 @@ public class RunnableMachineUpdate implements Runnable {
     protected final World world;
     protected final LongSet visited = new LongOpenHashSet();
     protected final LongArrayFIFOQueue tQueue = new LongArrayFIFOQueue();
+    // positions the update has been caused at, these always update their neighbours
+    protected final LongSet seeds = new LongOpenHashSet();
+
+    // Scheduling
+    // Updates that haven't started yet, per world and area. Updates caused in an area that already has one pending
+    // are merged into it, so building or breaking a multiblock floods over its casings once instead of once per block.
+    private static final Map<World, Long2ObjectOpenHashMap<RunnableMachineUpdate>> PENDING = new HashMap<>();
+    // Once this many updates are pending, new ones are merged into a single update per world
+    private static final int MAX_PENDING = 1024;
+    private static final long OVERFLOW_AREA = Long.MIN_VALUE;
+    // Areas are 64x64 block columns, which covers most multiblocks
+    private static final int AREA_SHIFT = 6;
+    private static int pendingCount;
+    private static long mergedCount;
+    private static long completedCount;
+    private static long totalNanos;
+    private static long maxNanos;
+    private static long totalVisited;
+    private static long totalLocks;
+    private long area;
 
     // Threading
     private static final ThreadFactory THREAD_FACTORY = r -> {
@@ -41,9 +66,15 @@ public class RunnableMachineUpdate implements Runnable {
         this.initialX = posX;
         this.initialY = posY;
         this.initialZ = posZ;
+        addSeed(posX, posY, posZ);
+    }
+
+    protected void addSeed(int posX, int posY, int posZ) {
         final long coords = CoordinatePacker.pack(posX, posY, posZ);
-        visited.add(coords);
-        tQueue.enqueue(coords);
+        if (visited.add(coords)) {
+            seeds.add(coords);
+            tQueue.enqueue(coords);
+        }
     }
 
     public static boolean isEnabled() {
@@ -75,7 +106,88 @@ public class RunnableMachineUpdate implements Runnable {
 
     public static void setMachineUpdateValues(World aWorld, int posX, int posY, int posZ) {
         if (isEnabled() && isCurrentThreadEnabled()) {
-            EXECUTOR_SERVICE.submit(new RunnableMachineUpdate(aWorld, posX, posY, posZ));
+            final RunnableMachineUpdate update;
+            synchronized (PENDING) {
+                Long2ObjectOpenHashMap<RunnableMachineUpdate> areas = PENDING.get(aWorld);
+                if (areas == null) {
+                    areas = new Long2ObjectOpenHashMap<>();
+                    PENDING.put(aWorld, areas);
+                }
+                final long area = pendingCount >= MAX_PENDING ? OVERFLOW_AREA
+                    : CoordinatePacker.pack(posX >> AREA_SHIFT, 0, posZ >> AREA_SHIFT);
+                final RunnableMachineUpdate pending = areas.get(area);
+                if (pending != null) {
+                    pending.addSeed(posX, posY, posZ);
+                    mergedCount++;
+                    return;
+                }
+                update = new RunnableMachineUpdate(aWorld, posX, posY, posZ);
+                update.area = area;
+                areas.put(area, update);
+                pendingCount++;
+            }
+            EXECUTOR_SERVICE.submit(update);
+        }
+    }
+
+    /**
+     * Stops merging new updates into this one, since it is about to start.
+     */
+    private void removeFromPending() {
+        synchronized (PENDING) {
+            final Long2ObjectOpenHashMap<RunnableMachineUpdate> areas = PENDING.get(world);
+            if (areas == null || areas.get(area) != this) return;
+            areas.remove(area);
+            if (areas.isEmpty()) PENDING.remove(world);
+            pendingCount--;
+        }
+    }
+
+    /**
+     * @return Amount of machine block updates waiting to be run.
+     */
+    public static int getPendingCount() {
+        synchronized (PENDING) {
+            return pendingCount;
+        }
+    }
+
+    /**
+     * @return Amount of machine block updates that have been merged into one already pending.
+     */
+    public static long getMergedCount() {
+        synchronized (PENDING) {
+            return mergedCount;
+        }
+    }
+
+    public static long getCompletedCount() {
+        synchronized (PENDING) {
+            return completedCount;
+        }
+    }
+
+    public static long getTotalNanos() {
+        synchronized (PENDING) {
+            return totalNanos;
+        }
+    }
+
+    public static long getMaxNanos() {
+        synchronized (PENDING) {
+            return maxNanos;
+        }
+    }
+
+    public static long getTotalVisited() {
+        synchronized (PENDING) {
+            return totalVisited;
+        }
+    }
+
+    public static long getTotalLocks() {
+        synchronized (PENDING) {
+            return totalLocks;
         }
     }
 
@@ -120,51 +232,75 @@ public class RunnableMachineUpdate implements Runnable {
 
     @Override
     public void run() {
+        removeFromPending();
+        final long startTime = System.nanoTime();
+        int locks = 0;
         int posX, posY, posZ;
         try {
+            // Positions to visit grouped by chunk section, so the world only has to be locked once per section
+            final Long2ObjectLinkedOpenHashMap<LongArrayFIFOQueue> sections = new Long2ObjectLinkedOpenHashMap<>();
             while (!tQueue.isEmpty()) {
-                final long packedCoords = tQueue.dequeueLong();
-                posX = CoordinatePacker.unpackX(packedCoords);
-                posY = CoordinatePacker.unpackY(packedCoords);
-                posZ = CoordinatePacker.unpackZ(packedCoords);
-
-                final TileEntity tTileEntity;
-                final boolean isMachineBlock;
+                enqueue(sections, tQueue.dequeueLong());
+            }
+            final ObjectArrayList<IMachineBlockUpdateable> updateables = new ObjectArrayList<>();
+            while (!sections.isEmpty()) {
+                final long sectionKey = sections.firstLongKey();
+                final LongArrayFIFOQueue section = sections.removeFirst();
 
                 // This might load a chunk... which might load a TileEntity... which might get added to
                 // `loadedTileEntityList`... which might be in the process
                 // of being iterated over during `UpdateEntities()`... which might cause a
                 // ConcurrentModificationException. So, lock that shit.
                 GTProxy.TICK_LOCK.lock();
+                locks++;
                 try {
-                    tTileEntity = world.getTileEntity(posX, posY, posZ);
-                    isMachineBlock = GregTechAPI
-                        .isMachineBlock(world.getBlock(posX, posY, posZ), world.getBlockMetadata(posX, posY, posZ));
+                    while (!section.isEmpty()) {
+                        final long packedCoords = section.dequeueLong();
+                        posX = CoordinatePacker.unpackX(packedCoords);
+                        posY = CoordinatePacker.unpackY(packedCoords);
+                        posZ = CoordinatePacker.unpackZ(packedCoords);
+
+                        final TileEntity tTileEntity = world.getTileEntity(posX, posY, posZ);
+                        final boolean isMachineBlock = GregTechAPI
+                            .isMachineBlock(world.getBlock(posX, posY, posZ), world.getBlockMetadata(posX, posY, posZ));
+
+                        // See if the block itself needs an update
+                        if (tTileEntity instanceof IMachineBlockUpdateable) {
+                            updateables.add((IMachineBlockUpdateable) tTileEntity);
+                        }
+
+                        // Now see if we should add the nearby blocks to the queue:
+                        // 1) If the update has been caused here
+                        // 2) If the tile says we should recursively updated (pipes don't, machine blocks do)
+                        // 3) If the block at the coordinates is marked as a machine block
+                        if (seeds.contains(packedCoords)
+                            || (tTileEntity instanceof IMachineBlockUpdateable
+                                && ((IMachineBlockUpdateable) tTileEntity).isMachineBlockUpdateRecursive())
+                            || isMachineBlock) {
+                            for (int i = 0; i < ForgeDirection.VALID_DIRECTIONS.length; i++) {
+                                final ForgeDirection side = ForgeDirection.VALID_DIRECTIONS[i];
+                                final int tX = posX + side.offsetX;
+                                final int tY = posY + side.offsetY;
+                                final int tZ = posZ + side.offsetZ;
+                                final long tCoords = CoordinatePacker.pack(tX, tY, tZ);
+                                if (!visited.add(tCoords)) continue;
+                                if (getSectionKey(tX, tY, tZ) == sectionKey) {
+                                    section.enqueue(tCoords);
+                                } else {
+                                    enqueue(sections, tCoords);
+                                }
+                            }
+                        }
+                    }
                 } finally {
                     GTProxy.TICK_LOCK.unlock();
                 }
 
-                // See if the block itself needs an update
-                if (tTileEntity instanceof IMachineBlockUpdateable)
-                    ((IMachineBlockUpdateable) tTileEntity).onMachineBlockUpdate();
-
-                // Now see if we should add the nearby blocks to the queue:
-                // 1) If we've visited less than 5 blocks, then yes
-                // 2) If the tile says we should recursively updated (pipes don't, machine blocks do)
-                // 3) If the block at the coordinates is marked as a machine block
-                if (visited.size() < 5
-                    || (tTileEntity instanceof IMachineBlockUpdateable
-                        && ((IMachineBlockUpdateable) tTileEntity).isMachineBlockUpdateRecursive())
-                    || isMachineBlock) {
-                    for (int i = 0; i < ForgeDirection.VALID_DIRECTIONS.length; i++) {
-                        final ForgeDirection side = ForgeDirection.VALID_DIRECTIONS[i];
-                        final long tCoords = CoordinatePacker
-                            .pack(posX + side.offsetX, posY + side.offsetY, posZ + side.offsetZ);
-                        if (visited.add(tCoords)) {
-                            tQueue.enqueue(tCoords);
-                        }
-                    }
+                for (int i = 0; i < updateables.size(); i++) {
+                    updateables.get(i)
+                        .onMachineBlockUpdate();
                 }
+                updateables.clear();
             }
         } catch (Exception e) {
             GTMod.GT_FML_LOGGER.error(
@@ -180,5 +316,30 @@ public class RunnableMachineUpdate implements Runnable {
                     + "}",
                 e);
         }
+        final long nanos = System.nanoTime() - startTime;
+        synchronized (PENDING) {
+            completedCount++;
+            totalNanos += nanos;
+            maxNanos = Math.max(maxNanos, nanos);
+            totalVisited += visited.size();
+            totalLocks += locks;
+        }
+    }
+
+    private static long getSectionKey(int posX, int posY, int posZ) {
+        return CoordinatePacker.pack(posX >> 4, posY >> 4, posZ >> 4);
+    }
+
+    private static void enqueue(Long2ObjectLinkedOpenHashMap<LongArrayFIFOQueue> sections, long packedCoords) {
+        final long sectionKey = getSectionKey(
+            CoordinatePacker.unpackX(packedCoords),
+            CoordinatePacker.unpackY(packedCoords),
+            CoordinatePacker.unpackZ(packedCoords));
+        LongArrayFIFOQueue section = sections.get(sectionKey);
+        if (section == null) {
+            section = new LongArrayFIFOQueue();
+            sections.put(sectionKey, section);
+        }
+        section.enqueue(packedCoords);
     }
 }
@@ -221,7 +221,7 @@ public class GTOreDictUnificator {
      * Doesn't copy the returned stack or set quantity. Be careful and do not mutate it; intended only to optimize
      * comparisons
      */
-    static ItemStack get_nocopy(boolean aUseBlackList, ItemStack aStack) {
+    public static ItemStack get_nocopy(boolean aUseBlackList, ItemStack aStack) {
         if (GTUtility.isStackInvalid(aStack)) return null;
         ItemData tPrefixMaterial = getAssociation(aStack);
         if (tPrefixMaterial == null || !tPrefixMaterial.hasValidPrefixMaterialData()
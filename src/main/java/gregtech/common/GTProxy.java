@@ -124,6 +124,7 @@ import gregtech.api.interfaces.internal.IGTMod;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.items.MetaGeneratedItem;
 import gregtech.api.items.MetaGeneratedTool;
+import gregtech.api.metatileentity.BlockEventBatcher;
 import gregtech.api.net.GTPacketMusicSystemData;
 import gregtech.api.objects.GTChunkManager;
 import gregtech.api.objects.GTUODimensionList;
@@ -145,9 +146,11 @@ import gregtech.api.util.GTShapelessRecipe;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.WorldSpawnedEventBuilder;
 import gregtech.common.config.OPStuff;
+import gregtech.common.covers.redstone.WirelessRedstoneFrequencies;
 import gregtech.common.items.MetaGeneratedItem98;
 import gregtech.common.misc.GlobalEnergyWorldSavedData;
 import gregtech.common.misc.GlobalMetricsCoverDatabase;
+import gregtech.common.misc.WirelessNetworkManager;
 import gregtech.common.misc.spaceprojects.SpaceProjectWorldSavedData;
 import gregtech.common.pollution.Pollution;
 import gregtech.common.tileentities.machines.multi.drone.MTEDroneCentre;
@@ -1251,7 +1254,7 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
         GTMusicSystem.ServerSystem.reset();
         File tSaveDirectory = getSaveDirectory();
         GregTechAPI.sWirelessRedstone.clear();
-        GregTechAPI.sAdvancedWirelessRedstone.clear();
+        WirelessRedstoneFrequencies.clear();
         if (tSaveDirectory != null) {
             for (int i = 1; i < GregTechAPI.METATILEENTITIES.length; i++) {
                 if (GregTechAPI.METATILEENTITIES[i] != null) {
@@ -1984,6 +1987,8 @@ public abstract class GTProxy implements IGTMod, IFuelHandler {
             } else {
                 TICK_LOCK.unlock();
                 GTMusicSystem.ServerSystem.tick();
+                WirelessNetworkManager.flushGlobalEnergy();
+                BlockEventBatcher.flush();
             }
 
             // Making sure it is being freed up in order to prevent exploits or Garbage Collection mishaps.
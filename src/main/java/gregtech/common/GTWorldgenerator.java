@@ -7,8 +7,6 @@ import static gregtech.api.enums.GTValues.oreveinMaxPlacementAttempts;
 import static gregtech.api.enums.GTValues.oreveinPercentage;
 
 import java.util.ArrayList;
-import java.util.HashSet;
-import java.util.Hashtable;
 import java.util.List;
 import java.util.Random;
 
@@ -44,7 +42,6 @@ public class GTWorldgenerator implements IWorldGenerator {
     private static int endMaxSize = 200;
     private static boolean endAsteroids = true;
     public static List<Runnable> mList = new ArrayList<>();
-    public static HashSet<Long> ProcChunks = new HashSet<>();
     // This is probably not going to work. Trying to create a fake orevein to put into hashtable when there will be no
     // ores in a vein.
     public static WorldgenGTOreLayer noOresInVein = new WorldgenGTOreLayer(
@@ -59,7 +56,7 @@ public class GTWorldgenerator implements IWorldGenerator {
             .inBetween(Materials.Aluminium)
             .sporadic(Materials.Aluminium));
 
-    public static Hashtable<Long, WorldgenGTOreLayer> validOreveins = new Hashtable<>(1024);
+    public static final OreveinCache validOreveins = new OreveinCache();
     public boolean mIsGenerating = false;
     public static final Object listLock = new Object();
     public static OregenPattern oregenPattern = OregenPattern.AXISSYMMETRICAL;
@@ -324,7 +321,9 @@ public class GTWorldgenerator implements IWorldGenerator {
                     + this.mWorld.getSeed());
 
             // Search for a valid orevein for this dimension
-            if (!validOreveins.containsKey(oreveinSeed)) {
+            final int tDimensionId = this.mWorld.provider.dimensionId;
+            final WorldgenGTOreLayer tCachedVein = validOreveins.get(tDimensionId, oreveinSeed);
+            if (tCachedVein == null) {
                 if ((oreveinPercentageRoll < oreveinPercentage) && (WorldgenGTOreLayer.sWeight > 0)
                     && (!WorldgenGTOreLayer.sList.isEmpty())) {
                     int placementAttempts = 0;
@@ -373,7 +372,7 @@ public class GTWorldgenerator implements IWorldGenerator {
                                                     + placementAttempts
                                                     + " dimensionName="
                                                     + tDimensionName);
-                                            validOreveins.put(oreveinSeed, tWorldGen);
+                                            validOreveins.put(tDimensionId, oreveinSeed, tWorldGen);
                                             oreveinFound = true;
                                         }
                                         case WorldgenGTOreLayer.NO_ORE_IN_BOTTOM_LAYER -> placementAttempts++;
@@ -390,7 +389,7 @@ public class GTWorldgenerator implements IWorldGenerator {
                                                     + placementAttempts
                                                     + " dimensionName="
                                                     + tDimensionName);
-                                            validOreveins.put(oreveinSeed, tWorldGen);
+                                            validOreveins.put(tDimensionId, oreveinSeed, tWorldGen);
                                             oreveinFound = true;
                                         }
                                         case WorldgenGTOreLayer.NO_OVERLAP_AIR_BLOCK -> {
@@ -445,7 +444,7 @@ public class GTWorldgenerator implements IWorldGenerator {
                                 + placementAttempts
                                 + " dimensionName="
                                 + tDimensionName);
-                        validOreveins.put(oreveinSeed, noOresInVein);
+                        validOreveins.put(tDimensionId, oreveinSeed, noOresInVein);
                     }
                 } else if (oreveinPercentageRoll >= oreveinPercentage) {
                     if (debugOrevein) GTLog.out.println(
@@ -464,16 +463,15 @@ public class GTWorldgenerator implements IWorldGenerator {
                             + oreveinPercentage
                             + " dimensionName="
                             + tDimensionName);
-                    validOreveins.put(oreveinSeed, noOresInVein);
+                    validOreveins.put(tDimensionId, oreveinSeed, noOresInVein);
                 }
             } else {
                 // oreseed is located in the previously processed table
                 if (debugOrevein) GTLog.out
                     .print(" Valid oreveinSeed=" + oreveinSeed + " validOreveins.size()=" + validOreveins.size() + " ");
-                WorldgenGTOreLayer tWorldGen = validOreveins.get(oreveinSeed);
-                oreveinRNG.setSeed(oreveinSeed ^ (tWorldGen.mPrimaryMeta)); // Reset RNG to only be based on oreseed X/Z
-                                                                            // and type of vein
-                int placementResult = tWorldGen.executeWorldgenChunkified(
+                // Reset RNG to only be based on oreseed X/Z and type of vein
+                oreveinRNG.setSeed(oreveinSeed ^ (tCachedVein.mPrimaryMeta));
+                int placementResult = tCachedVein.executeWorldgenChunkified(
                     this.mWorld,
                     oreveinRNG,
                     this.mBiome,
@@ -0,0 +1,81 @@
+package gregtech.common;
+
+import gregtech.common.config.Worldgen;
+import it.unimi.dsi.fastutil.ints.Int2IntLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+
+/**
+ * Oreveins which have been decided for orevein seeds, see {@link GTWorldgenerator.WorldGenContainer#worldGenFindVein}.
+ * <p>
+ * Each dimension keeps at most {@link Worldgen.General#oreveinCacheSize} seeds, dropping the ones which haven't been
+ * used for the longest time once full. A dropped seed gets decided again from the same seed if it is needed again,
+ * which only happens once all chunks around it have long been generated.
+ */
+public class OreveinCache {
+
+    private final Int2ObjectMap<Long2ObjectLinkedOpenHashMap<WorldgenGTOreLayer>> mDimensions = new Int2ObjectOpenHashMap<>(
+        4);
+    private long mHits;
+    private long mMisses;
+    private long mEvictions;
+
+    /**
+     * @return The orevein decided for the seed, or null if it hasn't been decided yet
+     */
+    public synchronized WorldgenGTOreLayer get(int aDimension, long aSeed) {
+        final Long2ObjectLinkedOpenHashMap<WorldgenGTOreLayer> tVeins = mDimensions.get(aDimension);
+        final WorldgenGTOreLayer tVein = tVeins == null ? null : tVeins.getAndMoveToLast(aSeed);
+        if (tVein == null) mMisses++;
+        else mHits++;
+        return tVein;
+    }
+
+    public synchronized void put(int aDimension, long aSeed, WorldgenGTOreLayer aVein) {
+        Long2ObjectLinkedOpenHashMap<WorldgenGTOreLayer> tVeins = mDimensions.get(aDimension);
+        if (tVeins == null) {
+            tVeins = new Long2ObjectLinkedOpenHashMap<>();
+            mDimensions.put(aDimension, tVeins);
+        }
+        tVeins.putAndMoveToLast(aSeed, aVein);
+        final int tMaxSize = Math.max(1, Worldgen.general.oreveinCacheSize);
+        while (tVeins.size() > tMaxSize) {
+            tVeins.removeFirst();
+            mEvictions++;
+        }
+    }
+
+    public synchronized int size() {
+        int tSize = 0;
+        for (Long2ObjectLinkedOpenHashMap<WorldgenGTOreLayer> tVeins : mDimensions.values()) {
+            tSize += tVeins.size();
+        }
+        return tSize;
+    }
+
+    /**
+     * @return Amount of seeds kept for each dimension
+     */
+    public synchronized Int2IntLinkedOpenHashMap getSizes() {
+        final Int2IntLinkedOpenHashMap tSizes = new Int2IntLinkedOpenHashMap();
+        for (Int2ObjectMap.Entry<Long2ObjectLinkedOpenHashMap<WorldgenGTOreLayer>> tEntry : mDimensions
+            .int2ObjectEntrySet()) {
+            final Long2ObjectLinkedOpenHashMap<WorldgenGTOreLayer> tVeins = tEntry.getValue();
+            tSizes.put(tEntry.getIntKey(), tVeins.size());
+        }
+        return tSizes;
+    }
+
+    public synchronized long getHits() {
+        return mHits;
+    }
+
+    public synchronized long getMisses() {
+        return mMisses;
+    }
+
+    public synchronized long getEvictions() {
+        return mEvictions;
+    }
+}
@@ -21,7 +21,7 @@ import galacticgreg.api.enums.DimensionDef;
 import gregtech.api.GregTechAPI;
 import gregtech.api.util.GTLog;
 import gregtech.api.world.GTWorldgen;
-import gregtech.common.blocks.TileEntityOres;
+import gregtech.common.blocks.OrePlacer;
 
 public class WorldgenGTOreLayer extends GTWorldgen {
 
@@ -133,6 +133,7 @@ public class WorldgenGTOreLayer extends GTWorldgen {
         boolean isUnderdark = tDimensionName.equals("Underdark");
 
         int[] placeCount = new int[4];
+        final OrePlacer tPlacer = new OrePlacer(aWorld);
 
         int tMinY = mMinY + aRandom.nextInt(mMaxY - mMinY - 5);
         // Determine West/East ends of orevein
@@ -213,14 +214,13 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                 int placeZ = Math
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0)) && (this.mSecondaryMeta > 0)) {
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mSecondaryMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mSecondaryMeta, false, isUnderdark)) {
                         placeCount[1]++;
                     }
                 } else
                     if ((aRandom.nextInt(7) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -240,15 +240,13 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                         Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                     if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSecondaryMeta > 0)) {
-                        if (TileEntityOres
-                            .setOreBlock(aWorld, tX, level, tZ, this.mSecondaryMeta, false, isUnderdark)) {
+                        if (tPlacer.setOreBlock(tX, level, tZ, this.mSecondaryMeta, false, isUnderdark)) {
                             placeCount[1]++;
                         }
                     } else if ((aRandom.nextInt(7) == 0)
                         && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
                 }
@@ -263,20 +261,18 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if ((aRandom.nextInt(2) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                     && (this.mBetweenMeta > 0)) { // Between are reduce by 1/2 to compensate
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
                         placeCount[2]++;
                     }
                 } else if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                     && (this.mSecondaryMeta > 0)) {
-                        if (TileEntityOres
-                            .setOreBlock(aWorld, tX, level, tZ, this.mSecondaryMeta, false, isUnderdark)) {
+                        if (tPlacer.setOreBlock(tX, level, tZ, this.mSecondaryMeta, false, isUnderdark)) {
                             placeCount[1]++;
                         }
                     } else
                     if ((aRandom.nextInt(7) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -291,14 +287,13 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if ((aRandom.nextInt(2) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                     && (this.mBetweenMeta > 0)) { // Between are reduce by 1/2 to compensate
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
                         placeCount[2]++;
                     }
                 } else
                     if ((aRandom.nextInt(7) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -313,19 +308,18 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if ((aRandom.nextInt(2) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                     && (this.mBetweenMeta > 0)) { // Between are reduce by 1/2 to compensate
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
                         placeCount[2]++;
                     }
                 } else
                     if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0)) && (this.mPrimaryMeta > 0)) {
-                        if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
+                        if (tPlacer.setOreBlock(tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
                             placeCount[1]++;
                         }
                     } else if ((aRandom.nextInt(7) == 0)
                         && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -340,19 +334,18 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if ((aRandom.nextInt(2) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                     && (this.mBetweenMeta > 0)) { // Between are reduce by 1/2 to compensate
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mBetweenMeta, false, isUnderdark)) {
                         placeCount[2]++;
                     }
                 } else
                     if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0)) && (this.mPrimaryMeta > 0)) {
-                        if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
+                        if (tPlacer.setOreBlock(tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
                             placeCount[1]++;
                         }
                     } else if ((aRandom.nextInt(7) == 0)
                         && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -366,14 +359,13 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                 int placeZ = Math
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0)) && (this.mPrimaryMeta > 0)) {
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
                         placeCount[1]++;
                     }
                 } else
                     if ((aRandom.nextInt(7) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -387,14 +379,13 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                 int placeZ = Math
                     .max(1, Math.max(MathHelper.abs_int(sZVein - tZ), MathHelper.abs_int(nZVein - tZ)) / localDensity);
                 if (((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0)) && (this.mPrimaryMeta > 0)) {
-                    if (TileEntityOres.setOreBlock(aWorld, tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
+                    if (tPlacer.setOreBlock(tX, level, tZ, this.mPrimaryMeta, false, isUnderdark)) {
                         placeCount[1]++;
                     }
                 } else
                     if ((aRandom.nextInt(7) == 0) && ((aRandom.nextInt(placeZ) == 0) || (aRandom.nextInt(placeX) == 0))
                         && (this.mSporadicMeta > 0)) { // Sporadics are reduce by 1/7 to compensate
-                            if (TileEntityOres
-                                .setOreBlock(aWorld, tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
+                            if (tPlacer.setOreBlock(tX, level, tZ, this.mSporadicMeta, false, isUnderdark))
                                 placeCount[3]++;
                         }
             }
@@ -408,22 +399,22 @@ public class WorldgenGTOreLayer extends GTWorldgen {
                 int tZ = aRandom.nextInt(16) + aChunkZ + 2;
                 int tY = aRandom.nextInt(160) + 10; // Y height can vary from 10 to 170 for small ores.
                 if (this.mPrimaryMeta > 0)
-                    TileEntityOres.setOreBlock(aWorld, tX, tY, tZ, this.mPrimaryMeta, true, isUnderdark);
+                    tPlacer.setOreBlock(tX, tY, tZ, this.mPrimaryMeta, true, isUnderdark);
                 tX = aRandom.nextInt(16) + aChunkX + 2;
                 tZ = aRandom.nextInt(16) + aChunkZ + 2;
                 tY = aRandom.nextInt(160) + 10; // Y height can vary from 10 to 170 for small ores.
                 if (this.mSecondaryMeta > 0)
-                    TileEntityOres.setOreBlock(aWorld, tX, tY, tZ, this.mSecondaryMeta, true, isUnderdark);
+                    tPlacer.setOreBlock(tX, tY, tZ, this.mSecondaryMeta, true, isUnderdark);
                 tX = aRandom.nextInt(16) + aChunkX + 2;
                 tZ = aRandom.nextInt(16) + aChunkZ + 2;
                 tY = aRandom.nextInt(160) + 10; // Y height can vary from 10 to 170 for small ores.
                 if (this.mBetweenMeta > 0)
-                    TileEntityOres.setOreBlock(aWorld, tX, tY, tZ, this.mBetweenMeta, true, isUnderdark);
+                    tPlacer.setOreBlock(tX, tY, tZ, this.mBetweenMeta, true, isUnderdark);
                 tX = aRandom.nextInt(16) + aChunkX + 2;
                 tZ = aRandom.nextInt(16) + aChunkZ + 2;
                 tY = aRandom.nextInt(190) + 10; // Y height can vary from 10 to 200 for small ores.
                 if (this.mSporadicMeta > 0)
-                    TileEntityOres.setOreBlock(aWorld, tX, tY, tZ, this.mSporadicMeta, true, isUnderdark);
+                    tPlacer.setOreBlock(tX, tY, tZ, this.mSporadicMeta, true, isUnderdark);
             }
         }
         if (debugOrevein) {
@@ -0,0 +1,77 @@
+package gregtech.common.blocks;
+
+import net.minecraft.block.Block;
+import net.minecraft.init.Blocks;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
+
+/**
+ * Places many ores into the same few chunks, like an orevein does, by writing them straight into the block storage of
+ * the chunks.
+ * <p>
+ * Does the same as {@link TileEntityOres#setOreBlock(World, int, int, int, int, boolean, boolean)}, but skips what
+ * {@link World#setBlock} does on top of changing the block, which is only needed if the light changes. Blocks that
+ * have a tile entity, or where the ore would change the light, are still placed through the world. Like setOreBlock
+ * with no flags, nothing is sent to clients, so this is only meant for chunks being generated.
+ */
+public class OrePlacer {
+
+    private final World mWorld;
+    private Chunk mChunk;
+
+    public OrePlacer(World aWorld) {
+        mWorld = aWorld;
+    }
+
+    private Chunk getChunk(int aChunkX, int aChunkZ) {
+        if (mChunk == null || mChunk.xPosition != aChunkX || mChunk.zPosition != aChunkZ) {
+            mChunk = mWorld.getChunkFromChunkCoords(aChunkX, aChunkZ);
+        }
+        return mChunk;
+    }
+
+    public boolean setOreBlock(int aX, int aY, int aZ, int aMetaData, boolean isSmallOre, boolean air) {
+        if (!air) {
+            aY = Math.min(mWorld.getActualHeight(), Math.max(aY, 1));
+        }
+        if (aY < 0 || aY >= 256) return false;
+        if (aMetaData + (isSmallOre ? 16000 : 0) <= 0) return false;
+
+        final Chunk tChunk = getChunk(aX >> 4, aZ >> 4);
+        final ExtendedBlockStorage tStorage = tChunk.getBlockStorageArray()[aY >> 4];
+        // an empty section is all air, which ores are only placed into if allowed, and then through the world so that
+        // the section gets created
+        if (tStorage == null) {
+            return air && TileEntityOres.setOreBlock(mWorld, aX, aY, aZ, aMetaData, isSmallOre, true);
+        }
+        final int tX = aX & 15, tY = aY & 15, tZ = aZ & 15;
+        final Block tBlock = tStorage.getBlockByExtId(tX, tY, tZ);
+        if (tBlock == Blocks.air && !air) return false;
+        final int tBlockMeta = tStorage.getExtBlockMetadata(tX, tY, tZ);
+
+        final int tBackground = TileEntityOres.getOreBackground(mWorld, aX, aY, aZ, tBlock, tBlockMeta);
+        if (tBackground < 0) return false;
+        final Block tOreBlock = TileEntityOres.getOreBlock(tBackground);
+        if (tBlock.hasTileEntity(tBlockMeta) || tBlock.getLightOpacity() != tOreBlock.getLightOpacity()
+            || tBlock.getLightValue() != tOreBlock.getLightValue()) {
+            return TileEntityOres.setOreBlock(mWorld, aX, aY, aZ, aMetaData, isSmallOre, air);
+        }
+
+        final int tMetaData = aMetaData + (isSmallOre ? 16000 : 0) + TileEntityOres.getOreMetaOffset(tBackground);
+        final int tOreMeta = TileEntityOres.getHarvestData(
+            (short) tMetaData,
+            ((BlockOresAbstract) tOreBlock).getBaseBlockHarvestLevel(tMetaData % 16000 / 1000));
+        tStorage.func_150818_a(tX, tY, tZ, tOreBlock);
+        tStorage.setExtBlockMetadata(tX, tY, tZ, tOreMeta);
+        final TileEntity tTileEntity = tOreBlock.createTileEntity(mWorld, tOreMeta);
+        if (tTileEntity instanceof TileEntityOres tOres) {
+            tOres.mMetaData = (short) tMetaData;
+            tOres.mNatural = true;
+        }
+        mWorld.setTileEntity(aX, aY, aZ, tTileEntity);
+        tChunk.setChunkModified();
+        return true;
+    }
+}
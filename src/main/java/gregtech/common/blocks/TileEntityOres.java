@@ -3,6 +3,8 @@ package gregtech.common.blocks;
 import static gregtech.api.enums.TextureSet.SET_NONE;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
 import java.util.Random;
 
 import net.minecraft.block.Block;
@@ -26,6 +28,7 @@ import gregtech.api.objects.XSTR;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTOreDictUnificator;
 import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 
 public class TileEntityOres extends TileEntity implements IAllSidedTexturedTileEntity {
 
@@ -38,6 +41,10 @@ public class TileEntityOres extends TileEntity implements IAllSidedTexturedTileE
     private short mMetadataForCachedTexture = -1;
     private ITexture[] mCachedTexture;
 
+    private static final int UNKNOWN_BACKGROUND = Integer.MIN_VALUE;
+    // per block and metadata, what ores placed into it are made of, see getOreBackground
+    private static final Map<Block, int[]> sOreBackgrounds = new Reference2ObjectOpenHashMap<>();
+
     public static byte getHarvestData(short aMetaData, int aBaseBlockHarvestLevel) {
         Materials aMaterial = GregTechAPI.sGeneratedMaterials[(aMetaData % 1000)];
         byte tByte = aMaterial == null ? 0
@@ -64,59 +71,12 @@ public class TileEntityOres extends TileEntity implements IAllSidedTexturedTileE
             aY = Math.min(aWorld.getActualHeight(), Math.max(aY, 1));
         }
         Block tBlock = aWorld.getBlock(aX, aY, aZ);
-        Block tOreBlock = GregTechAPI.sBlockOres1;
-        int BlockMeta = aWorld.getBlockMetadata(aX, aY, aZ);
-        String BlockName = tBlock.getUnlocalizedName();
         aMetaData += isSmallOre ? 16000 : 0;
         if ((aMetaData > 0) && ((tBlock != Blocks.air) || air)) {
-            if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, Blocks.stone)) {
-                // Do nothing, stone background is default background.
-                // Do this comparison first since stone is most common
-            } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, Blocks.netherrack)) {
-                aMetaData += 1000;
-            } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, Blocks.end_stone)) {
-                aMetaData += 2000;
-            } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, GregTechAPI.sBlockGranites)) {
-                if (tBlock == GregTechAPI.sBlockGranites) {
-                    if (aWorld.getBlockMetadata(aX, aY, aZ) < 8) {
-                        aMetaData += 3000;
-                    } else {
-                        aMetaData += 4000;
-                    }
-                } else {
-                    aMetaData += 3000;
-                }
-            } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, GregTechAPI.sBlockStones)) {
-                if (tBlock == GregTechAPI.sBlockStones) {
-                    if (aWorld.getBlockMetadata(aX, aY, aZ) < 8) {
-                        aMetaData += 5000;
-                    } else {
-                        aMetaData += 6000;
-                    }
-                } else {
-                    aMetaData += 5000;
-                }
-            } else if (BlockName.equals("tile.igneousStone")) {
-                if (GregTechAPI.sBlockOresUb1 != null) {
-                    tOreBlock = GregTechAPI.sBlockOresUb1;
-                    aMetaData += (BlockMeta * 1000);
-                    // GT_FML_LOGGER.info("Block changed to UB1");
-                }
-            } else if (BlockName.equals("tile.metamorphicStone")) {
-                if (GregTechAPI.sBlockOresUb2 != null) {
-                    tOreBlock = GregTechAPI.sBlockOresUb2;
-                    aMetaData += (BlockMeta * 1000);
-                    // GT_FML_LOGGER.info("Block changed to UB2");
-                }
-            } else if (BlockName.equals("tile.sedimentaryStone")) {
-                if (GregTechAPI.sBlockOresUb3 != null) {
-                    tOreBlock = GregTechAPI.sBlockOresUb3;
-                    aMetaData += (BlockMeta * 1000);
-                    // GT_FML_LOGGER.info("Block changed to UB3");
-                }
-            } else {
-                return false;
-            }
+            final int tBackground = getOreBackground(aWorld, aX, aY, aZ, tBlock, aWorld.getBlockMetadata(aX, aY, aZ));
+            if (tBackground < 0) return false;
+            Block tOreBlock = getOreBlock(tBackground);
+            aMetaData += getOreMetaOffset(tBackground);
             // GT_FML_LOGGER.info(tOreBlock);
             aWorld.setBlock(
                 aX,
@@ -137,6 +97,87 @@ public class TileEntityOres extends TileEntity implements IAllSidedTexturedTileE
         return false;
     }
 
+    /**
+     * Looks up which ore block replaces the given block and which stone the ore shows, see
+     * {@link #getOreBlock(int)} and {@link #getOreMetaOffset(int)}. The checks for a block and metadata are only done
+     * once, the first time they are asked for.
+     *
+     * @return -1 if no ore can be placed into the block
+     */
+    public static int getOreBackground(World aWorld, int aX, int aY, int aZ, Block aBlock, int aBlockMeta) {
+        int[] tBackgrounds = sOreBackgrounds.get(aBlock);
+        if (tBackgrounds == null) {
+            tBackgrounds = new int[16];
+            Arrays.fill(tBackgrounds, UNKNOWN_BACKGROUND);
+            sOreBackgrounds.put(aBlock, tBackgrounds);
+        }
+        int tBackground = tBackgrounds[aBlockMeta & 15];
+        if (tBackground == UNKNOWN_BACKGROUND) {
+            tBackground = computeOreBackground(aWorld, aX, aY, aZ, aBlock, aBlockMeta);
+            tBackgrounds[aBlockMeta & 15] = tBackground;
+        }
+        return tBackground;
+    }
+
+    private static int computeOreBackground(World aWorld, int aX, int aY, int aZ, Block tBlock, int BlockMeta) {
+        String BlockName = tBlock.getUnlocalizedName();
+        if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, Blocks.stone)) {
+            // Do nothing, stone background is default background.
+            // Do this comparison first since stone is most common
+            return 0;
+        } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, Blocks.netherrack)) {
+            return 1000;
+        } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, Blocks.end_stone)) {
+            return 2000;
+        } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, GregTechAPI.sBlockGranites)) {
+            if (tBlock == GregTechAPI.sBlockGranites) {
+                return BlockMeta < 8 ? 3000 : 4000;
+            }
+            return 3000;
+        } else if (tBlock.isReplaceableOreGen(aWorld, aX, aY, aZ, GregTechAPI.sBlockStones)) {
+            if (tBlock == GregTechAPI.sBlockStones) {
+                return BlockMeta < 8 ? 5000 : 6000;
+            }
+            return 5000;
+        } else if (BlockName.equals("tile.igneousStone")) {
+            if (GregTechAPI.sBlockOresUb1 != null) {
+                return 1 << 16 | BlockMeta * 1000;
+            }
+            return 0;
+        } else if (BlockName.equals("tile.metamorphicStone")) {
+            if (GregTechAPI.sBlockOresUb2 != null) {
+                return 2 << 16 | BlockMeta * 1000;
+            }
+            return 0;
+        } else if (BlockName.equals("tile.sedimentaryStone")) {
+            if (GregTechAPI.sBlockOresUb3 != null) {
+                return 3 << 16 | BlockMeta * 1000;
+            }
+            return 0;
+        }
+        return -1;
+    }
+
+    /**
+     * @param aBackground Result of {@link #getOreBackground}
+     */
+    public static Block getOreBlock(int aBackground) {
+        return switch (aBackground >> 16) {
+            case 1 -> GregTechAPI.sBlockOresUb1;
+            case 2 -> GregTechAPI.sBlockOresUb2;
+            case 3 -> GregTechAPI.sBlockOresUb3;
+            default -> GregTechAPI.sBlockOres1;
+        };
+    }
+
+    /**
+     * @param aBackground Result of {@link #getOreBackground}
+     * @return What needs to be added to the ore metadata for the stone the ore shows
+     */
+    public static int getOreMetaOffset(int aBackground) {
+        return aBackground & 0xFFFF;
+    }
+
     @Override
     public void readFromNBT(NBTTagCompound aNBT) {
         super.readFromNBT(aNBT);
@@ -76,5 +76,10 @@ public class Worldgen {
         @Config.DefaultBoolean(true)
         @Config.RequiresMcRestart
         public boolean generateUndergroundGravelGen;
+
+        @Config.Comment("How many orevein seeds are remembered per dimension. The least recently used ones are decided again from their seed once more are needed.")
+        @Config.DefaultInt(65536)
+        @Config.RangeInt(min = 1024)
+        public int oreveinCacheSize;
     }
 }
@@ -11,6 +11,7 @@ import com.gtnewhorizons.modularui.api.screen.ModularWindow;
 import gregtech.api.covers.CoverContext;
 import gregtech.api.gui.modularui.CoverUIBuildContext;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.tileentity.ICoverable;
 import gregtech.common.gui.mui1.cover.AdvancedRedstoneReceiverBaseUIFactory;
 import io.netty.buffer.ByteBuf;
 
@@ -18,6 +19,11 @@ public abstract class CoverAdvancedRedstoneReceiverBase extends CoverAdvancedWir
 
     private GateMode mode;
 
+    // the frequency this cover listens to, and its signal since it last changed
+    private WirelessRedstoneFrequencies.Frequency subscribedFrequency;
+    private boolean signalChanged = true;
+    private byte signal;
+
     public CoverAdvancedRedstoneReceiverBase(CoverContext context, ITexture coverTexture) {
         super(context, coverTexture);
         this.mode = GateMode.AND;
@@ -29,21 +35,69 @@ public abstract class CoverAdvancedRedstoneReceiverBase extends CoverAdvancedWir
 
     public CoverAdvancedRedstoneReceiverBase setMode(GateMode mode) {
         this.mode = mode;
+        signalChanged = true;
         return this;
     }
 
+    /**
+     * Same as {@link #getSignalAt}, but only reads the frequency again once a transmitter on it changed.
+     */
+    protected byte getSignal() {
+        final ICoverable coverable = coveredTile.get();
+        if (coverable == null || !coverable.isServerSide()) return getSignalAt(uuid, frequency, mode);
+        if (subscribedFrequency == null || !subscribedFrequency.is(uuid, frequency)) {
+            unsubscribe();
+            subscribedFrequency = WirelessRedstoneFrequencies.get(uuid, frequency);
+            subscribedFrequency.subscribe(this);
+            signalChanged = true;
+        }
+        if (signalChanged) {
+            signalChanged = false;
+            signal = subscribedFrequency.getSignal(mode);
+        }
+        return signal;
+    }
+
+    void onSignalChanged() {
+        signalChanged = true;
+    }
+
+    private void unsubscribe() {
+        if (subscribedFrequency != null) {
+            subscribedFrequency.unsubscribe(this);
+            subscribedFrequency = null;
+        }
+    }
+
+    @Override
+    public void onCoverRemoval() {
+        unsubscribe();
+    }
+
+    @Override
+    public void onCoverUnload() {
+        unsubscribe();
+    }
+
+    @Override
+    public void onBaseTEDestroyed() {
+        unsubscribe();
+    }
+
     @Override
     protected void readDataFromNbt(NBTBase nbt) {
         super.readDataFromNbt(nbt);
 
         NBTTagCompound tag = (NBTTagCompound) nbt;
         mode = GateMode.values()[tag.getByte("mode")];
+        signalChanged = true;
     }
 
     @Override
     public void readDataFromPacket(ByteArrayDataInput byteData) {
         super.readDataFromPacket(byteData);
         mode = GateMode.values()[byteData.readByte()];
+        signalChanged = true;
     }
 
     @Override
@@ -16,7 +16,7 @@ public class CoverAdvancedRedstoneReceiverExternal extends CoverAdvancedRedstone
         if (coverable == null) {
             return;
         }
-        coverable.setOutputRedstoneSignal(coverSide, getSignalAt(getUuid(), getFrequency(), getGateMode()));
+        coverable.setOutputRedstoneSignal(coverSide, getSignal());
     }
 
     @Override
@@ -23,7 +23,7 @@ public class CoverAdvancedRedstoneReceiverInternal extends CoverAdvancedRedstone
 
     @Override
     public byte getRedstoneInput(byte aInputRedstone) {
-        return getSignalAt(getUuid(), getFrequency(), getGateMode());
+        return getSignal();
     }
 
     @Override
@@ -22,6 +22,9 @@ public abstract class CoverAdvancedRedstoneTransmitterBase extends CoverAdvanced
 
     protected boolean invert;
 
+    // the frequency this cover transmits on, kept to not look it up every time
+    private WirelessRedstoneFrequencies.Frequency transmittingFrequency;
+
     public CoverAdvancedRedstoneTransmitterBase(CoverContext context, ITexture coverTexture) {
         super(context, coverTexture);
         this.invert = false;
@@ -77,6 +80,14 @@ public abstract class CoverAdvancedRedstoneTransmitterBase extends CoverAdvanced
         byteBuf.writeBoolean(invert);
     }
 
+    protected void setSignal(@NotNull ICoverable coverable, byte signal) {
+        if (transmittingFrequency == null || !transmittingFrequency.is(uuid, frequency)) {
+            unregisterSignal();
+            transmittingFrequency = WirelessRedstoneFrequencies.get(uuid, frequency);
+        }
+        transmittingFrequency.setSignal(getCoverKey(coverable), signal);
+    }
+
     private void unregisterSignal() {
         unregisterSignal(uuid, frequency);
     }
@@ -84,8 +95,12 @@ public abstract class CoverAdvancedRedstoneTransmitterBase extends CoverAdvanced
     private void unregisterSignal(UUID oldUuid, String oldFrequency) {
         ICoverable coverable = coveredTile.get();
         if (coverable == null) return;
-        final CoverPosition key = getCoverKey(coverable, coverSide);
-        removeSignalAt(uuid, frequency, key);
+        final CoverPosition key = getCoverKey(coverable);
+        if (transmittingFrequency != null) {
+            transmittingFrequency.removeSignal(key);
+            transmittingFrequency = null;
+        }
+        removeSignalAt(oldUuid, oldFrequency, key);
     }
 
     @Override
@@ -6,7 +6,6 @@ import gregtech.api.covers.CoverContext;
 import gregtech.api.gui.modularui.CoverUIBuildContext;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.tileentity.ICoverable;
-import gregtech.common.covers.CoverPosition;
 import gregtech.common.gui.mui1.cover.CoverAdvancedRedstoneTransmitterExternalUIFactory;
 
 public class CoverAdvancedRedstoneTransmitterExternal extends CoverAdvancedRedstoneTransmitterBase {
@@ -27,8 +26,7 @@ public class CoverAdvancedRedstoneTransmitterExternal extends CoverAdvancedRedst
             else outputRedstone = 15;
         }
 
-        final CoverPosition key = getCoverKey(coverable, coverSide);
-        setSignalAt(getUuid(), getFrequency(), key, outputRedstone);
+        setSignal(coverable, outputRedstone);
     }
 
     @Override
@@ -1,8 +1,6 @@
 package gregtech.common.covers.redstone;
 
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
 
 import net.minecraft.nbt.NBTBase;
 import net.minecraft.nbt.NBTTagCompound;
@@ -13,7 +11,6 @@ import org.jetbrains.annotations.NotNull;
 
 import com.google.common.io.ByteArrayDataInput;
 
-import gregtech.api.GregTechAPI;
 import gregtech.api.covers.CoverContext;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.tileentity.ICoverable;
@@ -31,6 +28,8 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
      **/
     protected UUID uuid;
 
+    private CoverPosition coverKey;
+
     public CoverAdvancedWirelessRedstoneBase(CoverContext context, ITexture coverTexture) {
         super(context, coverTexture);
         this.frequency = "0";
@@ -58,12 +57,9 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
     @Override
     protected void readDataFromNbt(NBTBase nbt) {
         NBTTagCompound tag = (NBTTagCompound) nbt;
-        ICoverable cover = coveredTile.get();;
+        ICoverable cover = coveredTile.get();
         if (cover != null && cover.getWorld() != null) {
-            GregTechAPI.sAdvancedWirelessRedstone
-                .computeIfAbsent(uuid == null ? "null" : uuid.toString(), (k) -> new ConcurrentHashMap<>())
-                .computeIfAbsent(frequency, (k) -> new ConcurrentHashMap<>())
-                .remove(getCoverKey(cover, coverSide));
+            WirelessRedstoneFrequencies.removeSignal(uuid, frequency, getCoverKey(cover), true);
         }
         frequency = tag.getString("frequency");
         if (tag.hasKey("uuid")) {
@@ -111,68 +107,15 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
     }
 
     public static Byte getSignalAt(UUID uuid, String frequency, CoverAdvancedRedstoneReceiverBase.GateMode mode) {
-        Map<String, Map<CoverPosition, Byte>> frequencies = GregTechAPI.sAdvancedWirelessRedstone
-            .get(String.valueOf(uuid));
-        if (frequencies == null) return 0;
-
-        Map<CoverPosition, Byte> signals = frequencies.get(frequency);
-        if (signals == null) signals = new ConcurrentHashMap<>();
-
-        switch (mode) {
-            case AND -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(true, (signalA, signalB) -> signalA && signalB) ? 15 : 0);
-            }
-            case NAND -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(true, (signalA, signalB) -> signalA && signalB) ? 0 : 15);
-            }
-            case OR -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(false, (signalA, signalB) -> signalA || signalB) ? 15 : 0);
-            }
-            case NOR -> {
-                return (byte) (signals.values()
-                    .stream()
-                    .map(signal -> signal > 0)
-                    .reduce(false, (signalA, signalB) -> signalA || signalB) ? 0 : 15);
-            }
-            case SINGLE_SOURCE -> {
-                if (signals.values()
-                    .isEmpty()) {
-                    return 0;
-                }
-                return signals.values()
-                    .iterator()
-                    .next();
-            }
-            default -> {
-                return 0;
-            }
-        }
+        return WirelessRedstoneFrequencies.getSignal(uuid, frequency, mode);
     }
 
     public static void removeSignalAt(UUID uuid, String frequency, CoverPosition key) {
-        Map<String, Map<CoverPosition, Byte>> frequencies = GregTechAPI.sAdvancedWirelessRedstone
-            .get(String.valueOf(uuid));
-        if (frequencies == null) return;
-        frequencies.computeIfPresent(frequency, (freq, coverPositionByteMap) -> {
-            coverPositionByteMap.remove(key);
-            return coverPositionByteMap.isEmpty() ? null : coverPositionByteMap;
-        });
+        WirelessRedstoneFrequencies.removeSignal(uuid, frequency, key, false);
     }
 
     public static void setSignalAt(UUID uuid, String frequency, CoverPosition key, byte value) {
-        Map<String, Map<CoverPosition, Byte>> frequencies = GregTechAPI.sAdvancedWirelessRedstone
-            .computeIfAbsent(String.valueOf(uuid), k -> new ConcurrentHashMap<>());
-        Map<CoverPosition, Byte> signals = frequencies.computeIfAbsent(frequency, k -> new ConcurrentHashMap<>());
-        signals.put(key, value);
+        WirelessRedstoneFrequencies.setSignal(uuid, frequency, key, value);
     }
 
     public static CoverPosition getCoverKey(@NotNull ICoverable tile, ForgeDirection side) {
@@ -183,6 +126,16 @@ public abstract class CoverAdvancedWirelessRedstoneBase extends Cover {
             side.ordinal());
     }
 
+    /**
+     * Same as {@link #getCoverKey(ICoverable, ForgeDirection)} for this cover, which only changes with the world.
+     */
+    protected CoverPosition getCoverKey(@NotNull ICoverable tile) {
+        if (coverKey == null || coverKey.dim != tile.getWorld().provider.dimensionId) {
+            coverKey = getCoverKey(tile, coverSide);
+        }
+        return coverKey;
+    }
+
     @Override
     public boolean letsEnergyIn() {
         return true;
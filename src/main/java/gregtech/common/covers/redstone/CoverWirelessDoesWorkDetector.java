@@ -13,7 +13,6 @@ import gregtech.api.gui.modularui.CoverUIBuildContext;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.tileentity.ICoverable;
 import gregtech.api.interfaces.tileentity.IMachineProgress;
-import gregtech.common.covers.CoverPosition;
 import gregtech.common.gui.mui1.cover.WirelessActivityDetectorUIFactory;
 import io.netty.buffer.ByteBuf;
 
@@ -118,8 +117,7 @@ public class CoverWirelessDoesWorkDetector extends CoverAdvancedRedstoneTransmit
             return;
         }
         final byte signal = computeSignalBasedOnActivity(coverable);
-        final CoverPosition key = getCoverKey(coverable, coverSide);
-        setSignalAt(getUuid(), getFrequency(), key, signal);
+        setSignal(coverable, signal);
 
         if (physical) {
             coverable.setOutputRedstoneSignal(coverSide, signal);
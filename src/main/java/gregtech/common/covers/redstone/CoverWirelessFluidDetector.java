@@ -13,7 +13,6 @@ import gregtech.api.gui.modularui.CoverUIBuildContext;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.tileentity.ICoverable;
 import gregtech.common.covers.CoverLiquidMeter;
-import gregtech.common.covers.CoverPosition;
 import gregtech.common.gui.mui1.cover.WirelessFluidDetectorUIFactory;
 import io.netty.buffer.ByteBuf;
 
@@ -91,8 +90,7 @@ public class CoverWirelessFluidDetector extends CoverAdvancedRedstoneTransmitter
             return;
         }
         final byte signal = CoverLiquidMeter.computeSignalBasedOnFluid(coverable, invert, threshold);
-        final CoverPosition key = getCoverKey(coverable, coverSide);
-        setSignalAt(getUuid(), getFrequency(), key, signal);
+        setSignal(coverable, signal);
 
         if (physical) {
             coverable.setOutputRedstoneSignal(coverSide, signal);
@@ -13,7 +13,6 @@ import gregtech.api.gui.modularui.CoverUIBuildContext;
 import gregtech.api.interfaces.ITexture;
 import gregtech.api.interfaces.tileentity.ICoverable;
 import gregtech.common.covers.CoverItemMeter;
-import gregtech.common.covers.CoverPosition;
 import gregtech.common.gui.mui1.cover.WirelessItemDetectorUIFactory;
 import io.netty.buffer.ByteBuf;
 
@@ -112,8 +111,7 @@ public class CoverWirelessItemDetector extends CoverAdvancedRedstoneTransmitterB
             return;
         }
         byte signal = CoverItemMeter.computeSignalBasedOnItems(coverable, invert, threshold, slot, coverSide.ordinal());
-        final CoverPosition key = getCoverKey(coverable, coverSide);
-        setSignalAt(getUuid(), getFrequency(), key, signal);
+        setSignal(coverable, signal);
 
         if (physical) {
             coverable.setOutputRedstoneSignal(coverSide, signal);
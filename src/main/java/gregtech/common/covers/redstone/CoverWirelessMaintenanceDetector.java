@@ -18,7 +18,6 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.items.MetaGeneratedTool;
 import gregtech.api.metatileentity.implementations.MTEMultiBlockBase;
 import gregtech.common.covers.CoverNeedMaintainance;
-import gregtech.common.covers.CoverPosition;
 import gregtech.common.gui.mui1.cover.WirelessMaintenanceDetectorUIFactory;
 import io.netty.buffer.ByteBuf;
 
@@ -138,8 +137,7 @@ public class CoverWirelessMaintenanceDetector extends CoverAdvancedRedstoneTrans
             return;
         }
         final byte signal = computeSignalBasedOnMaintenance(coverable);
-        final CoverPosition key = getCoverKey(coverable, coverSide);
-        setSignalAt(getUuid(), getFrequency(), key, signal);
+        setSignal(coverable, signal);
 
         if (physical) {
             coverable.setOutputRedstoneSignal(coverSide, signal);
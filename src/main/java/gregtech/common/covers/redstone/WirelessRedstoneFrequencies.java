@@ -0,0 +1,268 @@
+package gregtech.common.covers.redstone;
+
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.Objects;
+import java.util.UUID;
+
+import gregtech.common.covers.CoverPosition;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+
+/**
+ * Signals of all advanced wireless redstone transmitters, by owner and frequency. The owner is null for public
+ * frequencies.
+ * <p>
+ * Each frequency keeps the signals of its transmitters in an array and counts how many of them are active, so the
+ * gate of a receiver is answered without going through the transmitters. Receivers subscribe to the frequency they
+ * listen to, and are only told to read it again when a transmitter on it changed.
+ */
+public final class WirelessRedstoneFrequencies {
+
+    private static final Map<UUID, Owner> owners = new HashMap<>();
+    private static final Map<String, Map<String, Map<CoverPosition, Byte>>> view = new AbstractMap<>() {
+
+        @Override
+        public Set<Entry<String, Map<String, Map<CoverPosition, Byte>>>> entrySet() {
+            return snapshot().entrySet();
+        }
+    };
+
+    private WirelessRedstoneFrequencies() {}
+
+    /**
+     * @return The frequency, which is created if it doesn't exist yet
+     */
+    public static synchronized Frequency get(UUID uuid, String frequency) {
+        Owner owner = owners.get(uuid);
+        if (owner == null) {
+            owner = new Owner(uuid);
+            owners.put(uuid, owner);
+        }
+        Frequency result = owner.frequencies.get(frequency);
+        if (result == null) {
+            result = new Frequency(owner, frequency);
+            owner.frequencies.put(frequency, result);
+        }
+        return result;
+    }
+
+    public static synchronized byte getSignal(UUID uuid, String frequency,
+        CoverAdvancedRedstoneReceiverBase.GateMode mode) {
+        final Owner owner = owners.get(uuid);
+        if (owner == null || !owner.known) return 0;
+        final Frequency result = owner.frequencies.get(frequency);
+        return result == null ? getSignal(mode, 0, 0, (byte) 0) : result.getSignal(mode);
+    }
+
+    public static synchronized void setSignal(UUID uuid, String frequency, CoverPosition key, byte signal) {
+        get(uuid, frequency).setSignal(key, signal);
+    }
+
+    /**
+     * Removes a transmitter. If the owner has no frequencies yet, nothing happens, unless it is told to be known, which
+     * receivers of its frequencies without any transmitters then treat like an owner who once had transmitters.
+     */
+    public static synchronized void removeSignal(UUID uuid, String frequency, CoverPosition key, boolean know) {
+        Owner owner = owners.get(uuid);
+        if (owner == null) {
+            if (!know) return;
+            owner = new Owner(uuid);
+            owners.put(uuid, owner);
+        }
+        if (know) owner.setKnown();
+        final Frequency result = owner.frequencies.get(frequency);
+        if (result != null) result.removeSignal(key);
+    }
+
+    /**
+     * Drops all frequencies, when the server stops. Receivers and transmitters holding on to them look them up again.
+     */
+    public static synchronized void clear() {
+        for (Owner owner : owners.values()) {
+            for (Frequency frequency : owner.frequencies.values()) {
+                frequency.removed = true;
+                frequency.notifyReceivers();
+            }
+        }
+        owners.clear();
+    }
+
+    public static synchronized void forEachTransmitter(TransmitterConsumer consumer) {
+        for (Owner owner : owners.values()) {
+            for (Frequency frequency : owner.frequencies.values()) {
+                for (int i = 0; i < frequency.size; i++) {
+                    consumer.accept(owner.uuid, frequency.name, frequency.positions[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return Signals of all transmitters in the layout of the former {@code GregTechAPI.sAdvancedWirelessRedstone}, by
+     *         owner uuid as a string ({@code "null"} for public frequencies), frequency and position. The map can't be
+     *         modified, and every read copies the current signals.
+     */
+    public static Map<String, Map<String, Map<CoverPosition, Byte>>> view() {
+        return view;
+    }
+
+    private static synchronized Map<String, Map<String, Map<CoverPosition, Byte>>> snapshot() {
+        final Map<String, Map<String, Map<CoverPosition, Byte>>> result = new HashMap<>();
+        for (Owner owner : owners.values()) {
+            final Map<String, Map<CoverPosition, Byte>> frequencies = new HashMap<>();
+            for (Frequency frequency : owner.frequencies.values()) {
+                final Map<CoverPosition, Byte> signals = new HashMap<>();
+                for (int i = 0; i < frequency.size; i++) {
+                    signals.put(frequency.positions[i], frequency.signals[i]);
+                }
+                frequencies.put(frequency.name, Collections.unmodifiableMap(signals));
+            }
+            result.put(String.valueOf(owner.uuid), Collections.unmodifiableMap(frequencies));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private static byte getSignal(CoverAdvancedRedstoneReceiverBase.GateMode mode, int size, int active, byte first) {
+        return switch (mode) {
+            case AND -> (byte) (active == size ? 15 : 0);
+            case NAND -> (byte) (active == size ? 0 : 15);
+            case OR -> (byte) (active > 0 ? 15 : 0);
+            case NOR -> (byte) (active > 0 ? 0 : 15);
+            case SINGLE_SOURCE -> size == 0 ? 0 : first;
+        };
+    }
+
+    @FunctionalInterface
+    public interface TransmitterConsumer {
+
+        void accept(UUID owner, String frequency, CoverPosition position);
+    }
+
+    private static final class Owner {
+
+        private final UUID uuid;
+        private final Map<String, Frequency> frequencies = new HashMap<>();
+        // whether the owner ever had a transmitter, receivers of unknown owners always read 0
+        private boolean known;
+
+        private Owner(UUID uuid) {
+            this.uuid = uuid;
+        }
+
+        private void setKnown() {
+            if (known) return;
+            known = true;
+            for (Frequency frequency : frequencies.values()) frequency.notifyReceivers();
+        }
+    }
+
+    public static final class Frequency {
+
+        private final Owner owner;
+        private final String name;
+        private final Object2IntOpenHashMap<CoverPosition> slots = new Object2IntOpenHashMap<>();
+        private CoverPosition[] positions = new CoverPosition[2];
+        private byte[] signals = new byte[2];
+        private int size;
+        // amount of transmitters with a signal above 0
+        private int active;
+        private final ReferenceOpenHashSet<CoverAdvancedRedstoneReceiverBase> receivers = new ReferenceOpenHashSet<>();
+        private boolean removed;
+
+        private Frequency(Owner owner, String name) {
+            this.owner = owner;
+            this.name = name;
+            slots.defaultReturnValue(-1);
+        }
+
+        /**
+         * @return Whether this is still the frequency of the given owner and name
+         */
+        public boolean is(UUID uuid, String frequency) {
+            return !removed && Objects.equals(owner.uuid, uuid) && name.equals(frequency);
+        }
+
+        public byte getSignal(CoverAdvancedRedstoneReceiverBase.GateMode mode) {
+            synchronized (WirelessRedstoneFrequencies.class) {
+                if (!owner.known) return 0;
+                return WirelessRedstoneFrequencies.getSignal(mode, size, active, size == 0 ? 0 : signals[0]);
+            }
+        }
+
+        public void setSignal(CoverPosition key, byte signal) {
+            synchronized (WirelessRedstoneFrequencies.class) {
+                owner.setKnown();
+                final int slot = slots.getInt(key);
+                if (slot < 0) {
+                    if (size == positions.length) {
+                        positions = Arrays.copyOf(positions, size * 2);
+                        signals = Arrays.copyOf(signals, size * 2);
+                    }
+                    positions[size] = key;
+                    signals[size] = signal;
+                    slots.put(key, size++);
+                    if (signal > 0) active++;
+                    notifyReceivers();
+                    return;
+                }
+                final byte oldSignal = signals[slot];
+                if (oldSignal == signal) return;
+                signals[slot] = signal;
+                if (oldSignal > 0 != signal > 0) {
+                    active += signal > 0 ? 1 : -1;
+                } else if (slot != 0) {
+                    // only the first transmitter's exact signal is read, by single source receivers
+                    return;
+                }
+                notifyReceivers();
+            }
+        }
+
+        public void removeSignal(CoverPosition key) {
+            synchronized (WirelessRedstoneFrequencies.class) {
+                final int slot = slots.removeInt(key);
+                if (slot < 0) return;
+                if (signals[slot] > 0) active--;
+                final int last = --size;
+                if (slot != last) {
+                    positions[slot] = positions[last];
+                    signals[slot] = signals[last];
+                    slots.put(positions[slot], slot);
+                }
+                positions[last] = null;
+                notifyReceivers();
+                removeIfUnused();
+            }
+        }
+
+        /**
+         * Tells the receiver whenever the signal of this frequency might have changed, until it unsubscribes.
+         */
+        public void subscribe(CoverAdvancedRedstoneReceiverBase receiver) {
+            synchronized (WirelessRedstoneFrequencies.class) {
+                receivers.add(receiver);
+            }
+        }
+
+        public void unsubscribe(CoverAdvancedRedstoneReceiverBase receiver) {
+            synchronized (WirelessRedstoneFrequencies.class) {
+                if (receivers.remove(receiver)) removeIfUnused();
+            }
+        }
+
+        private void notifyReceivers() {
+            for (CoverAdvancedRedstoneReceiverBase receiver : receivers) receiver.onSignalChanged();
+        }
+
+        private void removeIfUnused() {
+            if (size > 0 || !receivers.isEmpty() || removed) return;
+            removed = true;
+            owner.frequencies.remove(name);
+        }
+    }
+}
@@ -47,6 +47,7 @@ import gregtech.api.GregTechAPI;
 import gregtech.api.enums.GTValues;
 import gregtech.api.net.PacketDebugRedstoneCover;
 import gregtech.common.covers.CoverPosition;
+import gregtech.common.covers.redstone.WirelessRedstoneFrequencies;
 import gregtech.common.items.ItemRedstoneSniffer;
 import gregtech.common.misc.spaceprojects.SpaceProjectManager;
 
@@ -208,16 +209,10 @@ public class RedstoneSnifferGuiBuilder {
         GenericListSyncHandler<ItemRedstoneSniffer.SnifferEntry> advancedMapSyncer = new GenericListSyncHandler<>(
             () -> {
                 List<ItemRedstoneSniffer.SnifferEntry> result = new ArrayList<>();
-                GregTechAPI.sAdvancedWirelessRedstone.forEach((uuid, coverMap) -> {
-                    if (playerIsOp || canSeeCovers(guiData, uuid)) {
-                        String owner = uuid.equals("null") ? "Public"
-                            : SpaceProjectManager.getPlayerNameFromUUID(UUID.fromString(uuid));
-                        coverMap.forEach((frequency, covers) -> {
-                            covers.forEach(
-                                (coverPosition, ignored) -> {
-                                    result.add(new ItemRedstoneSniffer.SnifferEntry(owner, frequency, coverPosition));
-                                });
-                        });
+                WirelessRedstoneFrequencies.forEachTransmitter((uuid, frequency, coverPosition) -> {
+                    if (playerIsOp || canSeeCovers(guiData, String.valueOf(uuid))) {
+                        String owner = uuid == null ? "Public" : SpaceProjectManager.getPlayerNameFromUUID(uuid);
+                        result.add(new ItemRedstoneSniffer.SnifferEntry(owner, frequency, coverPosition));
                     }
                 });
                 return result;
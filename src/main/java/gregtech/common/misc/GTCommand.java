@@ -4,15 +4,19 @@ import static gregtech.common.misc.WirelessNetworkManager.addEUToGlobalEnergyMap
 import static gregtech.common.misc.WirelessNetworkManager.getUserEU;
 import static gregtech.common.misc.WirelessNetworkManager.setUserEU;
 
+import java.io.File;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Stream;
 
 import net.minecraft.command.CommandBase;
 import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.util.ChatComponentText;
 import net.minecraft.util.ChunkCoordinates;
 import net.minecraft.util.EnumChatFormatting;
@@ -22,11 +26,17 @@ import com.gtnewhorizon.structurelib.StructureLib;
 import cpw.mods.fml.relauncher.FMLLaunchHandler;
 import gregtech.GTMod;
 import gregtech.api.enums.GTValues;
+import gregtech.api.graphs.NodeMap;
+import gregtech.api.metatileentity.TickProfiler;
 import gregtech.api.objects.GTChunkManager;
+import gregtech.api.threads.RunnableMachineUpdate;
 import gregtech.api.util.GTMusicSystem;
 import gregtech.api.util.GTUtility;
+import gregtech.common.GTWorldgenerator;
+import gregtech.common.OreveinCache;
 import gregtech.common.misc.spaceprojects.SpaceProjectManager;
 import gregtech.common.pollution.Pollution;
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
 
 public final class GTCommand extends CommandBase {
 
@@ -37,13 +47,13 @@ public final class GTCommand extends CommandBase {
 
     @Override
     public String getCommandUsage(ICommandSender sender) {
-        return "Usage: gt <subcommand>. Valid subcommands are: toggle, chunks, pollution, global_energy_add, global_energy_set, global_energy_join, dump_music_durations.";
+        return "Usage: gt <subcommand>. Valid subcommands are: toggle, chunks, pollution, global_energy_add, global_energy_set, global_energy_join, dump_music_durations, cable_networks, machine_updates, oreveins, wireless_energy, tick_profiler.";
     }
 
     private void printHelp(ICommandSender sender) {
         sender.addChatMessage(
             new ChatComponentText(
-                "Usage: gt <toggle|chunks|pollution|global_energy_add|global_energy_set|global_energy_join|dump_music_durations>"));
+                "Usage: gt <toggle|chunks|pollution|global_energy_add|global_energy_set|global_energy_join|dump_music_durations|cable_networks|machine_updates|oreveins|wireless_energy|tick_profiler>"));
         sender.addChatMessage(new ChatComponentText("\"toggle D1\" - toggles general.Debug (D1)"));
         sender.addChatMessage(new ChatComponentText("\"toggle D2\" - toggles general.Debug2 (D2)"));
         sender.addChatMessage(new ChatComponentText("\"toggle debugCleanroom\" - toggles cleanroom debug log"));
@@ -101,6 +111,21 @@ public final class GTCommand extends CommandBase {
         sender.addChatMessage(
             new ChatComponentText(
                 "\"dump_music_durations\" - dumps soundmeta/durations.json for all registered records in the game to the log. Client-only"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"cable_networks\" - shows how long generating the cable networks took, slowest ones first"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"machine_updates\" - shows how many machine block updates are queued and how long they take"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"oreveins\" - shows how many orevein seeds are remembered and how often they are used"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"wireless_energy\" - shows how many wireless EU network changes have been summed up per tick"));
+        sender.addChatMessage(
+            new ChatComponentText(
+                "\"tick_profiler <start|stop|dump>\" - profiles the tick times of all machines, dumped to a CSV file"));
     }
 
     @Override
@@ -116,7 +141,12 @@ public final class GTCommand extends CommandBase {
                 "global_energy_set",
                 "global_energy_join",
                 "global_energy_display",
-                "dump_music_durations")
+                "dump_music_durations",
+                "cable_networks",
+                "machine_updates",
+                "oreveins",
+                "wireless_energy",
+                "tick_profiler")
             .anyMatch(s -> s.startsWith(test)))) {
             Stream
                 .of(
@@ -127,7 +157,12 @@ public final class GTCommand extends CommandBase {
                     "global_energy_set",
                     "global_energy_join",
                     "global_energy_display",
-                    "dump_music_durations")
+                    "dump_music_durations",
+                    "cable_networks",
+                    "machine_updates",
+                    "oreveins",
+                    "wireless_energy",
+                    "tick_profiler")
                 .filter(s -> test.isEmpty() || s.startsWith(test))
                 .forEach(l::add);
         } else if (test.equals("toggle")) {
@@ -150,6 +185,11 @@ public final class GTCommand extends CommandBase {
                     "debugWorldData")
                 .filter(s -> test1.isEmpty() || s.startsWith(test1))
                 .forEach(l::add);
+        } else if (test.equals("tick_profiler")) {
+            String test1 = ss[1].trim();
+            Stream.of("start", "stop", "dump")
+                .filter(s -> test1.isEmpty() || s.startsWith(test1))
+                .forEach(l::add);
         }
         return l;
     }
@@ -345,6 +385,164 @@ public final class GTCommand extends CommandBase {
                 }
                 GTMusicSystem.ClientSystem.dumpAllRecordDurations();
             }
+            case "cable_networks" -> {
+                List<NodeMap> nodeMaps = NodeMap.getNodeMaps();
+                nodeMaps.sort(Comparator.comparingLong((NodeMap nodeMap) -> nodeMap.mGenerationTime).reversed());
+                long generated = NodeMap.getGeneratedCount();
+                sender.addChatMessage(
+                    new ChatComponentText(
+                        nodeMaps.size() + " cable networks loaded, "
+                            + generated
+                            + " generated taking "
+                            + GTUtility.formatNumbers(NodeMap.getGenerationTime() / 1000)
+                            + " us in total, "
+                            + NodeMap.getReusedTotal()
+                            + " kept since nothing changed"));
+                for (int i = 0; i < Math.min(10, nodeMaps.size()); i++) {
+                    NodeMap nodeMap = nodeMaps.get(i);
+                    sender.addChatMessage(
+                        new ChatComponentText(
+                            "DIM " + nodeMap.mDimension
+                                + " ("
+                                + nodeMap.mX
+                                + ", "
+                                + nodeMap.mY
+                                + ", "
+                                + nodeMap.mZ
+                                + "): "
+                                + EnumChatFormatting.RED
+                                + GTUtility.formatNumbers(nodeMap.mGenerationTime / 1000)
+                                + " us"
+                                + EnumChatFormatting.RESET
+                                + ", "
+                                + nodeMap.getPipeCount()
+                                + " cables, "
+                                + nodeMap.mNodeCount
+                                + " nodes, "
+                                + nodeMap.mConsumerCount
+                                + " consumers, kept "
+                                + nodeMap.getReusedCount()
+                                + " times"));
+                }
+            }
+            case "machine_updates" -> {
+                long completed = RunnableMachineUpdate.getCompletedCount();
+                long merged = RunnableMachineUpdate.getMergedCount();
+                sender.addChatMessage(
+                    new ChatComponentText(
+                        RunnableMachineUpdate.getPendingCount() + " machine block updates pending, "
+                            + GTUtility.formatNumbers(completed)
+                            + " done, "
+                            + GTUtility.formatNumbers(merged)
+                            + " merged into pending ones"));
+                if (completed > 0) {
+                    sender.addChatMessage(
+                        new ChatComponentText(
+                            "Average update: " + EnumChatFormatting.RED
+                                + GTUtility.formatNumbers(RunnableMachineUpdate.getTotalNanos() / completed / 1000)
+                                + " us"
+                                + EnumChatFormatting.RESET
+                                + ", "
+                                + GTUtility.formatNumbers(RunnableMachineUpdate.getTotalVisited() / completed)
+                                + " blocks, "
+                                + GTUtility.formatNumbers(RunnableMachineUpdate.getTotalLocks() / completed)
+                                + " world locks. Slowest: "
+                                + GTUtility.formatNumbers(RunnableMachineUpdate.getMaxNanos() / 1000)
+                                + " us"));
+                }
+            }
+            case "oreveins" -> {
+                OreveinCache cache = GTWorldgenerator.validOreveins;
+                long hits = cache.getHits();
+                long lookups = hits + cache.getMisses();
+                sender.addChatMessage(
+                    new ChatComponentText(
+                        GTUtility.formatNumbers(cache.size()) + " orevein seeds remembered, "
+                            + GTUtility.formatNumbers(lookups)
+                            + " looked up, "
+                            + (lookups == 0 ? 0 : hits * 100 / lookups)
+                            + "% already decided, "
+                            + GTUtility.formatNumbers(cache.getEvictions())
+                            + " dropped"));
+                for (Int2IntMap.Entry entry : cache.getSizes()
+                    .int2IntEntrySet()) {
+                    sender.addChatMessage(
+                        new ChatComponentText(
+                            "DIM " + entry.getIntKey()
+                                + ": "
+                                + GTUtility.formatNumbers(entry.getIntValue())
+                                + " seeds"));
+                }
+            }
+            case "wireless_energy" -> {
+                long flushes = WirelessNetworkManager.getFlushes();
+                long batched = WirelessNetworkManager.getBatchedOperations();
+                sender.addChatMessage(
+                    new ChatComponentText(
+                        GTUtility.formatNumbers(batched) + " wireless EU network changes summed up over "
+                            + GTUtility.formatNumbers(flushes)
+                            + " ticks, "
+                            + (flushes == 0 ? 0 : batched / flushes)
+                            + " per tick, "
+                            + GTUtility.formatNumbers(WirelessNetworkManager.getRejectedOperations())
+                            + " rejected for lack of EU, "
+                            + GTUtility.formatNumbers(WirelessNetworkManager.getOverflows())
+                            + " overflowed a long, "
+                            + WirelessNetworkManager.getPendingTeams()
+                            + " teams pending"));
+            }
+            case "tick_profiler" -> {
+                if (strings.length < 2) {
+                    printHelp(sender);
+                    return;
+                }
+                switch (strings[1]) {
+                    case "start" -> {
+                        TickProfiler.start();
+                        sender.addChatMessage(new ChatComponentText("Started profiling the tick times of machines"));
+                    }
+                    case "stop", "dump" -> {
+                        TickProfiler.Session session = "stop".equals(strings[1]) ? TickProfiler.stop()
+                            : TickProfiler.getSession();
+                        if (session == null) {
+                            sender.addChatMessage(
+                                new ChatComponentText("Tick times of machines aren't being profiled"));
+                            return;
+                        }
+                        try {
+                            File file = session.dump(
+                                MinecraftServer.getServer()
+                                    .getFile(""));
+                            sender.addChatMessage(
+                                new ChatComponentText(
+                                    "Profiled " + GTUtility.formatNumbers(session.getDurationMillis() / 1000)
+                                        + " s, dumped to "
+                                        + file.getAbsolutePath()));
+                        } catch (IOException e) {
+                            sender.addChatMessage(
+                                new ChatComponentText(EnumChatFormatting.RED + "Could not dump tick times: " + e));
+                            return;
+                        }
+                        List<TickProfiler.Histogram> histograms = session.getHistograms(TickProfiler.Group.CLASS);
+                        for (int i = 0; i < Math.min(5, histograms.size()); i++) {
+                            TickProfiler.Histogram histogram = histograms.get(i);
+                            sender.addChatMessage(
+                                new ChatComponentText(
+                                    histogram.mKey + ": "
+                                        + EnumChatFormatting.RED
+                                        + GTUtility.formatNumbers(histogram.getTotalNanos() / 1000)
+                                        + " us"
+                                        + EnumChatFormatting.RESET
+                                        + " in total, p99 "
+                                        + GTUtility.formatNumbers(histogram.getPercentile(0.99) / 1000)
+                                        + " us, max "
+                                        + GTUtility.formatNumbers(histogram.getMaxNanos() / 1000)
+                                        + " us"));
+                        }
+                    }
+                    default -> printHelp(sender);
+                }
+            }
             default -> {
                 sender
                     .addChatMessage(new ChatComponentText(EnumChatFormatting.RED + "Invalid command/syntax detected."));
@@ -33,7 +33,7 @@ public class GlobalEnergyWorldSavedData extends WorldSavedData {
 
     private static void loadInstance(World world) {
 
-        GlobalEnergy.clear();
+        WirelessNetworkManager.clearGlobalEnergyInformationMaps();
 
         MapStorage storage = world.mapStorage;
         INSTANCE = (GlobalEnergyWorldSavedData) storage.loadData(GlobalEnergyWorldSavedData.class, DATA_NAME);
@@ -110,6 +110,7 @@ public class GlobalEnergyWorldSavedData extends WorldSavedData {
     @Override
     public void writeToNBT(NBTTagCompound nbtTagCompound) {
 
+        WirelessNetworkManager.flushGlobalEnergy();
         try {
             ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
             ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
@@ -3,6 +3,8 @@ package gregtech.common.misc;
 import static gregtech.common.misc.GlobalVariableStorage.GlobalEnergy;
 
 import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.UUID;
 
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
@@ -12,6 +14,13 @@ public class WirelessNetworkManager {
 
     private WirelessNetworkManager() {}
 
+    // EU added to each team since the last flush
+    private static final HashMap<UUID, PendingEnergy> PENDING_ENERGY = new HashMap<>();
+    private static long batchedOperations;
+    private static long rejectedOperations;
+    private static long flushes;
+    private static long overflows;
+
     public static void strongCheckOrAddUser(UUID user_uuid) {
         SpaceProjectManager.checkOrCreateTeam(user_uuid);
         user_uuid = SpaceProjectManager.getLeader(user_uuid);
@@ -23,19 +32,14 @@ public class WirelessNetworkManager {
     // ------------------------------------------------------------------------------------
     // Add EU to the users global energy. You can enter a negative number to subtract it.
     // If the value goes below 0 it will return false and not perform the operation.
-    // BigIntegers have much slower operations than longs/ints. You should call these methods
-    // as infrequently as possible and bulk store values to add to the global map.
+    // Amounts that fit in a long are summed up per team in a long and only added to the BigIntegers of the global map
+    // once per tick, see PendingEnergy. Larger amounts still go straight to the global map.
     public static boolean addEUToGlobalEnergyMap(UUID user_uuid, BigInteger EU) {
-        // Mark the data as dirty and in need of saving.
-        try {
-            GlobalEnergyWorldSavedData.INSTANCE.markDirty();
-        } catch (Exception exception) {
-            System.out.println("COULD NOT MARK GLOBAL ENERGY AS DIRTY IN ADD EU");
-            exception.printStackTrace();
-        }
+        if (EU.bitLength() < Long.SIZE) return addEUToGlobalEnergyMap(user_uuid, EU.longValue());
 
         // Get the team UUID. Users are by default in a team with a UUID equal to their player UUID.
         UUID teamUUID = SpaceProjectManager.getLeader(user_uuid);
+        flushPendingEnergy(teamUUID);
 
         // Get the teams total energy stored. If they are not in the map, return 0 EU.
         BigInteger totalEU = GlobalEnergy.getOrDefault(teamUUID, BigInteger.ZERO);
@@ -44,19 +48,146 @@ public class WirelessNetworkManager {
         // If there is sufficient EU then complete the operation and return true.
         if (totalEU.signum() >= 0) {
             GlobalEnergy.put(teamUUID, totalEU);
+            markGlobalEnergyDirty();
             return true;
         }
 
         // There is insufficient EU so cancel the operation and return false.
+        rejectedOperations++;
         return false;
     }
 
     public static boolean addEUToGlobalEnergyMap(UUID user_uuid, long EU) {
-        return addEUToGlobalEnergyMap(user_uuid, BigInteger.valueOf(EU));
+        // Get the team UUID. Users are by default in a team with a UUID equal to their player UUID.
+        UUID teamUUID = SpaceProjectManager.getLeader(user_uuid);
+        PendingEnergy pending = PENDING_ENERGY.get(teamUUID);
+        if (pending == null) {
+            pending = new PendingEnergy(GlobalEnergy.getOrDefault(teamUUID, BigInteger.ZERO));
+            PENDING_ENERGY.put(teamUUID, pending);
+        }
+
+        // If there is sufficient EU then complete the operation and return true.
+        if (pending.add(EU)) {
+            batchedOperations++;
+            return true;
+        }
+
+        // There is insufficient EU so cancel the operation and return false.
+        rejectedOperations++;
+        return false;
     }
 
     public static boolean addEUToGlobalEnergyMap(UUID user_uuid, int EU) {
-        return addEUToGlobalEnergyMap(user_uuid, BigInteger.valueOf(EU));
+        return addEUToGlobalEnergyMap(user_uuid, (long) EU);
+    }
+
+    /**
+     * Adds the EU summed up this tick to the global map. Called at the end of every server tick, and before the global
+     * map is saved.
+     */
+    public static void flushGlobalEnergy() {
+        if (PENDING_ENERGY.isEmpty()) return;
+        boolean changed = false;
+        for (Map.Entry<UUID, PendingEnergy> entry : PENDING_ENERGY.entrySet()) {
+            changed |= entry.getValue()
+                .flushTo(entry.getKey());
+        }
+        PENDING_ENERGY.clear();
+        flushes++;
+        if (changed) markGlobalEnergyDirty();
+    }
+
+    private static void flushPendingEnergy(UUID teamUUID) {
+        PendingEnergy pending = PENDING_ENERGY.remove(teamUUID);
+        if (pending != null && pending.flushTo(teamUUID)) markGlobalEnergyDirty();
+    }
+
+    private static void markGlobalEnergyDirty() {
+        // Mark the data as dirty and in need of saving.
+        try {
+            GlobalEnergyWorldSavedData.INSTANCE.markDirty();
+        } catch (Exception exception) {
+            System.out.println("COULD NOT MARK GLOBAL ENERGY AS DIRTY IN ADD EU");
+            exception.printStackTrace();
+        }
+    }
+
+    public static long getBatchedOperations() {
+        return batchedOperations;
+    }
+
+    public static long getRejectedOperations() {
+        return rejectedOperations;
+    }
+
+    public static long getFlushes() {
+        return flushes;
+    }
+
+    public static long getOverflows() {
+        return overflows;
+    }
+
+    public static int getPendingTeams() {
+        return PENDING_ENERGY.size();
+    }
+
+    /**
+     * EU added to a team since the last flush. The EU the team had before is kept as a long as well when it fits, so
+     * checking whether the team has enough EU doesn't need any BigIntegers. Should the sum of the added EU not fit in a
+     * long anymore, it is added to the BigInteger right away.
+     */
+    private static final class PendingEnergy {
+
+        private BigInteger stored;
+        private long storedLong;
+        private boolean storedFitsLong;
+        private long delta;
+
+        private PendingEnergy(BigInteger stored) {
+            setStored(stored);
+        }
+
+        private void setStored(BigInteger stored) {
+            this.stored = stored;
+            this.storedFitsLong = stored.bitLength() < Long.SIZE;
+            this.storedLong = storedFitsLong ? stored.longValue() : 0;
+        }
+
+        /**
+         * @return false if the team doesn't have enough EU, in which case nothing is added
+         */
+        private boolean add(long EU) {
+            long newDelta = delta + EU;
+            if (((delta ^ newDelta) & (EU ^ newDelta)) < 0) {
+                // the sum overflowed, move what has been added so far to the BigInteger
+                setStored(stored.add(BigInteger.valueOf(delta)));
+                delta = 0;
+                newDelta = EU;
+                overflows++;
+            }
+            if (isNegative(newDelta)) return false;
+            delta = newDelta;
+            return true;
+        }
+
+        private boolean isNegative(long newDelta) {
+            // a stored amount that doesn't fit in a long is larger than any delta
+            if (!storedFitsLong) return stored.signum() < 0;
+            long total = storedLong + newDelta;
+            // if the sum overflows, both have the same sign
+            if (((storedLong ^ total) & (newDelta ^ total)) < 0) return newDelta < 0;
+            return total < 0;
+        }
+
+        /**
+         * @return true if the global map has been changed
+         */
+        private boolean flushTo(UUID teamUUID) {
+            if (delta == 0) return false;
+            GlobalEnergy.put(teamUUID, stored.add(BigInteger.valueOf(delta)));
+            return true;
+        }
     }
 
     // Ticks between energy additions to the hatch. For a dynamo this is how many ticks between energy being consumed
@@ -73,7 +204,9 @@ public class WirelessNetworkManager {
     // ------------------------------------------------------------------------------------
 
     public static BigInteger getUserEU(UUID user_uuid) {
-        return GlobalEnergy.getOrDefault(SpaceProjectManager.getLeader(user_uuid), BigInteger.ZERO);
+        UUID teamUUID = SpaceProjectManager.getLeader(user_uuid);
+        flushPendingEnergy(teamUUID);
+        return GlobalEnergy.getOrDefault(teamUUID, BigInteger.ZERO);
     }
 
     // This overwrites the EU in the network. Only use this if you are absolutely sure you know what you are doing.
@@ -86,12 +219,15 @@ public class WirelessNetworkManager {
             exception.printStackTrace();
         }
 
-        GlobalEnergy.put(SpaceProjectManager.getLeader(user_uuid), EU);
+        UUID teamUUID = SpaceProjectManager.getLeader(user_uuid);
+        PENDING_ENERGY.remove(teamUUID);
+        GlobalEnergy.put(teamUUID, EU);
     }
 
     public static void clearGlobalEnergyInformationMaps() {
         // Do not use this unless you are 100% certain you know what you are doing.
         GlobalEnergy.clear();
+        PENDING_ENERGY.clear();
     }
 
     public static UUID processInitialSettings(final IGregTechTileEntity machine) {
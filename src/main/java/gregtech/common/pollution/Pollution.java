@@ -6,7 +6,6 @@ import static gregtech.common.GTProxy.dimensionWisePollution;
 import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -46,6 +45,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.net.GTPacketPollution;
 import gregtech.api.util.GTChunkAssociatedData;
 import gregtech.api.util.GTUtility;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 
 public class Pollution {
 
@@ -69,7 +69,8 @@ public class Pollution {
      * Muffler Hatch Pollution reduction: ** inaccurate ** LV (0%), MV (30%), HV (52%), EV (66%), IV (76%), LuV (84%),
      * ZPM (89%), UV (92%), MAX (95%)
      */
-    private List<ChunkCoordIntPair> pollutionList = new ArrayList<>(); // chunks left to process in this cycle
+    // chunks left to process in this cycle, see ChunkCoordIntPair.chunkXZ2Int
+    private final LongArrayList pollutionList = new LongArrayList();
 
     private final Set<ChunkCoordIntPair> pollutedChunks = new HashSet<>(); // a global list of all chunks with positive
                                                                            // pollution
@@ -81,6 +82,10 @@ public class Pollution {
 
     private static final int POLLUTIONPACKET_MINVALUE = 1000;
 
+    // +x, -x, +z, -z
+    private static final int[] NEIGHBOR_X = { 1, -1, 0, 0 };
+    private static final int[] NEIGHBOR_Z = { 0, 0, 1, -1 };
+
     private static GT_PollutionEventHandler EVENT_HANDLER;
 
     public Pollution(World world) {
@@ -132,7 +137,10 @@ public class Pollution {
         // gen data set
         if (aTickID == 0 || blank) {
             // make a snapshot of what to work on
-            pollutionList = new ArrayList<>(pollutedChunks);
+            pollutionList.clear();
+            for (ChunkCoordIntPair chunk : pollutedChunks) {
+                pollutionList.add(ChunkCoordIntPair.chunkXZ2Int(chunk.chunkXPos, chunk.chunkZPos));
+            }
             // set operations per tick
             if (!pollutionList.isEmpty()) operationsPerTick = Math.max(1, pollutionList.size() / cycleLen);
             else operationsPerTick = 0; // SANity
@@ -141,29 +149,28 @@ public class Pollution {
 
         for (int chunksProcessed = 0; chunksProcessed < operationsPerTick; chunksProcessed++) {
             if (pollutionList.isEmpty()) break; // no more stuff to do
-            ChunkCoordIntPair actualPos = pollutionList.remove(pollutionList.size() - 1); // faster
+            final long actualPos = pollutionList.removeLong(pollutionList.size() - 1); // faster
+            final int chunkX = (int) actualPos;
+            final int chunkZ = (int) (actualPos >>> 32);
             // get pollution
-            ChunkData currentData = STORAGE.get(world, actualPos);
+            ChunkData currentData = STORAGE.get(world, chunkX, chunkZ);
             int tPollution = currentData.getAmount();
             // remove some
             tPollution = (int) (0.9945f * tPollution);
 
             if (tPollution > 400000) { // Spread Pollution
 
-                ChunkCoordIntPair[] tNeighbors = new ChunkCoordIntPair[4]; // array is faster
-                tNeighbors[0] = (new ChunkCoordIntPair(actualPos.chunkXPos + 1, actualPos.chunkZPos));
-                tNeighbors[1] = (new ChunkCoordIntPair(actualPos.chunkXPos - 1, actualPos.chunkZPos));
-                tNeighbors[2] = (new ChunkCoordIntPair(actualPos.chunkXPos, actualPos.chunkZPos + 1));
-                tNeighbors[3] = (new ChunkCoordIntPair(actualPos.chunkXPos, actualPos.chunkZPos - 1));
-                for (ChunkCoordIntPair neighborPosition : tNeighbors) {
-                    ChunkData neighbor = STORAGE.get(world, neighborPosition);
+                for (int n = 0; n < NEIGHBOR_X.length; n++) {
+                    final int neighborX = chunkX + NEIGHBOR_X[n];
+                    final int neighborZ = chunkZ + NEIGHBOR_Z[n];
+                    ChunkData neighbor = STORAGE.get(world, neighborX, neighborZ);
                     int neighborPollution = neighbor.getAmount();
                     if (neighborPollution * 6 < tPollution * 5) { // MATHEMATICS...
                         int tDiff = tPollution - neighborPollution;
                         tDiff = tDiff / 20;
                         neighborPollution = GTUtility.safeInt((long) neighborPollution + tDiff); // tNPol += tDiff;
                         tPollution -= tDiff;
-                        setChunkPollution(neighborPosition, neighborPollution);
+                        setChunkPollution(neighborX, neighborZ, neighborPollution);
                     }
                 }
 
@@ -171,12 +178,12 @@ public class Pollution {
                 // Smog filter TODO
                 if (tPollution > GTMod.gregtechproxy.mPollutionSmogLimit) {
                     AxisAlignedBB chunk = AxisAlignedBB.getBoundingBox(
-                        actualPos.chunkXPos << 4,
+                        chunkX << 4,
                         0,
-                        actualPos.chunkZPos << 4,
-                        (actualPos.chunkXPos << 4) + 16,
+                        chunkZ << 4,
+                        (chunkX << 4) + 16,
                         256,
-                        (actualPos.chunkZPos << 4) + 16);
+                        (chunkZ << 4) + 16);
                     List<EntityLivingBase> tEntitys = world.getEntitiesWithinAABB(EntityLivingBase.class, chunk);
                     for (EntityLivingBase tEnt : tEntitys) {
                         if (tEnt instanceof EntityPlayerMP && ((EntityPlayerMP) tEnt).capabilities.isCreativeMode)
@@ -240,9 +247,9 @@ public class Pollution {
                         if (tPollution > GTMod.gregtechproxy.mPollutionVegetationLimit) {
                             int f = 20;
                             for (; f < (tPollution / 25000); f++) {
-                                int x = (actualPos.chunkXPos << 4) + XSTR_INSTANCE.nextInt(16);
+                                int x = (chunkX << 4) + XSTR_INSTANCE.nextInt(16);
                                 int y = 60 + (-f + XSTR_INSTANCE.nextInt(f * 2 + 1));
-                                int z = (actualPos.chunkZPos << 4) + XSTR_INSTANCE.nextInt(16);
+                                int z = (chunkZ << 4) + XSTR_INSTANCE.nextInt(16);
                                 damageBlock(world, x, y, z, tPollution > GTMod.gregtechproxy.mPollutionSourRainLimit);
                             }
                         }
@@ -250,23 +257,24 @@ public class Pollution {
                 }
             }
             // Write new pollution to Hashmap !!!
-            setChunkPollution(actualPos, tPollution);
+            setChunkPollution(chunkX, chunkZ, tPollution);
 
             // Send new value to players nearby
             if (tPollution > POLLUTIONPACKET_MINVALUE) {
                 NetworkRegistry.TargetPoint point = new NetworkRegistry.TargetPoint(
                     world.provider.dimensionId,
-                    (actualPos.chunkXPos << 4),
+                    (chunkX << 4),
                     64,
-                    (actualPos.chunkZPos << 4),
+                    (chunkZ << 4),
                     256);
-                GTValues.NW.sendToAllAround(new GTPacketPollution(actualPos, tPollution), point);
+                GTValues.NW
+                    .sendToAllAround(new GTPacketPollution(new ChunkCoordIntPair(chunkX, chunkZ), tPollution), point);
             }
         }
     }
 
-    private void setChunkPollution(ChunkCoordIntPair coord, int pollution) {
-        mutatePollution(world, coord.chunkXPos, coord.chunkZPos, c -> c.setAmount(pollution), pollutedChunks);
+    private void setChunkPollution(int chunkX, int chunkZ, int pollution) {
+        mutatePollution(world, chunkX, chunkZ, c -> c.setAmount(pollution), pollutedChunks);
     }
 
     private static void damageBlock(World world, int x, int y, int z, boolean sourRain) {
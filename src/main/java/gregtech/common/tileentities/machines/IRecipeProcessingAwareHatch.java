@@ -24,4 +24,12 @@ public interface IRecipeProcessingAwareHatch {
      *         overwrite the result calculated on multiblock whatever the reason is.
      */
     CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller);
+
+    /**
+     * Same as {@link #endRecipeProcessing(MTEMultiBlockBase)}, but leaves the power for extractions from ME networks
+     * to the batch, which the controller submits once all of its hatches are done.
+     */
+    default CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller, MEExtractionBatch batch) {
+        return endRecipeProcessing(controller);
+    }
 }
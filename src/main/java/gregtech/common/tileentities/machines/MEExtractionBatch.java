@@ -0,0 +1,38 @@
+package gregtech.common.tileentities.machines;
+
+import appeng.api.config.Actionable;
+import appeng.api.config.PowerMultiplier;
+import appeng.api.networking.energy.IEnergyGrid;
+import it.unimi.dsi.fastutil.objects.Reference2DoubleMap;
+import it.unimi.dsi.fastutil.objects.Reference2DoubleOpenHashMap;
+
+/**
+ * Power for the extractions stocking buses and hatches make at the end of a recipe check, see
+ * {@link IRecipeProcessingAwareHatch}. The power for all extractions from the same network is drawn at once in
+ * {@link #submit}, instead of once for every extracted stack.
+ */
+public class MEExtractionBatch {
+
+    // only created once there is something to extract, as most recipe checks don't extract from ME networks
+    private Reference2DoubleOpenHashMap<IEnergyGrid> power;
+
+    /**
+     * Adds the power for extracting the given amount from a network.
+     */
+    public void addPower(IEnergyGrid energyGrid, double amount) {
+        if (power == null) power = new Reference2DoubleOpenHashMap<>();
+        power.addTo(energyGrid, amount);
+    }
+
+    /**
+     * Draws the power of all extractions added so far.
+     */
+    public void submit() {
+        if (power == null) return;
+        for (Reference2DoubleMap.Entry<IEnergyGrid> entry : power.reference2DoubleEntrySet()) {
+            entry.getKey()
+                .extractAEPower(entry.getDoubleValue(), Actionable.MODULATE, PowerMultiplier.CONFIG);
+        }
+        power = null;
+    }
+}
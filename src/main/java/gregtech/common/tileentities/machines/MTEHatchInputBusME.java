@@ -45,9 +45,9 @@ import com.gtnewhorizons.modularui.common.widget.TextWidget;
 import com.gtnewhorizons.modularui.common.widget.textfield.NumericWidget;
 
 import appeng.api.config.Actionable;
-import appeng.api.config.PowerMultiplier;
 import appeng.api.implementations.IPowerChannelState;
 import appeng.api.networking.GridFlags;
+import appeng.api.networking.energy.IEnergyGrid;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.MachineSource;
@@ -78,6 +78,7 @@ import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 import gregtech.common.gui.modularui.widget.AESlotWidget;
+import gregtech.crossmod.ae2.MEStockWatcher;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
@@ -100,6 +101,10 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
     protected boolean additionalConnection = false;
     protected boolean justHadNewItems = false;
     protected boolean expediteRecipeCheck = false;
+    // amounts of the stocked items in the network, only asked from the network again once they changed
+    protected final MEStockWatcher<IAEItemStack> stockWatcher = new MEStockWatcher<>(SLOT_COUNT, this::isWatchingStock);
+    // the stocked items the watcher was last told about
+    private final ItemStack[] watchedStacks = new ItemStack[SLOT_COUNT];
 
     public MTEHatchInputBusME(int aID, boolean autoPullAvailable, String aName, String aNameRegional) {
         super(
@@ -138,16 +143,52 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
     @Override
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTimer) {
         if (aBaseMetaTileEntity.isServerSide()) {
-            if (aTimer % autoPullRefreshTime == 0 && autoPullItemList) {
-                refreshItemList();
+            if (aTimer % autoPullRefreshTime == 0) {
+                if (autoPullItemList) refreshItemList();
+                // in case the network missed telling about a change
+                stockWatcher.forgetAll();
             }
+            for (int i = 0; i < SLOT_COUNT; i++) updateWatchedStack(i);
             if (aTimer % 20 == 0) {
-                aBaseMetaTileEntity.setActive(isActive());
+                final boolean active = isActive();
+                if (active != aBaseMetaTileEntity.isActive()) markInputModified();
+                aBaseMetaTileEntity.setActive(active);
             }
         }
         super.onPostTick(aBaseMetaTileEntity, aTimer);
     }
 
+    @Override
+    public long getInputModificationCount() {
+        // stocked items live in the ME network, which tells the watcher about their changes
+        return super.getInputModificationCount() + stockWatcher.getChanges();
+    }
+
+    private boolean isWatchingStock() {
+        return getBaseMetaTileEntity() != null && gridProxy != null && gridProxy.isReady();
+    }
+
+    private void updateWatchedStack(int aIndex) {
+        if (watchedStacks[aIndex] == mInventory[aIndex]) return;
+        watchedStacks[aIndex] = mInventory[aIndex];
+        stockWatcher.setWatched(aIndex, mInventory[aIndex] == null ? null : AEItemStack.create(mInventory[aIndex]));
+    }
+
+    /**
+     * @return Result of simulating to extract all of the item in the given slot from the network, which is only
+     *         simulated again once the amount of the item in the network changed
+     */
+    protected IAEItemStack getStock(IMEMonitor<IAEItemStack> sg, int aIndex) {
+        stockWatcher.watch(sg);
+        updateWatchedStack(aIndex);
+        if (!stockWatcher.isRead(aIndex)) {
+            IAEItemStack request = AEItemStack.create(mInventory[aIndex]);
+            request.setStackSize(Integer.MAX_VALUE);
+            stockWatcher.setStock(aIndex, sg.extractItems(request, Actionable.SIMULATE, getRequestSource()));
+        }
+        return stockWatcher.getStock(aIndex);
+    }
+
     protected boolean isAllowedToWork() {
         IGregTechTileEntity igte = getBaseMetaTileEntity();
 
@@ -156,6 +197,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
 
     @Override
     public void onEnableWorking() {
+        markInputModified();
         if (expediteRecipeCheck) {
             justHadNewItems = true;
         }
@@ -256,6 +298,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
         }
 
         autoPullItemList = pullItemList;
+        stockWatcher.markListChanged();
         if (!autoPullItemList) {
             for (int i = 0; i < SLOT_COUNT; i++) {
                 mInventory[i] = null;
@@ -381,6 +424,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
         if (autoPullAvailable) {
             setAutoPullItemList(nbt.getBoolean("autoPull"));
             minAutoPullStackSize = nbt.getInteger("minStackSize");
+            stockWatcher.markListChanged();
             // Data sticks created before refreshTime was implemented should not cause stocking buses to
             // spam divide by zero errors
             if (nbt.hasKey("refreshTime")) {
@@ -498,10 +542,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
                 IMEMonitor<IAEItemStack> sg = proxy.getStorage()
                     .getItemInventory();
 
-                IAEItemStack request = AEItemStack.create(mInventory[aIndex]);
-                request.setStackSize(Integer.MAX_VALUE);
-
-                IAEItemStack result = sg.extractItems(request, Actionable.SIMULATE, getRequestSource());
+                IAEItemStack result = getStock(sg, aIndex);
 
                 if (result != null) {
                     this.shadowInventory[aIndex] = result.getItemStack();
@@ -545,6 +586,9 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
         try {
             IMEMonitor<IAEItemStack> sg = proxy.getStorage()
                 .getItemInventory();
+            stockWatcher.watch(sg);
+            // the pulled items can only change once the network changed
+            if (!stockWatcher.hasListChanged()) return;
             Iterator<IAEItemStack> iterator = sg.getStorageList()
                 .iterator();
             int index = 0;
@@ -565,7 +609,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
             for (int i = index; i < SLOT_COUNT; i++) {
                 mInventory[i] = null;
             }
-
+            stockWatcher.setListRefreshed(index == SLOT_COUNT);
         } catch (final GridAccessException ignored) {}
     }
 
@@ -577,23 +621,36 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
 
     @Override
     public CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller) {
+        final MEExtractionBatch batch = new MEExtractionBatch();
+        final CheckRecipeResult checkRecipeResult = endRecipeProcessing(controller, batch);
+        batch.submit();
+        return checkRecipeResult;
+    }
+
+    @Override
+    public CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller, MEExtractionBatch batch) {
         CheckRecipeResult checkRecipeResult = CheckRecipeResultRegistry.SUCCESSFUL;
+        IMEMonitor<IAEItemStack> sg = null;
+        IEnergyGrid energy = null;
         for (int i = 0; i < SLOT_COUNT; ++i) {
             if (savedStackSizes[i] != 0) {
                 ItemStack oldStack = shadowInventory[i];
                 if (oldStack == null || oldStack.stackSize < savedStackSizes[i]) {
                     AENetworkProxy proxy = getProxy();
                     try {
-                        IMEMonitor<IAEItemStack> sg = proxy.getStorage()
-                            .getItemInventory();
+                        if (sg == null) {
+                            sg = proxy.getStorage()
+                                .getItemInventory();
+                            energy = proxy.getEnergy();
+                        }
                         IAEItemStack request = AEItemStack.create(mInventory[i]);
                         int toExtract = savedStackSizes[i] - (oldStack == null ? 0 : oldStack.stackSize);
                         request.setStackSize(toExtract);
                         IAEItemStack result = sg.extractItems(request, Actionable.MODULATE, getRequestSource());
-                        proxy.getEnergy()
-                            .extractAEPower(request.getStackSize(), Actionable.MODULATE, PowerMultiplier.CONFIG);
+                        batch.addPower(energy, request.getStackSize());
                         setInventorySlotContents(i + SLOT_COUNT, oldStack);
                         if (result == null || result.getStackSize() != toExtract) {
+                            stockWatcher.forget(i);
                             controller.stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
                             checkRecipeResult = SimpleCheckRecipeResult
                                 .ofFailurePersistOnShutdown("stocking_bus_fail_extraction");
@@ -639,9 +696,7 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
                 try {
                     IMEMonitor<IAEItemStack> sg = proxy.getStorage()
                         .getItemInventory();
-                    IAEItemStack request = AEItemStack.create(mInventory[aIndex]);
-                    request.setStackSize(Integer.MAX_VALUE);
-                    IAEItemStack result = sg.extractItems(request, Actionable.SIMULATE, getRequestSource());
+                    IAEItemStack result = getStock(sg, aIndex);
                     ItemStack s = (result != null) ? result.getItemStack() : null;
                     // We want to track changes in any ItemStack to notify any connected controllers to make a recipe
                     // check early
@@ -885,7 +940,10 @@ public class MTEHatchInputBusME extends MTEHatchInputBus
                 .setPos(3, 2)
                 .setSize(74, 14))
             .widget(
-                new NumericWidget().setSetter(val -> minAutoPullStackSize = (int) val)
+                new NumericWidget().setSetter(val -> {
+                    minAutoPullStackSize = (int) val;
+                    stockWatcher.markListChanged();
+                })
                     .setGetter(() -> minAutoPullStackSize)
                     .setBounds(1, Integer.MAX_VALUE)
                     .setScrollValues(1, 4, 64)
@@ -50,9 +50,9 @@ import com.gtnewhorizons.modularui.common.widget.TextWidget;
 import com.gtnewhorizons.modularui.common.widget.textfield.NumericWidget;
 
 import appeng.api.config.Actionable;
-import appeng.api.config.PowerMultiplier;
 import appeng.api.implementations.IPowerChannelState;
 import appeng.api.networking.GridFlags;
+import appeng.api.networking.energy.IEnergyGrid;
 import appeng.api.networking.security.BaseActionSource;
 import appeng.api.networking.security.IActionHost;
 import appeng.api.networking.security.MachineSource;
@@ -81,6 +81,7 @@ import gregtech.api.recipe.check.SimpleCheckRecipeResult;
 import gregtech.api.render.TextureFactory;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
+import gregtech.crossmod.ae2.MEStockWatcher;
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
@@ -113,6 +114,12 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
     protected boolean processingRecipe = false;
     private boolean justHadNewFluids = false;
     private boolean expediteRecipeCheck = false;
+    // amounts of the stocked fluids in the network, only asked from the network again once they changed
+    protected final MEStockWatcher<IAEFluidStack> stockWatcher = new MEStockWatcher<>(
+        SLOT_COUNT,
+        this::isWatchingStock);
+    // the stocked fluids the watcher was last told about
+    private final FluidStack[] watchedFluids = new FluidStack[SLOT_COUNT];
 
     protected static final int CONFIG_WINDOW_ID = 10;
 
@@ -147,16 +154,37 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
     @Override
     public void onPostTick(IGregTechTileEntity aBaseMetaTileEntity, long aTimer) {
         if (aBaseMetaTileEntity.isServerSide()) {
-            if (aTimer % autoPullRefreshTime == 0 && autoPullFluidList) {
-                refreshFluidList();
+            if (aTimer % autoPullRefreshTime == 0) {
+                if (autoPullFluidList) refreshFluidList();
+                // in case the network missed telling about a change
+                stockWatcher.forgetAll();
             }
+            for (int i = 0; i < SLOT_COUNT; i++) updateWatchedFluid(i);
             if (aTimer % 20 == 0) {
-                aBaseMetaTileEntity.setActive(isActive());
+                final boolean active = isActive();
+                if (active != aBaseMetaTileEntity.isActive()) markInputModified();
+                aBaseMetaTileEntity.setActive(active);
             }
         }
         super.onPostTick(aBaseMetaTileEntity, aTimer);
     }
 
+    @Override
+    public long getInputModificationCount() {
+        // stocked fluids live in the ME network, which tells the watcher about their changes
+        return super.getInputModificationCount() + stockWatcher.getChanges();
+    }
+
+    private boolean isWatchingStock() {
+        return getBaseMetaTileEntity() != null && gridProxy != null && gridProxy.isReady();
+    }
+
+    private void updateWatchedFluid(int index) {
+        if (watchedFluids[index] == storedFluids[index]) return;
+        watchedFluids[index] = storedFluids[index];
+        stockWatcher.setWatched(index, storedFluids[index] == null ? null : AEFluidStack.create(storedFluids[index]));
+    }
+
     protected boolean isAllowedToWork() {
         IGregTechTileEntity igte = getBaseMetaTileEntity();
 
@@ -165,6 +193,7 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
 
     @Override
     public void onEnableWorking() {
+        markInputModified();
         if (expediteRecipeCheck) {
             justHadNewFluids = true;
         }
@@ -179,6 +208,9 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         try {
             IMEMonitor<IAEFluidStack> sg = proxy.getStorage()
                 .getFluidInventory();
+            stockWatcher.watch(sg);
+            // the pulled fluids can only change once the network changed
+            if (!stockWatcher.hasListChanged()) return;
             Iterator<IAEFluidStack> iterator = sg.getStorageList()
                 .iterator();
 
@@ -201,6 +233,7 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
             for (int i = index; i < SLOT_COUNT; i++) {
                 storedFluids[i] = null;
             }
+            stockWatcher.setListRefreshed(index == SLOT_COUNT);
         } catch (final GridAccessException ignored) {}
     }
 
@@ -271,8 +304,18 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
 
     @Override
     public CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller) {
+        final MEExtractionBatch batch = new MEExtractionBatch();
+        final CheckRecipeResult checkRecipeResult = endRecipeProcessing(controller, batch);
+        batch.submit();
+        return checkRecipeResult;
+    }
+
+    @Override
+    public CheckRecipeResult endRecipeProcessing(MTEMultiBlockBase controller, MEExtractionBatch batch) {
         CheckRecipeResult checkRecipeResult = CheckRecipeResultRegistry.SUCCESSFUL;
         AENetworkProxy proxy = getProxy();
+        IMEMonitor<IAEFluidStack> sg = null;
+        IEnergyGrid energy = null;
 
         for (int i = 0; i < SLOT_COUNT; ++i) {
             FluidStack oldStack = shadowStoredFluids[i];
@@ -280,16 +323,19 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
             if (toExtract <= 0) continue;
 
             try {
-                IMEMonitor<IAEFluidStack> sg = proxy.getStorage()
-                    .getFluidInventory();
+                if (sg == null) {
+                    sg = proxy.getStorage()
+                        .getFluidInventory();
+                    energy = proxy.getEnergy();
+                }
 
                 IAEFluidStack request = AEFluidStack.create(storedFluids[i]);
                 request.setStackSize(toExtract);
                 IAEFluidStack extractionResult = sg.extractItems(request, Actionable.MODULATE, getRequestSource());
-                proxy.getEnergy()
-                    .extractAEPower(toExtract, Actionable.MODULATE, PowerMultiplier.CONFIG);
+                batch.addPower(energy, toExtract);
 
                 if (extractionResult == null || extractionResult.getStackSize() != toExtract) {
+                    stockWatcher.forget(i);
                     controller.stopMachine(ShutDownReasonRegistry.CRITICAL_NONE);
                     checkRecipeResult = SimpleCheckRecipeResult
                         .ofFailurePersistOnShutdown("stocking_hatch_fail_extraction");
@@ -389,6 +435,7 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         }
 
         autoPullFluidList = pullFluidList;
+        stockWatcher.markListChanged();
         if (!autoPullFluidList) {
             Arrays.fill(storedFluids, null);
         } else {
@@ -432,9 +479,14 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         try {
             IMEMonitor<IAEFluidStack> sg = proxy.getStorage()
                 .getFluidInventory();
-            IAEFluidStack request = AEFluidStack.create(fluidStack);
-            request.setStackSize(Integer.MAX_VALUE);
-            IAEFluidStack result = sg.extractItems(request, Actionable.SIMULATE, getRequestSource());
+            stockWatcher.watch(sg);
+            updateWatchedFluid(index);
+            if (!stockWatcher.isRead(index)) {
+                IAEFluidStack request = AEFluidStack.create(fluidStack);
+                request.setStackSize(Integer.MAX_VALUE);
+                stockWatcher.setStock(index, sg.extractItems(request, Actionable.SIMULATE, getRequestSource()));
+            }
+            IAEFluidStack result = stockWatcher.getStock(index);
             FluidStack resultFluid = (result != null) ? result.getFluidStack() : null;
             // We want to track if any FluidStack is modified to notify any connected controllers to make a recipe check
             // early
@@ -644,6 +696,7 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
         if (autoPullAvailable) {
             setAutoPullFluidList(nbt.getBoolean("autoPull"));
             minAutoPullAmount = nbt.getInteger("minAmount");
+            stockWatcher.markListChanged();
             autoPullRefreshTime = nbt.getInteger("refreshTime");
             expediteRecipeCheck = nbt.getBoolean("expediteRecipeCheck");
         }
@@ -922,7 +975,10 @@ public class MTEHatchInputME extends MTEHatchInput implements IPowerChannelState
                 .setPos(3, 2)
                 .setSize(74, 14))
             .widget(
-                new NumericWidget().setSetter(val -> minAutoPullAmount = (int) val)
+                new NumericWidget().setSetter(val -> {
+                    minAutoPullAmount = (int) val;
+                    stockWatcher.markListChanged();
+                })
                     .setGetter(() -> minAutoPullAmount)
                     .setBounds(1, Integer.MAX_VALUE)
                     .setScrollValues(1, 4, 64)
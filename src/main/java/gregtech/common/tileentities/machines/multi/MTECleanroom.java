@@ -38,6 +38,7 @@ import gregtech.api.interfaces.ICleanroom;
 import gregtech.api.interfaces.ICleanroomReceiver;
 import gregtech.api.interfaces.ISecondaryDescribable;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEBasicHull;
@@ -55,7 +56,7 @@ import gregtech.api.util.OverclockCalculator;
 import gregtech.common.config.MachineStats;
 
 public class MTECleanroom extends MTETooltipMultiBlockBase
-    implements IConstructable, ISecondaryDescribable, ICleanroom {
+    implements IConstructable, ISecondaryDescribable, ICleanroom, ICustomRecipeInputs {
 
     /**
      * Maximum width (horizontal size) of the cleanroom. Includes walls.
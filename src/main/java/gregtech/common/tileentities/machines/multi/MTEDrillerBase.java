@@ -67,6 +67,7 @@ import gregtech.api.gui.widgets.LockedWhileActiveButton;
 import gregtech.api.interfaces.IChunkLoader;
 import gregtech.api.interfaces.IHatchElement;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEEnhancedMultiBlockBase;
@@ -84,7 +85,7 @@ import gregtech.api.util.IGTHatchAdder;
 import gregtech.api.util.shutdown.ShutDownReasonRegistry;
 
 public abstract class MTEDrillerBase extends MTEEnhancedMultiBlockBase<MTEDrillerBase>
-    implements IChunkLoader, ISurvivalConstructable {
+    implements IChunkLoader, ISurvivalConstructable, ICustomRecipeInputs {
 
     private static final ItemStack miningPipe = GTModHandler.getIC2Item("miningPipe", 0);
     private static final ItemStack miningPipeTip = GTModHandler.getIC2Item("miningPipeTip", 0);
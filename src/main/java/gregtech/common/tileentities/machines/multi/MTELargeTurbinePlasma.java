@@ -17,6 +17,7 @@ import org.jetbrains.annotations.NotNull;
 
 import gregtech.api.GregTechAPI;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.recipe.RecipeMap;
@@ -29,7 +30,7 @@ import gregtech.api.util.GTUtility;
 import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.api.util.TurbineStatCalculator;
 
-public class MTELargeTurbinePlasma extends MTELargeTurbine {
+public class MTELargeTurbinePlasma extends MTELargeTurbine implements ICustomRecipeInputs {
 
     public MTELargeTurbinePlasma(int aID, String aName, String aNameRegional) {
         super(aID, aName, aNameRegional);
@@ -57,6 +57,7 @@ import gregtech.api.enums.Textures.BlockIcons;
 import gregtech.api.gui.modularui.GTUITextures;
 import gregtech.api.interfaces.IHatchElement;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.logic.ProcessingLogic;
@@ -83,7 +84,7 @@ import mcp.mobius.waila.api.IWailaDataAccessor;
 
 @Deprecated
 public class MTEProcessingArray extends MTEExtendedPowerMultiBlockBase<MTEProcessingArray>
-    implements ISurvivalConstructable {
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     private static final String STRUCTURE_PIECE_MAIN = "main";
     private static final IStructureDefinition<MTEProcessingArray> STRUCTURE_DEFINITION = StructureDefinition
@@ -21,6 +21,7 @@ import gregtech.api.GregTechAPI;
 import gregtech.api.enums.GTValues;
 import gregtech.api.enums.Textures;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEEnhancedMultiBlockBase;
@@ -43,7 +44,8 @@ import thaumcraft.common.lib.research.ResearchManager;
 import thaumcraft.common.lib.research.ResearchNoteData;
 import thaumcraft.common.tiles.TileNode;
 
-public class MTEResearchCompleter extends MTEEnhancedMultiBlockBase<MTEResearchCompleter> {
+public class MTEResearchCompleter extends MTEEnhancedMultiBlockBase<MTEResearchCompleter>
+    implements ICustomRecipeInputs {
 
     private static final int CASING_INDEX = 184;
     private static final int MAX_LENGTH = 13;
@@ -604,6 +604,11 @@ public class MTEBlackHoleCompressor extends MTEExtendedPowerMultiBlockBase<MTEBl
 
             private int lastMode = -1;
 
+            @Override
+            protected boolean isRecipeSearchInputOnly() {
+                return false;
+            }
+
             @NotNull
             @Override
             protected Stream<GTRecipe> findRecipeMatches(@Nullable RecipeMap<?> map) {
@@ -43,6 +43,7 @@ import gregtech.api.enums.ItemList;
 import gregtech.api.enums.Materials;
 import gregtech.api.enums.VoidingMode;
 import gregtech.api.gui.modularui.GTUITextures;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEExtendedPowerMultiBlockBase;
 import gregtech.api.metatileentity.implementations.MTEHatchInput;
@@ -63,7 +64,7 @@ import mcp.mobius.waila.api.IWailaDataAccessor;
  * if you override these methods, or linking will break.
  */
 public abstract class MTEPurificationUnitBase<T extends MTEExtendedPowerMultiBlockBase<T>>
-    extends MTEExtendedPowerMultiBlockBase<T> {
+    extends MTEExtendedPowerMultiBlockBase<T> implements ICustomRecipeInputs {
 
     /**
      * Ratio of output fluid that needs to be inserted back as input to trigger a "water boost".
@@ -0,0 +1,152 @@
+package gregtech.crossmod.ae2;
+
+import java.util.function.BooleanSupplier;
+
+import appeng.api.networking.security.BaseActionSource;
+import appeng.api.storage.IBaseMonitor;
+import appeng.api.storage.IMEMonitor;
+import appeng.api.storage.IMEMonitorHandlerReceiver;
+import appeng.api.storage.data.IAEStack;
+
+/**
+ * Keeps the amounts of a few stacks in an ME network, as last read with a simulated extraction, and forgets them once
+ * the network tells that the stored amount of such a stack changed. Used by stocking buses and hatches, so that they
+ * only ask the network again for stacks that changed.
+ * <p>
+ * Also keeps track of whether anything in the network changed that might change the stacks an auto-pulling bus or
+ * hatch should pull.
+ */
+public class MEStockWatcher<T extends IAEStack<T>> implements IMEMonitorHandlerReceiver<T> {
+
+    private final BooleanSupplier isHostValid;
+    private final Object[] watched;
+    private final Object[] stocks;
+    private final boolean[] read;
+    private IMEMonitor<T> monitor;
+    private boolean listChanged = true;
+    private boolean listFull = false;
+    private long changes = 0;
+
+    /**
+     * @param isHostValid Whether the bus or hatch is still in the world, stops watching once it isn't
+     */
+    public MEStockWatcher(int slots, BooleanSupplier isHostValid) {
+        this.isHostValid = isHostValid;
+        this.watched = new Object[slots];
+        this.stocks = new Object[slots];
+        this.read = new boolean[slots];
+    }
+
+    /**
+     * Starts watching the given network monitor, if it isn't watched already. Forgets everything read from another.
+     */
+    public void watch(IMEMonitor<T> monitor) {
+        if (this.monitor == monitor) return;
+        this.monitor = monitor;
+        monitor.addListener(this, monitor);
+        onListUpdate();
+    }
+
+    /**
+     * Sets the stack a slot stocks, forgetting the amount read for it if the stack changed.
+     */
+    public void setWatched(int slot, T stack) {
+        final Object old = watched[slot];
+        if (old == null ? stack == null : stack != null && stack.isSameType(old)) return;
+        watched[slot] = stack;
+        forget(slot);
+    }
+
+    /**
+     * @return Whether the amount of the slot is known and still up to date
+     */
+    public boolean isRead(int slot) {
+        return read[slot];
+    }
+
+    /**
+     * @return The result of the simulated extraction last read for the slot
+     */
+    @SuppressWarnings("unchecked")
+    public T getStock(int slot) {
+        return (T) stocks[slot];
+    }
+
+    public void setStock(int slot, T stock) {
+        stocks[slot] = stock;
+        read[slot] = true;
+    }
+
+    public void forget(int slot) {
+        read[slot] = false;
+        stocks[slot] = null;
+        changes++;
+    }
+
+    /**
+     * Forgets all amounts, to read them again in case the network missed telling about a change. Counts as a change,
+     * as the amounts read again may differ from the forgotten ones.
+     */
+    public void forgetAll() {
+        for (int i = 0; i < read.length; i++) {
+            read[i] = false;
+            stocks[i] = null;
+        }
+        changes++;
+    }
+
+    /**
+     * @return Whether the stacks an auto-pulling bus or hatch would pull might have changed since the last
+     *         {@link #setListRefreshed}
+     */
+    public boolean hasListChanged() {
+        return listChanged;
+    }
+
+    public void markListChanged() {
+        listChanged = true;
+    }
+
+    /**
+     * @param full Whether the list is full, in which case only changes of pulled stacks can change it
+     */
+    public void setListRefreshed(boolean full) {
+        listChanged = false;
+        listFull = full;
+    }
+
+    /**
+     * @return Monotonic counter which changes whenever a stocked amount might have changed
+     */
+    public long getChanges() {
+        return changes;
+    }
+
+    @Override
+    public boolean isValid(Object verificationToken) {
+        return verificationToken == monitor && isHostValid.getAsBoolean();
+    }
+
+    @Override
+    public void postChange(IBaseMonitor<T> monitor, Iterable<T> change, BaseActionSource actionSource) {
+        if (!listFull) listChanged = true;
+        for (T stack : change) {
+            for (int i = 0; i < watched.length; i++) {
+                if (watched[i] != null && stack.isSameType(watched[i])) {
+                    listChanged = true;
+                    forget(i);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void onListUpdate() {
+        listChanged = true;
+        for (int i = 0; i < read.length; i++) {
+            read[i] = false;
+            stocks[i] = null;
+        }
+        changes++;
+    }
+}
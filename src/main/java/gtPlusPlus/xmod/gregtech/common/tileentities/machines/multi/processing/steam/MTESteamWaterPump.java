@@ -43,6 +43,7 @@ import gregtech.api.enums.Materials;
 import gregtech.api.enums.SoundResource;
 import gregtech.api.enums.Textures;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.recipe.check.CheckRecipeResult;
@@ -56,7 +57,8 @@ import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.MTESteam
 import mcp.mobius.waila.api.IWailaConfigHandler;
 import mcp.mobius.waila.api.IWailaDataAccessor;
 
-public class MTESteamWaterPump extends MTESteamMultiBase<MTESteamWaterPump> implements ISurvivalConstructable {
+public class MTESteamWaterPump extends MTESteamMultiBase<MTESteamWaterPump>
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     public MTESteamWaterPump(String aName) {
         super(aName);
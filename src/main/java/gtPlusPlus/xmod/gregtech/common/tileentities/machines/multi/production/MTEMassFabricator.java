@@ -278,6 +278,11 @@ public class MTEMassFabricator extends GTPPMultiBlockBase<MTEMassFabricator> imp
                 return CheckRecipeResultRegistry.SUCCESSFUL;
             }
 
+            @Override
+            protected boolean isRecipeSearchInputOnly() {
+                return false;
+            }
+
             @Nonnull
             @Override
             protected Stream<GTRecipe> findRecipeMatches(@Nullable RecipeMap<?> map) {
@@ -31,6 +31,7 @@ import gregtech.api.enums.SoundResource;
 import gregtech.api.enums.TAE;
 import gregtech.api.enums.Textures;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.recipe.RecipeMap;
@@ -47,7 +48,8 @@ import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.GTPPMult
 import gtPlusPlus.xmod.gregtech.common.blocks.textures.TexturesGtBlock;
 import gtPlusPlus.xmod.gregtech.common.tileentities.misc.MTESolarHeater;
 
-public class MTESolarTower extends GTPPMultiBlockBase<MTESolarTower> implements ISurvivalConstructable {
+public class MTESolarTower extends GTPPMultiBlockBase<MTESolarTower>
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     // 862
     private static final int mCasingTextureID = TAE.getIndexFromPage(3, 9);
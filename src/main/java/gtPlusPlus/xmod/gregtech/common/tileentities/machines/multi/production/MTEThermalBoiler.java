@@ -34,6 +34,7 @@ import gregtech.api.enums.GTValues;
 import gregtech.api.enums.ItemList;
 import gregtech.api.enums.TAE;
 import gregtech.api.interfaces.IIconContainer;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.logic.ProcessingLogic;
 import gregtech.api.metatileentity.MetaTileEntity;
@@ -50,7 +51,8 @@ import gtPlusPlus.core.util.minecraft.FluidUtils;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.GTPPMultiBlockBase;
 import gtPlusPlus.xmod.gregtech.common.blocks.textures.TexturesGtBlock;
 
-public class MTEThermalBoiler extends GTPPMultiBlockBase<MTEThermalBoiler> implements ISurvivalConstructable {
+public class MTEThermalBoiler extends GTPPMultiBlockBase<MTEThermalBoiler>
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     private int mCasing;
     private static IStructureDefinition<MTEThermalBoiler> STRUCTURE_DEFINITION = null;
@@ -121,6 +123,11 @@ public class MTEThermalBoiler extends GTPPMultiBlockBase<MTEThermalBoiler> imple
     protected ProcessingLogic createProcessingLogic() {
         return new ProcessingLogic() {
 
+            @Override
+            protected boolean isRecipeSearchInputOnly() {
+                return false;
+            }
+
             // Only test against the first fluid input in the recipe.
             // We still want to run if we lack water (and subsequently explode).
             @NotNull
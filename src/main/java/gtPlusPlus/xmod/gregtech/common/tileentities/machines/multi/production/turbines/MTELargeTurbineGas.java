@@ -14,6 +14,7 @@ import net.minecraftforge.fluids.FluidStack;
 import org.jetbrains.annotations.NotNull;
 
 import gregtech.api.enums.Materials;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.recipe.RecipeMap;
@@ -25,7 +26,7 @@ import gregtech.api.util.GTRecipe;
 import gregtech.api.util.GTUtility;
 import gregtech.api.util.TurbineStatCalculator;
 
-public class MTELargeTurbineGas extends MTELargerTurbineBase {
+public class MTELargeTurbineGas extends MTELargerTurbineBase implements ICustomRecipeInputs {
 
     private static final HashSet<Fluid> BLACKLIST = new HashSet<>();
 
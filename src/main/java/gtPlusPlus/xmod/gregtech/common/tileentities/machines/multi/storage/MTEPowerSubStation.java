@@ -61,6 +61,7 @@ import gregtech.api.enums.TAE;
 import gregtech.api.enums.Textures;
 import gregtech.api.gui.modularui.GTUITextures;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.MetaTileEntity;
@@ -83,7 +84,8 @@ import gtPlusPlus.core.util.minecraft.PlayerUtils;
 import gtPlusPlus.xmod.gregtech.api.gui.GTPPUITextures;
 import gtPlusPlus.xmod.gregtech.api.metatileentity.implementations.base.GTPPMultiBlockBase;
 
-public class MTEPowerSubStation extends GTPPMultiBlockBase<MTEPowerSubStation> implements ISurvivalConstructable {
+public class MTEPowerSubStation extends GTPPMultiBlockBase<MTEPowerSubStation>
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     private enum TopState {
         MayBeTop,
@@ -38,6 +38,7 @@ import gregtech.api.GregTechAPI;
 import gregtech.api.enums.GTValues;
 import gregtech.api.enums.TickTime;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEEnhancedMultiBlockBase;
@@ -58,7 +59,8 @@ import gtnhlanth.common.tileentity.recipe.beamline.BeamlineRecipeAdder2;
 import gtnhlanth.common.tileentity.recipe.beamline.RecipeTC;
 import gtnhlanth.util.DescTextLocalization;
 
-public class MTETargetChamber extends MTEEnhancedMultiBlockBase<MTETargetChamber> implements ISurvivalConstructable {
+public class MTETargetChamber extends MTEEnhancedMultiBlockBase<MTETargetChamber>
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     private static final IStructureDefinition<MTETargetChamber> STRUCTURE_DEFINITION;
 
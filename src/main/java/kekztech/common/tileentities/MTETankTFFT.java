@@ -51,6 +51,7 @@ import gregtech.api.fluid.GTFluidTank;
 import gregtech.api.interfaces.IHatchElement;
 import gregtech.api.interfaces.IIconContainer;
 import gregtech.api.interfaces.ITexture;
+import gregtech.api.interfaces.metatileentity.ICustomRecipeInputs;
 import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
 import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.implementations.MTEEnhancedMultiBlockBase;
@@ -64,7 +65,8 @@ import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.common.items.ItemIntegratedCircuit;
 import kekztech.common.Blocks;
 
-public class MTETankTFFT extends MTEEnhancedMultiBlockBase<MTETankTFFT> implements ISurvivalConstructable {
+public class MTETankTFFT extends MTEEnhancedMultiBlockBase<MTETankTFFT>
+    implements ISurvivalConstructable, ICustomRecipeInputs {
 
     public enum Field {
 
@@ -0,0 +1,31 @@
+package tectech.mechanics.pipe;
+
+import gregtech.api.interfaces.metatileentity.IMetaTileEntity;
+
+/**
+ * Counts the changes of laser and data pipes, like pipes being placed, broken, painted or connecting differently.
+ * Tunnels and data outputs keep the path they last found through the pipes together with this count, and only walk
+ * the pipes again once it changed.
+ */
+public final class PipeTopology {
+
+    private static int version;
+
+    private PipeTopology() {}
+
+    public static void markChanged() {
+        version++;
+    }
+
+    public static int getVersion() {
+        return version;
+    }
+
+    /**
+     * @return Whether the pipe or hatch is still in the world, those in unloaded chunks aren't
+     */
+    public static boolean isLoaded(IMetaTileEntity metaTileEntity) {
+        return metaTileEntity.getBaseMetaTileEntity() != null && !metaTileEntity.getBaseMetaTileEntity()
+            .isDead();
+    }
+}
@@ -2,14 +2,14 @@ package tectech.mechanics.spark;
 
 import static gregtech.api.enums.Mods.Thaumcraft;
 
-import java.util.HashSet;
 import java.util.Random;
-import java.util.Set;
 
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.world.World;
 
+import com.gtnewhorizon.structurelib.util.Vec3Impl;
+
 import cpw.mods.fml.common.network.simpleimpl.IMessage;
 import cpw.mods.fml.common.network.simpleimpl.MessageContext;
 import cpw.mods.fml.relauncher.Side;
@@ -18,27 +18,39 @@ import eu.usrv.yamcore.network.client.AbstractClientMessageHandler;
 import io.netty.buffer.ByteBuf;
 import thaumcraft.client.fx.bolt.FXLightningBolt;
 
-// TODO Re-work how sparks are distributed
+/**
+ * The sparks of one Tesla origin since its last send, see {@link SparkBatch}. They all start at the origin, so only
+ * their offsets to the targets are sent for each of them.
+ */
 public class RendererMessage implements IMessage {
 
-    Set<ThaumSpark> sparkList;
+    int x, y, z, wID;
+    // packed offsets from the origin to the targets
+    int[] offsets;
 
     public RendererMessage() {}
 
     @Override
     public void fromBytes(ByteBuf buffer) {
-        sparkList = new HashSet<>();
-        int size = buffer.readInt();
-        for (int i = 0; i < size; i++) {
-            sparkList.add(new ThaumSpark(buffer));
+        x = buffer.readInt();
+        y = buffer.readInt();
+        z = buffer.readInt();
+        wID = buffer.readInt();
+        offsets = new int[buffer.readUnsignedShort()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = buffer.readMedium();
         }
     }
 
     @Override
     public void toBytes(ByteBuf buffer) {
-        buffer.writeInt(sparkList.size());
-        for (ThaumSpark spark : sparkList) {
-            spark.writeToBuf(buffer);
+        buffer.writeInt(x);
+        buffer.writeInt(y);
+        buffer.writeInt(z);
+        buffer.writeInt(wID);
+        buffer.writeShort(offsets.length);
+        for (int offset : offsets) {
+            buffer.writeMedium(offset);
         }
     }
 
@@ -46,8 +58,12 @@ public class RendererMessage implements IMessage {
 
         public RendererData() {}
 
-        public RendererData(Set<ThaumSpark> eSparkList) {
-            sparkList = eSparkList;
+        public RendererData(Vec3Impl origin, int wID, int[] offsets) {
+            this.x = origin.get0();
+            this.y = origin.get1();
+            this.z = origin.get2();
+            this.wID = wID;
+            this.offsets = offsets;
         }
     }
 
@@ -55,20 +71,24 @@ public class RendererMessage implements IMessage {
 
         @Override
         public IMessage handleClientMessage(EntityPlayer pPlayer, RendererData pMessage, MessageContext pCtx) {
+            if (pMessage.offsets.length == 0) return null;
             // disgusting
             Random localRand = Minecraft.getMinecraft().theWorld.rand;
             int[] zapsToUse = new int[4];
             for (int i = 0; i < 3; i++) {
-                zapsToUse[i] = localRand.nextInt(pMessage.sparkList.size());
+                zapsToUse[i] = localRand.nextInt(pMessage.offsets.length);
             }
-            int i = 0;
-            for (ThaumSpark spark : pMessage.sparkList) {
-                for (int j : zapsToUse) {
-                    if (i == j) {
-                        thaumLightning(spark);
-                    }
-                }
-                i++;
+            for (int j : zapsToUse) {
+                final int offset = pMessage.offsets[j];
+                thaumLightning(
+                    new ThaumSpark(
+                        pMessage.x,
+                        pMessage.y,
+                        pMessage.z,
+                        (byte) (offset >> 16),
+                        (byte) (offset >> 8),
+                        (byte) offset,
+                        pMessage.wID));
             }
             return null;
         }
@@ -0,0 +1,75 @@
+package tectech.mechanics.spark;
+
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.world.World;
+
+import com.gtnewhorizon.structurelib.util.Vec3Impl;
+
+import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import tectech.loader.NetworkDispatcher;
+
+/**
+ * The sparks a Tesla origin shows between two sends to clients, as the offsets from the origin to the targets it sent
+ * power to. Every target adds one spark per send, however many amps it got, and at most {@link #MAX_SPARKS} are kept,
+ * as clients only draw a few of them anyway. Nothing is kept while no player is close enough to see the sparks.
+ */
+public class SparkBatch {
+
+    public static final int MAX_SPARKS = 32;
+    // same as the range the sparks are sent in
+    private static final int RANGE = 256;
+
+    private final IntOpenHashSet offsets = new IntOpenHashSet();
+    private boolean collecting = true;
+
+    /**
+     * @return Whether sparks added now would be sent, skip working them out otherwise
+     */
+    public boolean isCollecting() {
+        return collecting;
+    }
+
+    public void add(Vec3Impl origin, Vec3Impl target) {
+        if (!collecting || offsets.size() >= MAX_SPARKS) return;
+        offsets.add(
+            pack(
+                (byte) (target.get0() - origin.get0()),
+                (byte) (target.get1() - origin.get1()),
+                (byte) (target.get2() - origin.get2())));
+    }
+
+    /**
+     * Sends the sparks added since the last send to the players around the machine, and checks whether any player is
+     * close enough to see the next ones.
+     *
+     * @param visible Whether sparks should be shown at all
+     */
+    public void send(IGregTechTileEntity base, Vec3Impl origin, boolean visible) {
+        final World world = base.getWorld();
+        if (!offsets.isEmpty()) {
+            NetworkDispatcher.INSTANCE.sendToAllAround(
+                new RendererMessage.RendererData(origin, world.provider.dimensionId, offsets.toIntArray()),
+                world.provider.dimensionId,
+                base.getXCoord(),
+                base.getYCoord(),
+                base.getZCoord(),
+                RANGE);
+            offsets.clear();
+        }
+        collecting = visible && isPlayerInRange(world, base.getXCoord(), base.getYCoord(), base.getZCoord());
+    }
+
+    private static int pack(byte x, byte y, byte z) {
+        return (x & 0xFF) << 16 | (y & 0xFF) << 8 | z & 0xFF;
+    }
+
+    private static boolean isPlayerInRange(World world, int x, int y, int z) {
+        for (Object o : world.playerEntities) {
+            if (o instanceof EntityPlayer player && player.getDistanceSq(x, y, z) < RANGE * RANGE) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
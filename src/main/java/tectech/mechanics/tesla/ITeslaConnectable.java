@@ -3,21 +3,21 @@ package tectech.mechanics.tesla;
 import static java.lang.Math.sqrt;
 
 import java.util.ArrayList;
-import java.util.HashSet;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
-import com.google.common.collect.Multimap;
+import com.gtnewhorizon.structurelib.util.Vec3Impl;
 
-import tectech.mechanics.spark.ThaumSpark;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import tectech.mechanics.spark.SparkBatch;
 
 public interface ITeslaConnectable extends ITeslaConnectableSimple {
 
-    // Map with all Teslas in the same dimension and the distance to them //TODO Range
-    Multimap<Integer, ITeslaConnectableSimple> getTeslaNodeMap();
+    // All Teslas in range in the same dimension, sorted by the distance to them
+    TeslaNodeList getTeslaNodeMap();
 
-    // ThaumCraft lighting coordinate pairs, so we can send them in bursts and save on lag
-    HashSet<ThaumSpark> getSparkList();
+    // ThaumCraft lighting to the targets power was sent to, so we can send them in bursts and save on lag
+    SparkBatch getSparkList();
 
     // -128 to -1 disables capability
     // 0 means any source or target
@@ -41,22 +41,38 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
 
     class TeslaUtil {
 
-        private static final HashSet<ITeslaConnectableSimple> teslaSimpleNodeSet = new HashSet<>(); // Targets for power
-                                                                                                    // transmission
-        private static final HashSet<ITeslaConnectable> teslaNodeSet = new HashSet<>(); // Sources of power transmission
+        // Targets and sources of power transmission, with where they were when they were added
+        private static final HashMap<ITeslaConnectableSimple, Location> teslaSimpleNodes = new HashMap<>();
+        private static final HashMap<ITeslaConnectable, Location> teslaNodes = new HashMap<>();
+        private static final Int2ObjectOpenHashMap<TeslaGrid> teslaGrids = new Int2ObjectOpenHashMap<>();
         private static final List<ITeslaConnectableSimple> scheduledRemove = new ArrayList<>();
 
         public static void teslaSimpleNodeSetAdd(ITeslaConnectableSimple target) {
-            if (!teslaSimpleNodeSet.contains(target)) {
-                teslaSimpleNodeSet.add(target);
-                teslaNodeSet.forEach(origin -> addTargetToTeslaOrigin(target, origin));
+            final int dimension = target.getTeslaDimension();
+            final Vec3Impl position = target.getTeslaPosition();
+            final Location old = teslaSimpleNodes.get(target);
+            if (old != null) {
+                if (old.dimension == dimension && old.position.equals(position)) return;
+                // Towers only know where their top is once their structure was checked
+                teslaSimpleNodes.remove(target);
+                removeTarget(target, old);
             }
+            teslaSimpleNodes.put(target, new Location(dimension, position));
+            final TeslaGrid grid = getGrid(dimension);
+            TeslaGrid.add(grid.targets, TeslaGrid.getChunk(position), target);
+            final float coefficient = target.getTeslaReceptionCoefficient();
+            grid.maxCoefficient = Math.max(grid.maxCoefficient, coefficient);
+            TeslaGrid.forEachInRange(
+                grid.origins,
+                position,
+                (int) (grid.maxRange * coefficient) + 1,
+                origin -> addTargetToTeslaOrigin(target, origin));
         }
 
         public static void teslaSimpleNodeSetRemove(ITeslaConnectableSimple target) {
-            teslaSimpleNodeSet.remove(target);
-            if (target instanceof ITeslaConnectable) teslaNodeSet.remove(target);
-            teslaNodeSet.forEach(origin -> removeTargetFromTeslaOrigin(target, origin));
+            final Location location = teslaSimpleNodes.remove(target);
+            if (target instanceof ITeslaConnectable origin) removeOrigin(origin);
+            if (location != null) removeTarget(target, location);
         }
 
         public static void teslaSimpleNodeSetRemoveScheduled(ITeslaConnectableSimple target) {
@@ -65,11 +81,46 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
 
         public static void housekeep() {
             for (ITeslaConnectableSimple e : scheduledRemove) {
-                teslaSimpleNodeSet.remove(e);
+                final Location location = teslaSimpleNodes.remove(e);
+                if (location != null) removeTarget(e, location);
             }
             scheduledRemove.clear();
         }
 
+        private static TeslaGrid getGrid(int dimension) {
+            TeslaGrid grid = teslaGrids.get(dimension);
+            if (grid == null) {
+                grid = new TeslaGrid();
+                teslaGrids.put(dimension, grid);
+            }
+            return grid;
+        }
+
+        private static void removeTarget(ITeslaConnectableSimple target, Location location) {
+            final TeslaGrid grid = teslaGrids.get(location.dimension);
+            TeslaGrid.remove(grid.targets, TeslaGrid.getChunk(location.position), target);
+            TeslaGrid.forEachInRange(
+                grid.origins,
+                location.position,
+                (int) (grid.maxRange * target.getTeslaReceptionCoefficient()) + 1,
+                origin -> origin.getTeslaNodeMap()
+                    .remove(getDistance(origin.getTeslaPosition(), location.position), target));
+        }
+
+        private static void removeOrigin(ITeslaConnectable origin) {
+            final Location location = teslaNodes.remove(origin);
+            if (location != null) {
+                TeslaGrid.remove(
+                    teslaGrids.get(location.dimension).origins,
+                    TeslaGrid.getChunk(location.position),
+                    origin);
+            }
+        }
+
+        private static int getDistance(Vec3Impl origin, Vec3Impl target) {
+            return (int) sqrt(origin.distanceSq(target));
+        }
+
         private static void addTargetToTeslaOrigin(ITeslaConnectableSimple target, ITeslaConnectable origin) {
             if (origin.equals(target) || !origin.getTeslaDimension()
                 .equals(target.getTeslaDimension())) {
@@ -82,39 +133,31 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
                     return;
                 }
             // Range calc
-            int distance = (int) sqrt(
-                origin.getTeslaPosition()
-                    .distanceSq(target.getTeslaPosition()));
+            int distance = getDistance(origin.getTeslaPosition(), target.getTeslaPosition());
             if (distance > origin.getTeslaTransmissionRange() * target.getTeslaReceptionCoefficient()) {
                 // Skip if the range is too vast
                 return;
             }
             origin.getTeslaNodeMap()
-                .put(distance, target);
-        }
-
-        private static void removeTargetFromTeslaOrigin(ITeslaConnectableSimple target, ITeslaConnectable origin) {
-            // Range calc TODO Remove duplicate?
-            int distance = (int) sqrt(
-                origin.getTeslaPosition()
-                    .distanceSq(target.getTeslaPosition()));
-            origin.getTeslaNodeMap()
-                .remove(distance, target);
+                .add(distance, target);
         }
 
         public static void generateTeslaNodeMap(ITeslaConnectable origin) {
             origin.getTeslaNodeMap()
                 .clear();
-            for (ITeslaConnectableSimple target : teslaSimpleNodeSet) {
-                // Sanity checks
-                if (target == null) {
-                    // The Tesla Covers do not remove themselves from the list and this is the code that does
-                    teslaSimpleNodeSet.remove(null);
-                    continue;
-                }
-                addTargetToTeslaOrigin(target, origin);
-            }
-            teslaNodeSet.add(origin);
+            removeOrigin(origin);
+            final int dimension = origin.getTeslaDimension();
+            final Vec3Impl position = origin.getTeslaPosition();
+            final int range = origin.getTeslaTransmissionRange();
+            teslaNodes.put(origin, new Location(dimension, position));
+            final TeslaGrid grid = getGrid(dimension);
+            TeslaGrid.add(grid.origins, TeslaGrid.getChunk(position), origin);
+            grid.maxRange = Math.max(grid.maxRange, range);
+            TeslaGrid.forEachInRange(
+                grid.targets,
+                position,
+                (int) (range * grid.maxCoefficient) + 1,
+                target -> addTargetToTeslaOrigin(target, origin));
         }
 
         public static long powerTeslaNodeMap(ITeslaConnectable origin) {
@@ -122,16 +165,17 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
             boolean canSendPower = !origin.isTeslaReadyToReceive() && remainingAmperes > 0;
 
             if (canSendPower) {
-                for (Map.Entry<Integer, ITeslaConnectableSimple> Rx : origin.getTeslaNodeMap()
-                    .entries()) {
+                final TeslaNodeList nodeMap = origin.getTeslaNodeMap();
+                final SparkBatch sparks = origin.getSparkList();
+                for (int i = 0; i < nodeMap.size(); i++) {
                     // Do we still have power left to send kind of check
                     if (origin.getTeslaStoredEnergy()
                         < (origin.isOverdriveEnabled() ? origin.getTeslaOutputVoltage() * 2
                             : origin.getTeslaOutputVoltage()))
                         break;
                     // Explicit words for the important fields
-                    ITeslaConnectableSimple target = Rx.getValue();
-                    int distance = Rx.getKey();
+                    ITeslaConnectableSimple target = nodeMap.getTarget(i);
+                    int distance = nodeMap.getDistance(i);
                     // Can our target receive energy?
                     if (!target.isTeslaReadyToReceive()) continue;
 
@@ -155,15 +199,11 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
                     if (origin.getTeslaStoredEnergy() < outputVoltageConsumption) break;
 
                     // Now shove in as many packets as will fit~
+                    boolean sentPower = false;
                     while (canSendPower) {
                         if (target.teslaInjectEnergy(outputVoltageInjectable)) {
                             origin.teslaDrainEnergy(outputVoltageConsumption);
-                            origin.getSparkList()
-                                .add(
-                                    new ThaumSpark(
-                                        origin.getTeslaPosition(),
-                                        target.getTeslaPosition(),
-                                        origin.getTeslaDimension()));
+                            sentPower = true;
                             remainingAmperes--;
                             // Update the can send power flag each time we send power
                             canSendPower = (origin.getTeslaStoredEnergy() < outputVoltageConsumption
@@ -173,6 +213,10 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
                             break;
                         }
                     }
+                    // One spark for the target, however many packets it got
+                    if (sentPower && sparks.isCollecting()) {
+                        sparks.add(origin.getTeslaPosition(), target.getTeslaPosition());
+                    }
 
                     // Break out if we can't send power anymore
                     if (!canSendPower) break;
@@ -180,5 +224,16 @@ public interface ITeslaConnectable extends ITeslaConnectableSimple {
             }
             return origin.getTeslaOutputCurrent() - remainingAmperes;
         }
+
+        private static final class Location {
+
+            private final int dimension;
+            private final Vec3Impl position;
+
+            private Location(int dimension, Vec3Impl position) {
+                this.dimension = dimension;
+                this.position = position;
+            }
+        }
     }
 }
@@ -0,0 +1,66 @@
+package tectech.mechanics.tesla;
+
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+import net.minecraft.world.ChunkCoordIntPair;
+
+import com.gtnewhorizon.structurelib.util.Vec3Impl;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+
+/**
+ * The Tesla origins and targets of one dimension, by the chunk they were in when they were added, so that connecting a
+ * node only looks at the chunks in range of it.
+ */
+final class TeslaGrid {
+
+    final Long2ObjectOpenHashMap<ArrayList<ITeslaConnectableSimple>> targets = new Long2ObjectOpenHashMap<>();
+    final Long2ObjectOpenHashMap<ArrayList<ITeslaConnectable>> origins = new Long2ObjectOpenHashMap<>();
+    // how far origins and targets added so far can reach, never shrinks
+    int maxRange;
+    float maxCoefficient;
+
+    static long getChunk(Vec3Impl position) {
+        return ChunkCoordIntPair.chunkXZ2Int(position.get0() >> 4, position.get2() >> 4);
+    }
+
+    static <T> void add(Long2ObjectOpenHashMap<ArrayList<T>> cells, long chunk, T node) {
+        ArrayList<T> cell = cells.get(chunk);
+        if (cell == null) {
+            cell = new ArrayList<>(4);
+            cells.put(chunk, cell);
+        }
+        cell.add(node);
+    }
+
+    static <T> void remove(Long2ObjectOpenHashMap<ArrayList<T>> cells, long chunk, T node) {
+        final ArrayList<T> cell = cells.get(chunk);
+        if (cell != null && cell.remove(node) && cell.isEmpty()) cells.remove(chunk);
+    }
+
+    /**
+     * Passes every node in the chunks within the given distance of the position.
+     */
+    static <T> void forEachInRange(Long2ObjectOpenHashMap<ArrayList<T>> cells, Vec3Impl position, int distance,
+        Consumer<T> consumer) {
+        final int minX = position.get0() - distance >> 4, maxX = position.get0() + distance >> 4;
+        final int minZ = position.get2() - distance >> 4, maxZ = position.get2() + distance >> 4;
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > cells.size()) {
+            // fewer occupied chunks than chunks in range
+            for (Long2ObjectMap.Entry<ArrayList<T>> entry : cells.long2ObjectEntrySet()) {
+                final int x = (int) entry.getLongKey(), z = (int) (entry.getLongKey() >>> 32);
+                if (x >= minX && x <= maxX && z >= minZ && z <= maxZ) entry.getValue()
+                    .forEach(consumer);
+            }
+            return;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final ArrayList<T> cell = cells.get(ChunkCoordIntPair.chunkXZ2Int(x, z));
+                if (cell != null) cell.forEach(consumer);
+            }
+        }
+    }
+}
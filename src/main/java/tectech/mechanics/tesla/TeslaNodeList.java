@@ -0,0 +1,93 @@
+package tectech.mechanics.tesla;
+
+import java.util.Arrays;
+
+/**
+ * The targets a Tesla origin can reach, sorted by their distance to it. Targets at the same distance keep the order
+ * they were added in.
+ */
+public class TeslaNodeList {
+
+    private int[] distances = new int[8];
+    private ITeslaConnectableSimple[] targets = new ITeslaConnectableSimple[8];
+    private int size;
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * @return The distance of the target at the given index, in blocks
+     */
+    public int getDistance(int index) {
+        return distances[index];
+    }
+
+    public ITeslaConnectableSimple getTarget(int index) {
+        return targets[index];
+    }
+
+    public void add(int distance, ITeslaConnectableSimple target) {
+        if (size == distances.length) {
+            distances = Arrays.copyOf(distances, size * 2);
+            targets = Arrays.copyOf(targets, size * 2);
+        }
+        final int index = indexAfter(distance);
+        System.arraycopy(distances, index, distances, index + 1, size - index);
+        System.arraycopy(targets, index, targets, index + 1, size - index);
+        distances[index] = distance;
+        targets[index] = target;
+        size++;
+    }
+
+    /**
+     * Removes the target, which is looked for at the given distance first.
+     *
+     * @return Whether the target was in the list
+     */
+    public boolean remove(int distance, ITeslaConnectableSimple target) {
+        for (int i = indexAfter(distance - 1); i < size && distances[i] == distance; i++) {
+            if (target.equals(targets[i])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        // the target or the origin may have moved since the target was added
+        for (int i = 0; i < size; i++) {
+            if (target.equals(targets[i])) {
+                removeAt(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(targets, 0, size, null);
+        size = 0;
+    }
+
+    private void removeAt(int index) {
+        System.arraycopy(distances, index + 1, distances, index, size - index - 1);
+        System.arraycopy(targets, index + 1, targets, index, size - index - 1);
+        targets[--size] = null;
+    }
+
+    // index of the first target further away than the given distance
+    private int indexAfter(int distance) {
+        int low = 0, high = size;
+        while (low < high) {
+            final int middle = (low + high) >>> 1;
+            if (distances[middle] <= distance) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+}
@@ -2,6 +2,9 @@ package tectech.thing.metaTileEntity.hatch;
 
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.EnumChatFormatting;
 import net.minecraftforge.common.util.ForgeDirection;
@@ -12,6 +15,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.MetaTileEntity;
 import tectech.mechanics.dataTransport.QuantumDataPacket;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
+import tectech.mechanics.pipe.PipeTopology;
 import tectech.thing.metaTileEntity.pipe.MTEPipeData;
 import tectech.util.CommonValues;
 
@@ -20,6 +24,13 @@ import tectech.util.CommonValues;
  */
 public class MTEHatchDataOutput extends MTEHatchDataConnector<QuantumDataPacket> {
 
+    // path found by the last transfer, kept until the pipes change, see PipeTopology
+    private MTEHatchDataInput cachedTarget;
+    private MTEPipeData[] cachedPath;
+    private int cachedVersion;
+    private byte cachedColor, cachedTargetColor;
+    private ForgeDirection cachedFront, cachedTargetFront;
+
     public MTEHatchDataOutput(int aID, String aName, String aNameRegional, int aTier) {
         super(
             aID,
@@ -71,17 +82,75 @@ public class MTEHatchDataOutput extends MTEHatchDataConnector<QuantumDataPacket>
 
     @Override
     public void moveAround(IGregTechTileEntity aBaseMetaTileEntity) {
+        MTEHatchDataInput target = getCachedTarget(aBaseMetaTileEntity);
+        if (target == null) {
+            target = findTarget(aBaseMetaTileEntity);
+        }
+        if (target != null) {
+            target.setContents(q);
+        }
+        q = null;
+    }
+
+    /**
+     * @return The data input found by the last transfer, if the pipes to it didn't change since, after marking them as
+     *         used
+     */
+    private MTEHatchDataInput getCachedTarget(IGregTechTileEntity aBaseMetaTileEntity) {
+        if (cachedTarget == null || cachedVersion != PipeTopology.getVersion()
+            || cachedColor != aBaseMetaTileEntity.getColorization()
+            || cachedFront != aBaseMetaTileEntity.getFrontFacing()
+            || !PipeTopology.isLoaded(cachedTarget)) {
+            return null;
+        }
+        IGregTechTileEntity targetBase = cachedTarget.getBaseMetaTileEntity();
+        if (targetBase.getColorization() != cachedTargetColor || targetBase.getFrontFacing() != cachedTargetFront) {
+            return null;
+        }
+        for (MTEPipeData pipe : cachedPath) {
+            if (!PipeTopology.isLoaded(pipe)) {
+                return null;
+            }
+            pipe.markUsed();
+        }
+        return cachedTarget;
+    }
+
+    /**
+     * Follows the data pipes from the hatch, marking them as used, and keeps the path if it ends at a data input.
+     */
+    private MTEHatchDataInput findTarget(IGregTechTileEntity aBaseMetaTileEntity) {
+        cachedTarget = null;
+        cachedPath = null;
+        List<MTEPipeData> path = new ArrayList<>();
+        // paths through anything but data pipes aren't kept, as they don't tell when they change
+        boolean keep = true;
         IConnectsToDataPipe current = this, source = this, next;
         int range = 0;
         while ((next = current.getNext(source)) != null && range++ < 1000) {
-            if (next instanceof MTEHatchDataInput) {
-                ((MTEHatchDataInput) next).setContents(q);
-                break;
+            if (next instanceof MTEHatchDataInput target) {
+                if (keep) {
+                    cachedTarget = target;
+                    cachedPath = path.toArray(new MTEPipeData[0]);
+                    cachedVersion = PipeTopology.getVersion();
+                    cachedColor = aBaseMetaTileEntity.getColorization();
+                    cachedFront = aBaseMetaTileEntity.getFrontFacing();
+                    cachedTargetColor = target.getBaseMetaTileEntity()
+                        .getColorization();
+                    cachedTargetFront = target.getBaseMetaTileEntity()
+                        .getFrontFacing();
+                }
+                return target;
+            }
+            if (next instanceof MTEPipeData pipe) {
+                path.add(pipe);
+            } else {
+                keep = false;
             }
             source = current;
             current = next;
         }
-        q = null;
+        return null;
     }
 
     @Override
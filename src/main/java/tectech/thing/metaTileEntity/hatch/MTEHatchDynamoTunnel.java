@@ -3,6 +3,9 @@ package tectech.thing.metaTileEntity.hatch;
 import static gregtech.api.enums.GTValues.V;
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
@@ -23,6 +26,7 @@ import gregtech.api.interfaces.tileentity.IGregTechTileEntity;
 import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.util.GTUtility;
 import tectech.mechanics.pipe.IConnectsToEnergyTunnel;
+import tectech.mechanics.pipe.PipeTopology;
 import tectech.thing.metaTileEntity.Textures;
 import tectech.thing.metaTileEntity.pipe.MTEPipeLaser;
 import tectech.thing.metaTileEntity.pipe.MTEPipeLaserMirror;
@@ -33,6 +37,13 @@ import tectech.util.CommonValues;
  */
 public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnectsToEnergyTunnel {
 
+    // path found by the last transfer, kept until the pipes change, see PipeTopology
+    private MTEHatchEnergyTunnel cachedTarget;
+    private MTEPipeLaser[] cachedPath;
+    private int cachedVersion;
+    private byte cachedColor;
+    private ForgeDirection cachedFront, cachedTargetFront;
+
     public MTEHatchDynamoTunnel(int ID, String unlocalisedName, String localisedName, int tier, int amps) {
         super(
             ID,
@@ -173,6 +184,66 @@ public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnec
             return;
         }
         final ForgeDirection front = aBaseMetaTileEntity.getFrontFacing();
+        MTEHatchEnergyTunnel target = getCachedTarget(color, front);
+        if (target == null) {
+            target = findTarget(aBaseMetaTileEntity, color, front);
+            if (target == null) {
+                return;
+            }
+        }
+        if (maxEUOutput() > target.maxEUInput()) {
+            target.doExplosion(maxEUOutput());
+            setEUVar(aBaseMetaTileEntity.getStoredEU() - maxEUOutput());
+        } else if (maxEUOutput() == target.maxEUInput()) {
+            long diff = Math.min(
+                Amperes * 20L * maxEUOutput(),
+                Math.min(
+                    target.maxEUStore() - target.getBaseMetaTileEntity()
+                        .getStoredEU(),
+                    aBaseMetaTileEntity.getStoredEU()));
+
+            setEUVar(aBaseMetaTileEntity.getStoredEU() - diff);
+
+            target.setEUVar(
+                target.getBaseMetaTileEntity()
+                    .getStoredEU() + diff);
+        }
+    }
+
+    /**
+     * @return The energy tunnel found by the last transfer, if the pipes to it didn't change since, after marking them
+     *         as used
+     */
+    private MTEHatchEnergyTunnel getCachedTarget(byte color, ForgeDirection front) {
+        if (cachedTarget == null || cachedVersion != PipeTopology.getVersion()
+            || cachedColor != color
+            || cachedFront != front
+            || !PipeTopology.isLoaded(cachedTarget)) {
+            return null;
+        }
+        IGregTechTileEntity targetBase = cachedTarget.getBaseMetaTileEntity();
+        if (targetBase.getColorization() != color || targetBase.getFrontFacing() != cachedTargetFront) {
+            return null;
+        }
+        for (MTEPipeLaser pipe : cachedPath) {
+            if (!PipeTopology.isLoaded(pipe)) {
+                return null;
+            }
+            if (!(pipe instanceof MTEPipeLaserMirror)) {
+                pipe.markUsed();
+            }
+        }
+        return cachedTarget;
+    }
+
+    /**
+     * Follows the laser pipes in front of the hatch, marking them as used, and keeps the path if it ends at an energy
+     * tunnel.
+     */
+    private MTEHatchEnergyTunnel findTarget(IGregTechTileEntity aBaseMetaTileEntity, byte color, ForgeDirection front) {
+        cachedTarget = null;
+        cachedPath = null;
+        List<MTEPipeLaser> path = new ArrayList<>();
         ForgeDirection opposite = front.getOpposite();
         for (short dist = 1; dist < 1000; dist++) {
 
@@ -183,8 +254,8 @@ public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnec
                 if (aMetaTileEntity != null) {
                     // If we hit a mirror, use the mirror's view instead
                     if (aMetaTileEntity instanceof MTEPipeLaserMirror tMirror) {
-
-                        tGTTileEntity = tMirror.bendAround(opposite);
+                        path.add(tMirror);
+                        tGTTileEntity = tMirror.bendAround(opposite, path);
                         if (tGTTileEntity == null) {
                             break;
                         } else {
@@ -193,43 +264,33 @@ public class MTEHatchDynamoTunnel extends MTEHatchDynamoMulti implements IConnec
                         }
                     }
 
-                    if (aMetaTileEntity instanceof MTEHatchEnergyTunnel && opposite == tGTTileEntity.getFrontFacing()) {
-                        if (maxEUOutput() > ((MTEHatchEnergyTunnel) aMetaTileEntity).maxEUInput()) {
-                            aMetaTileEntity.doExplosion(maxEUOutput());
-                            setEUVar(aBaseMetaTileEntity.getStoredEU() - maxEUOutput());
-                            return;
-                        } else if (maxEUOutput() == ((MTEHatchEnergyTunnel) aMetaTileEntity).maxEUInput()) {
-                            long diff = Math.min(
-                                Amperes * 20L * maxEUOutput(),
-                                Math.min(
-                                    ((MTEHatchEnergyTunnel) aMetaTileEntity).maxEUStore()
-                                        - aMetaTileEntity.getBaseMetaTileEntity()
-                                            .getStoredEU(),
-                                    aBaseMetaTileEntity.getStoredEU()));
-
-                            setEUVar(aBaseMetaTileEntity.getStoredEU() - diff);
-
-                            ((MTEHatchEnergyTunnel) aMetaTileEntity).setEUVar(
-                                aMetaTileEntity.getBaseMetaTileEntity()
-                                    .getStoredEU() + diff);
-                        }
-                        return;
+                    if (aMetaTileEntity instanceof MTEHatchEnergyTunnel tunnel
+                        && opposite == tGTTileEntity.getFrontFacing()) {
+                        cachedTarget = tunnel;
+                        cachedPath = path.toArray(new MTEPipeLaser[0]);
+                        cachedVersion = PipeTopology.getVersion();
+                        cachedColor = color;
+                        cachedFront = front;
+                        cachedTargetFront = opposite;
+                        return tunnel;
                     } else if (aMetaTileEntity instanceof MTEPipeLaser) {
                         if (((MTEPipeLaser) aMetaTileEntity).connectionCount < 2) {
-                            return;
+                            return null;
                         } else {
                             ((MTEPipeLaser) aMetaTileEntity).markUsed();
+                            path.add((MTEPipeLaser) aMetaTileEntity);
                         }
                     } else {
-                        return;
+                        return null;
                     }
                 } else {
-                    return;
+                    return null;
                 }
             } else {
-                return;
+                return null;
             }
         }
+        return null;
     }
 
     @Override
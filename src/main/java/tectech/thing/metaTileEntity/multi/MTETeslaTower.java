@@ -17,7 +17,6 @@ import static net.minecraft.util.StatCollector.translateToLocal;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -35,8 +34,6 @@ import net.minecraftforge.fluids.FluidStack;
 import org.apache.commons.lang3.tuple.Pair;
 import org.jetbrains.annotations.NotNull;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
 import com.gtnewhorizon.structurelib.alignment.constructable.ISurvivalConstructable;
 import com.gtnewhorizon.structurelib.structure.IItemSource;
 import com.gtnewhorizon.structurelib.structure.IStructureDefinition;
@@ -62,11 +59,9 @@ import gregtech.api.util.IGTHatchAdder;
 import gregtech.api.util.MultiblockTooltipBuilder;
 import gregtech.api.util.shutdown.ShutDownReason;
 import tectech.loader.ConfigHandler;
-import tectech.loader.NetworkDispatcher;
-import tectech.mechanics.spark.RendererMessage;
-import tectech.mechanics.spark.ThaumSpark;
+import tectech.mechanics.spark.SparkBatch;
 import tectech.mechanics.tesla.ITeslaConnectable;
-import tectech.mechanics.tesla.ITeslaConnectableSimple;
+import tectech.mechanics.tesla.TeslaNodeList;
 import tectech.thing.casing.BlockGTCasingsTT;
 import tectech.thing.casing.TTCasingsContainer;
 import tectech.thing.metaTileEntity.hatch.MTEHatchCapacitor;
@@ -82,10 +77,8 @@ import tectech.thing.metaTileEntity.multi.base.render.TTRenderedExtendedFacingTe
 public class MTETeslaTower extends TTMultiblockBase implements ISurvivalConstructable, ITeslaConnectable {
 
     // Interface fields
-    private final Multimap<Integer, ITeslaConnectableSimple> teslaNodeMap = MultimapBuilder.treeKeys()
-        .linkedListValues()
-        .build();
-    private final HashSet<ThaumSpark> sparkList = new HashSet<>();
+    private final TeslaNodeList teslaNodeMap = new TeslaNodeList();
+    private final SparkBatch sparkList = new SparkBatch();
     private int sparkCount = 20;
 
     // Face icons
@@ -742,19 +735,9 @@ public class MTETeslaTower extends TTMultiblockBase implements ISurvivalConstruc
         outputMaxDisplay.set(Math.max(outputCurrentDisplay.get(), outputMaxDisplay.get()));
         // TODO Encapsulate the spark sender
         sparkCount--;
-        if (sparkCount == 0 && ConfigHandler.teslaTweaks.TESLA_VISUAL_EFFECT) {
-            IGregTechTileEntity mte = getBaseMetaTileEntity();
+        if (sparkCount == 0) {
             sparkCount = 20;
-            if (!sparkList.isEmpty()) {
-                NetworkDispatcher.INSTANCE.sendToAllAround(
-                    new RendererMessage.RendererData(sparkList),
-                    mte.getWorld().provider.dimensionId,
-                    mte.getXCoord(),
-                    mte.getYCoord(),
-                    mte.getZCoord(),
-                    256);
-                sparkList.clear();
-            }
+            sparkList.send(getBaseMetaTileEntity(), getTeslaPosition(), ConfigHandler.teslaTweaks.TESLA_VISUAL_EFFECT);
         }
         return true;
     }
@@ -847,12 +830,12 @@ public class MTETeslaTower extends TTMultiblockBase implements ISurvivalConstruc
     }
 
     @Override
-    public Multimap<Integer, ITeslaConnectableSimple> getTeslaNodeMap() {
+    public TeslaNodeList getTeslaNodeMap() {
         return teslaNodeMap;
     }
 
     @Override
-    public HashSet<ThaumSpark> getSparkList() {
+    public SparkBatch getSparkList() {
         return sparkList;
     }
 
@@ -25,6 +25,7 @@ import tectech.loader.NetworkDispatcher;
 import tectech.mechanics.pipe.IActivePipe;
 import tectech.mechanics.pipe.IConnectsToDataPipe;
 import tectech.mechanics.pipe.PipeActivityMessage;
+import tectech.mechanics.pipe.PipeTopology;
 import tectech.util.CommonValues;
 
 /**
@@ -127,6 +128,7 @@ public class MTEPipeData extends MetaPipeEntity implements IConnectsToDataPipe,
     }
 
     public void updateNetwork(boolean nestedCall) {
+        PipeTopology.markChanged();
         IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
 
         active = false;
@@ -177,6 +179,7 @@ public class MTEPipeData extends MetaPipeEntity implements IConnectsToDataPipe,
 
     @Override
     public void onBlockDestroyed() {
+        PipeTopology.markChanged();
         IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
 
         for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
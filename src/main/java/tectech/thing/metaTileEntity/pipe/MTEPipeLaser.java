@@ -26,6 +26,7 @@ import tectech.loader.NetworkDispatcher;
 import tectech.mechanics.pipe.IActivePipe;
 import tectech.mechanics.pipe.IConnectsToEnergyTunnel;
 import tectech.mechanics.pipe.PipeActivityMessage;
+import tectech.mechanics.pipe.PipeTopology;
 import tectech.util.CommonValues;
 
 public class MTEPipeLaser extends MetaPipeEntity implements IConnectsToEnergyTunnel, IActivePipe {
@@ -90,6 +91,7 @@ public class MTEPipeLaser extends MetaPipeEntity implements IConnectsToEnergyTun
     }
 
     public void updateNetwork(boolean nestedCall) {
+        PipeTopology.markChanged();
         IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
 
         active = false;
@@ -133,6 +135,7 @@ public class MTEPipeLaser extends MetaPipeEntity implements IConnectsToEnergyTun
 
     @Override
     public void onBlockDestroyed() {
+        PipeTopology.markChanged();
         IGregTechTileEntity aBaseMetaTileEntity = this.getBaseMetaTileEntity();
 
         for (ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
@@ -3,6 +3,8 @@ package tectech.thing.metaTileEntity.pipe;
 import static gregtech.api.enums.Dyes.MACHINE_METAL;
 import static net.minecraft.util.StatCollector.translateToLocal;
 
+import java.util.List;
+
 import net.minecraft.client.renderer.texture.IIconRegister;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.util.EnumChatFormatting;
@@ -22,6 +24,7 @@ import tectech.TecTech;
 import tectech.loader.NetworkDispatcher;
 import tectech.mechanics.pipe.IConnectsToEnergyTunnel;
 import tectech.mechanics.pipe.PipeActivityMessage;
+import tectech.mechanics.pipe.PipeTopology;
 import tectech.thing.metaTileEntity.hatch.MTEHatchEnergyTunnel;
 import tectech.util.CommonValues;
 
@@ -85,11 +88,14 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
                 if (active) {
                     active = false;
                 }
+                // tunnels only need to look for their path again if the mirror bends differently
+                final ForgeDirection oldFirstSide = connectedSides[0], oldSecondSide = connectedSides[1];
                 mConnections = 0;
                 connectedSides[0] = null;
                 connectedSides[1] = null;
                 connectionCount = 0;
                 if (aBaseMetaTileEntity.getColorization() < 0) {
+                    if (oldFirstSide != null) PipeTopology.markChanged();
                     return;
                 }
                 for (final ForgeDirection side : ForgeDirection.VALID_DIRECTIONS) {
@@ -119,6 +125,9 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
                             }
                     }
                 }
+                if (connectedSides[0] != oldFirstSide || connectedSides[1] != oldSecondSide) {
+                    PipeTopology.markChanged();
+                }
             }
 
         } else if (aBaseMetaTileEntity.isClientSide() && GTClient.changeDetected == 4) {
@@ -142,6 +151,13 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
     }
 
     public IGregTechTileEntity bendAround(ForgeDirection inputSide) {
+        return bendAround(inputSide, null);
+    }
+
+    /**
+     * @param path Collects the laser pipes and mirrors passed after this mirror, if not null
+     */
+    public IGregTechTileEntity bendAround(ForgeDirection inputSide, List<MTEPipeLaser> path) {
         byte color = getBaseMetaTileEntity().getColorization();
         if (color < 0) {
             return null;
@@ -160,7 +176,8 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
                     if (aMetaTileEntity != null) {
                         // If we hit a mirror, use the mirror's view instead
                         if (aMetaTileEntity instanceof MTEPipeLaserMirror tMirror) {
-                            tGTTileEntity = tMirror.bendAround(opposite);
+                            if (path != null) path.add(tMirror);
+                            tGTTileEntity = tMirror.bendAround(opposite, path);
                             if (tGTTileEntity == null) {
                                 break;
                             } else {
@@ -178,6 +195,7 @@ public class MTEPipeLaserMirror extends MTEPipeLaser {
                                 return null;
                             } else {
                                 ((MTEPipeLaser) aMetaTileEntity).markUsed();
+                                if (path != null) path.add((MTEPipeLaser) aMetaTileEntity);
                             }
                         } else {
                             return null;
@@ -6,7 +6,6 @@ import static net.minecraft.util.StatCollector.translateToLocal;
 import static net.minecraft.util.StatCollector.translateToLocalFormatted;
 
 import java.util.Arrays;
-import java.util.HashSet;
 
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.ItemStack;
@@ -16,8 +15,6 @@ import net.minecraftforge.common.util.ForgeDirection;
 
 import org.apache.commons.lang3.ArrayUtils;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.MultimapBuilder;
 import com.gtnewhorizon.structurelib.util.Vec3Impl;
 
 import eu.usrv.yamcore.auxiliary.PlayerChatHelper;
@@ -27,21 +24,17 @@ import gregtech.api.metatileentity.MetaTileEntity;
 import gregtech.api.metatileentity.implementations.MTEBasicBatteryBuffer;
 import gregtech.mixin.interfaces.accessors.EntityPlayerMPAccessor;
 import tectech.loader.ConfigHandler;
-import tectech.loader.NetworkDispatcher;
-import tectech.mechanics.spark.RendererMessage;
-import tectech.mechanics.spark.ThaumSpark;
+import tectech.mechanics.spark.SparkBatch;
 import tectech.mechanics.tesla.ITeslaConnectable;
-import tectech.mechanics.tesla.ITeslaConnectableSimple;
+import tectech.mechanics.tesla.TeslaNodeList;
 import tectech.thing.metaTileEntity.Textures;
 import tectech.util.CommonValues;
 
 public class MTETeslaCoil extends MTEBasicBatteryBuffer implements ITeslaConnectable {
 
     // Interface fields
-    private final Multimap<Integer, ITeslaConnectableSimple> teslaNodeMap = MultimapBuilder.treeKeys()
-        .linkedListValues()
-        .build();
-    private final HashSet<ThaumSpark> sparkList = new HashSet<>();
+    private final TeslaNodeList teslaNodeMap = new TeslaNodeList();
+    private final SparkBatch sparkList = new SparkBatch();
     private int sparkCount = 20;
 
     private static final int transferRadiusMax = ConfigHandler.TeslaTweaks.TESLA_SINGLE_RANGE;
@@ -264,16 +257,7 @@ public class MTETeslaCoil extends MTEBasicBatteryBuffer implements ITeslaConnect
         sparkCount--;
         if (sparkCount == 0) {
             sparkCount = 20;
-            if (!sparkList.isEmpty()) {
-                NetworkDispatcher.INSTANCE.sendToAllAround(
-                    new RendererMessage.RendererData(sparkList),
-                    aBaseMetaTileEntity.getWorld().provider.dimensionId,
-                    aBaseMetaTileEntity.getXCoord(),
-                    aBaseMetaTileEntity.getYCoord(),
-                    aBaseMetaTileEntity.getZCoord(),
-                    256);
-                sparkList.clear();
-            }
+            sparkList.send(aBaseMetaTileEntity, getTeslaPosition(), true);
         }
     }
 
@@ -299,12 +283,12 @@ public class MTETeslaCoil extends MTEBasicBatteryBuffer implements ITeslaConnect
     }
 
     @Override
-    public Multimap<Integer, ITeslaConnectableSimple> getTeslaNodeMap() {
+    public TeslaNodeList getTeslaNodeMap() {
         return teslaNodeMap;
     }
 
     @Override
-    public HashSet<ThaumSpark> getSparkList() {
+    public SparkBatch getSparkList() {
         return sparkList;
     }
 
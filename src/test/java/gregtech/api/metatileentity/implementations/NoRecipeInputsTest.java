@@ -0,0 +1,102 @@
+package gregtech.api.metatileentity.implementations;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests when {@link NoRecipeInputs} lets a multiblock skip recipe checks.
+ * <p>
+ * The classes and tests are non-public because JUnit5
+ * <a href="https://junit.org/junit5/docs/snapshot/user-guide/#writing-tests-classes-and-methods">recommends</a>
+ * to omit the {@code public} modifier.
+ */
+class NoRecipeInputsTest {
+
+    private static final long INPUT_COUNT = 42;
+    private static final long RUN_TIME = 5000;
+    private static final int MACHINE_MODE = 1;
+    private static final int SETTINGS = 5;
+
+    private NoRecipeInputs inputs;
+
+    @BeforeEach
+    void setUp() {
+        inputs = new NoRecipeInputs();
+    }
+
+    private boolean isUnchangedAt(long runTime) {
+        return inputs.isUnchanged(INPUT_COUNT, runTime, null, MACHINE_MODE, SETTINGS, null);
+    }
+
+    @Test
+    void nothingRemembered_doesNotSkip() {
+        assertFalse(inputs.isUnchanged(0, 0, null, 0, 0, null));
+        assertFalse(inputs.isUnchanged(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null));
+    }
+
+    @Test
+    void unchangedInputs_skip() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+
+        assertTrue(inputs.isUnchanged(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null));
+        assertTrue(inputs.isUnchanged(INPUT_COUNT, RUN_TIME + 100, null, MACHINE_MODE, SETTINGS, null));
+    }
+
+    @Test
+    void unchangedInputs_recheckedAfterInterval() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+
+        assertTrue(isUnchangedAt(RUN_TIME + NoRecipeInputs.RECHECK_INTERVAL - 1));
+        assertFalse(isUnchangedAt(RUN_TIME + NoRecipeInputs.RECHECK_INTERVAL));
+        assertFalse(isUnchangedAt(RUN_TIME + 2L * NoRecipeInputs.RECHECK_INTERVAL));
+    }
+
+    @Test
+    void rememberedAgain_intervalRestarts() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+        final long tLater = RUN_TIME + NoRecipeInputs.RECHECK_INTERVAL;
+        inputs.remember(INPUT_COUNT, tLater, null, MACHINE_MODE, SETTINGS, null);
+
+        assertTrue(isUnchangedAt(tLater + NoRecipeInputs.RECHECK_INTERVAL - 1));
+    }
+
+    @Test
+    void changedInputCount_doesNotSkip() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+
+        assertFalse(inputs.isUnchanged(INPUT_COUNT + 1, RUN_TIME + 1, null, MACHINE_MODE, SETTINGS, null));
+    }
+
+    @Test
+    void changedMachineMode_doesNotSkip() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+
+        assertFalse(inputs.isUnchanged(INPUT_COUNT, RUN_TIME + 1, null, MACHINE_MODE + 1, SETTINGS, null));
+    }
+
+    @Test
+    void changedSettings_doesNotSkip() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+
+        assertFalse(inputs.isUnchanged(INPUT_COUNT, RUN_TIME + 1, null, MACHINE_MODE, SETTINGS | 2, null));
+        assertFalse(inputs.isUnchanged(INPUT_COUNT, RUN_TIME + 1, null, MACHINE_MODE, 0, null));
+    }
+
+    @Test
+    void forgotten_doesNotSkip() {
+        inputs.remember(INPUT_COUNT, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+        inputs.forget();
+
+        assertFalse(inputs.isUnchanged(INPUT_COUNT, RUN_TIME + 1, null, MACHINE_MODE, SETTINGS, null));
+    }
+
+    @Test
+    void inputCountZero_isRemembered() {
+        inputs.remember(0, RUN_TIME, null, MACHINE_MODE, SETTINGS, null);
+
+        assertTrue(inputs.isUnchanged(0, RUN_TIME + 1, null, MACHINE_MODE, SETTINGS, null));
+    }
+}
@@ -3,6 +3,9 @@ package gregtech.globalenergymap;
 import static gregtech.common.misc.GlobalVariableStorage.GlobalEnergy;
 import static gregtech.common.misc.WirelessNetworkManager.addEUToGlobalEnergyMap;
 import static gregtech.common.misc.WirelessNetworkManager.clearGlobalEnergyInformationMaps;
+import static gregtech.common.misc.WirelessNetworkManager.flushGlobalEnergy;
+import static gregtech.common.misc.WirelessNetworkManager.getOverflows;
+import static gregtech.common.misc.WirelessNetworkManager.getRejectedOperations;
 import static gregtech.common.misc.WirelessNetworkManager.getUserEU;
 import static gregtech.common.misc.WirelessNetworkManager.strongCheckOrAddUser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -26,13 +29,13 @@ class IGlobalWirelessEnergy_UnitTest {
         UUID test_id = UUID.randomUUID();
 
         addEUToGlobalEnergyMap(test_id, new BigInteger("1"));
-        assertEquals(GlobalEnergy.get(test_id), new BigInteger("1"), message);
+        assertEquals(getUserEU(test_id), new BigInteger("1"), message);
 
         addEUToGlobalEnergyMap(test_id, 1);
-        assertEquals(GlobalEnergy.get(test_id), new BigInteger("2"), message);
+        assertEquals(getUserEU(test_id), new BigInteger("2"), message);
 
         addEUToGlobalEnergyMap(test_id, 1L);
-        assertEquals(GlobalEnergy.get(test_id), new BigInteger("3"), message);
+        assertEquals(getUserEU(test_id), new BigInteger("3"), message);
 
         clearGlobalEnergyInformationMaps();
     }
@@ -124,4 +127,58 @@ class IGlobalWirelessEnergy_UnitTest {
 
         clearGlobalEnergyInformationMaps();
     }
+
+    @Test
+    void IGlobalWirelessEnergy_NoOverdrawAcrossPendingEU() {
+
+        UUID user_uuid = UUID.randomUUID();
+
+        strongCheckOrAddUser(user_uuid);
+        long rejected = getRejectedOperations();
+
+        // None of these are added to the global map until it is flushed, the checks have to add them up
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 100L));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -60L));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -50L));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -41));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -40L));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -1L));
+        assertEquals(rejected + 3, getRejectedOperations(), message);
+
+        flushGlobalEnergy();
+        assertEquals(getUserEU(user_uuid), BigInteger.ZERO, message);
+
+        clearGlobalEnergyInformationMaps();
+    }
+
+    @Test
+    void IGlobalWirelessEnergy_PendingEUOverflow() {
+
+        UUID user_uuid = UUID.randomUUID();
+
+        strongCheckOrAddUser(user_uuid);
+        long overflows = getOverflows();
+
+        // The sum of the pending EU doesn't fit in a long anymore, so it has to be moved to the BigInteger
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, Long.MAX_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, Long.MAX_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, 1L));
+        assertEquals(overflows + 2, getOverflows(), message);
+
+        BigInteger expected = BigInteger.valueOf(Long.MAX_VALUE)
+            .shiftLeft(1)
+            .add(BigInteger.ONE);
+        assertEquals(getUserEU(user_uuid), expected, message);
+
+        // Same when taking EU out of a team that has more EU than fits in a long
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, Long.MIN_VALUE));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, Long.MIN_VALUE));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, Long.MIN_VALUE));
+        assertTrue(addEUToGlobalEnergyMap(user_uuid, -Long.MAX_VALUE));
+        assertFalse(addEUToGlobalEnergyMap(user_uuid, -1L));
+
+        assertEquals(getUserEU(user_uuid), BigInteger.ZERO, message);
+
+        clearGlobalEnergyInformationMaps();
+    }
 }
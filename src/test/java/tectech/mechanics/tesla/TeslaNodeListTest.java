@@ -0,0 +1,137 @@
+package tectech.mechanics.tesla;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TeslaNodeListTest {
+
+    private static ITeslaConnectableSimple target() {
+        return Mockito.mock(ITeslaConnectableSimple.class);
+    }
+
+    private static void assertTargets(TeslaNodeList list, ITeslaConnectableSimple... expected) {
+        assertEquals(expected.length, list.size());
+        for (int i = 0; i < expected.length; i++) {
+            assertSame(expected[i], list.getTarget(i), "target at index " + i);
+        }
+    }
+
+    @Test
+    public void testAddSortsByDistance() {
+        TeslaNodeList list = new TeslaNodeList();
+        ITeslaConnectableSimple a = target(), b = target(), c = target();
+        list.add(5, a);
+        list.add(1, b);
+        list.add(3, c);
+
+        assertTargets(list, b, c, a);
+        assertEquals(1, list.getDistance(0));
+        assertEquals(3, list.getDistance(1));
+        assertEquals(5, list.getDistance(2));
+    }
+
+    @Test
+    public void testAddEqualDistancesKeepsInsertionOrder() {
+        TeslaNodeList list = new TeslaNodeList();
+        ITeslaConnectableSimple a = target(), b = target(), c = target(), d = target(), e = target();
+        list.add(2, a);
+        list.add(1, b);
+        list.add(2, c);
+        list.add(3, d);
+        list.add(2, e);
+
+        assertTargets(list, b, a, c, e, d);
+    }
+
+    @Test
+    public void testAddGrowsList() {
+        TeslaNodeList list = new TeslaNodeList();
+        ITeslaConnectableSimple[] targets = new ITeslaConnectableSimple[20];
+        for (int i = targets.length - 1; i >= 0; i--) {
+            targets[i] = target();
+            list.add(i / 2, targets[i]);
+        }
+
+        assertEquals(targets.length, list.size());
+        for (int i = 0; i < targets.length; i++) {
+            assertEquals(i / 2, list.getDistance(i));
+        }
+        // targets at the same distance were added from the back
+        assertSame(targets[1], list.getTarget(0));
+        assertSame(targets[0], list.getTarget(1));
+    }
+
+    @Test
+    public void testRemoveEqualDistances() {
+        TeslaNodeList list = new TeslaNodeList();
+        ITeslaConnectableSimple a = target(), b = target(), c = target(), d = target();
+        list.add(1, a);
+        list.add(4, b);
+        list.add(4, c);
+        list.add(4, d);
+
+        assertTrue(list.remove(4, c));
+        assertTargets(list, a, b, d);
+        assertTrue(list.remove(4, d));
+        assertTargets(list, a, b);
+        assertTrue(list.remove(4, b));
+        assertTargets(list, a);
+
+        assertFalse(list.remove(4, b));
+        assertTargets(list, a);
+    }
+
+    @Test
+    public void testRemoveAfterTargetMoved() {
+        TeslaNodeList list = new TeslaNodeList();
+        ITeslaConnectableSimple a = target(), b = target(), c = target();
+        list.add(2, a);
+        list.add(6, b);
+        list.add(9, c);
+
+        // b has moved since it was added, so it is removed with its new distance
+        assertTrue(list.remove(3, b));
+        assertTargets(list, a, c);
+        // also when there are other targets at the new distance
+        assertTrue(list.remove(2, c));
+        assertTargets(list, a);
+        // and when the new distance is out of range of the list
+        list.add(5, b);
+        assertTrue(list.remove(100, b));
+        assertTargets(list, a);
+        assertTrue(list.remove(-1, a));
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    public void testRemoveMissing() {
+        TeslaNodeList list = new TeslaNodeList();
+        ITeslaConnectableSimple a = target();
+        assertFalse(list.remove(1, a));
+
+        list.add(1, a);
+        assertFalse(list.remove(1, target()));
+        assertTargets(list, a);
+    }
+
+    @Test
+    public void testClear() {
+        TeslaNodeList list = new TeslaNodeList();
+        list.add(1, target());
+        list.add(2, target());
+        list.clear();
+
+        assertTrue(list.isEmpty());
+        assertNull(list.getTarget(0));
+
+        ITeslaConnectableSimple a = target();
+        list.add(3, a);
+        assertTargets(list, a);
+    }
+}